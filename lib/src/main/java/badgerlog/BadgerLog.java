@@ -1,16 +1,34 @@
 package badgerlog;
 
 import badgerlog.annotations.StructType;
+import badgerlog.annotations.UpdatePriority;
 import badgerlog.annotations.configuration.Configuration;
+import badgerlog.datalog.DataLogOptions;
+import badgerlog.datalog.DataLogSink;
+import badgerlog.datalog.Replay;
 import badgerlog.events.EventRegistry;
+import badgerlog.networktables.BooleanHandle;
+import badgerlog.networktables.BooleanValueEntry;
+import badgerlog.networktables.DoubleHandle;
+import badgerlog.networktables.DoubleValueEntry;
 import badgerlog.networktables.EntryFactory;
+import badgerlog.networktables.EntryHandle;
+import badgerlog.networktables.FloatHandle;
+import badgerlog.networktables.FloatValueEntry;
+import badgerlog.networktables.IntegerHandle;
+import badgerlog.networktables.IntegerValueEntry;
 import badgerlog.networktables.NT;
 import badgerlog.networktables.NTEntry;
 import badgerlog.networktables.NTUpdatable;
+import badgerlog.networktables.PublishMode;
+import badgerlog.networktables.SampleConsumer;
+import badgerlog.networktables.SampleSubscriber;
 import badgerlog.networktables.SendableEntry;
+import badgerlog.networktables.SubscriberTracker;
 import badgerlog.networktables.ValueEntry;
 import badgerlog.utilities.CheckedNetworkTablesMap;
 import badgerlog.utilities.ErrorLogger;
+import badgerlog.utilities.UpdateSchedule;
 import badgerlog.utilities.Validation;
 import edu.wpi.first.networktables.NetworkTable;
 import edu.wpi.first.networktables.NetworkTableInstance;
@@ -21,6 +39,9 @@ import edu.wpi.first.wpilibj2.command.Commands;
 import edu.wpi.first.wpilibj2.command.InstantCommand;
 import edu.wpi.first.wpilibj2.command.button.Trigger;
 
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -34,6 +55,7 @@ public final class BadgerLog {
     public static final StructType defaultStruct = StructType.SUB_TABLE;
 
     private static final CheckedNetworkTablesMap activeEntries = new CheckedNetworkTablesMap();
+    private static final Map<String, EntryHandle<?>> handles = new HashMap<>();
 
 
     private BadgerLog() {
@@ -91,9 +113,23 @@ public final class BadgerLog {
      * @param entry the implementation of NT to put into the map
      */
     public static void addNetworkTableEntry(String key, NT entry) {
+        handles.remove(key);
         activeEntries.put(key, entry);
     }
 
+    /**
+     * Adds an implementation of {@link NT} to the keymap to keep track of created entries. If the entry implements
+     * {@link NTUpdatable}, it is updated according to the {@code schedule}.
+     *
+     * @param key the key on NetworkTables
+     * @param entry the implementation of NT to put into the map
+     * @param schedule how often, and in what order, the entry is updated
+     */
+    public static void addNetworkTableEntry(String key, NT entry, UpdateSchedule schedule) {
+        handles.remove(key);
+        activeEntries.put(key, entry, schedule);
+    }
+
     /**
      * Removes a key from the list of entries to be updated. Any publishers or subscribers are closed, and the entry is
      * removed.
@@ -103,19 +139,183 @@ public final class BadgerLog {
      * @return whether the entry existed
      */
     public static boolean removeNetworkTableEntry(String key) {
+        handles.remove(key);
         return activeEntries.remove(key) != null;
     }
 
     /**
-     * Updates all the {@link NT} entries that also implement {@link NTUpdatable}.
+     * Updates all the {@link NT} entries that also implement {@link NTUpdatable}, and are due according to their
+     * {@link UpdateSchedule}.
      * This method is used to update NetworkTables or the robot code with any changed values.
      * <p>Should be called in {@code Robot.robotPeriodic}</p>
+     * <p>While replaying, the replay clock is advanced first, so entries read the recorded values for this loop.</p>
      */
     public static void update() {
-        activeEntries.getUpdaters().values().forEach(NTUpdatable::update);
+        Replay.advance();
+        activeEntries.updateAll();
         EventRegistry.updateEvents();
     }
 
+    /**
+     * Identical to {@link #update()}, except work stops once {@code budgetNanos} has passed.
+     *
+     * <p>Entries with {@link UpdatePriority#HIGH} priority are always updated. The remaining due entries and queued
+     * watcher events are alternated between until both are done or the budget runs out. Anything left over is resumed
+     * first on the next call, so no entry or event is skipped, only delayed.</p>
+     *
+     * @param budgetNanos the maximum time to spend on entries and events, in nanoseconds
+     *
+     * @see #getPendingUpdaterCount()
+     * @see #getQueuedEventCount()
+     */
+    public static void update(long budgetNanos) {
+        long startTime = System.nanoTime();
+        Replay.advance();
+        activeEntries.beginUpdate();
+        EventRegistry.pollEvents();
+
+        boolean hasUpdaters = true;
+        boolean hasEvents = true;
+        while ((hasUpdaters || hasEvents) && System.nanoTime() - startTime < budgetNanos) {
+            if (hasUpdaters) {
+                hasUpdaters = activeEntries.runNextUpdate();
+            }
+            if (hasEvents) {
+                hasEvents = EventRegistry.handleNextEvent();
+            }
+        }
+    }
+
+    /**
+     * {@return the number of entries that were due, but have not been updated because of an update budget}
+     *
+     * @see #update(long)
+     */
+    public static int getPendingUpdaterCount() {
+        return activeEntries.getPendingUpdaterCount();
+    }
+
+    /**
+     * {@return the total number of times an entry was still pending when the next update began}
+     *
+     * @see #update(long)
+     */
+    public static long getDeferredUpdaterCount() {
+        return activeEntries.getDeferredUpdaterCount();
+    }
+
+    /**
+     * {@return the number of watcher events waiting to be handled}
+     */
+    public static int getQueuedEventCount() {
+        return EventRegistry.getQueuedEventCount();
+    }
+
+    /**
+     * {@return how long the oldest waiting watcher event has been waiting in seconds, or 0 if there are none}
+     */
+    public static double getEventBacklogSeconds() {
+        return EventRegistry.getEventBacklogSeconds();
+    }
+
+    /**
+     * Sets the maximum number of watcher events that can wait to be handled. Once full, the oldest waiting event is
+     * dropped for every new event.
+     *
+     * @param capacity the maximum number of waiting events, must be at least 1
+     *
+     * @see #getDroppedEventCount()
+     */
+    public static void setEventCapacity(int capacity) {
+        EventRegistry.setEventCapacity(capacity);
+    }
+
+    /**
+     * {@return the total number of watcher events dropped because too many were waiting to be handled}
+     */
+    public static long getDroppedEventCount() {
+        return EventRegistry.getDroppedEventCount();
+    }
+
+    /**
+     * {@return the total number of watcher events merged into an already waiting event for the same key}
+     */
+    public static long getCoalescedEventCount() {
+        return EventRegistry.getCoalescedEventCount();
+    }
+
+    /**
+     * Sets when publisher entries publish their values. Outside of {@link PublishMode#ALWAYS}, entries nobody is
+     * looking at skip calling their getters, converting their values, and setting them on NetworkTables. Values set
+     * with {@link #putValue} are always published.
+     *
+     * @param mode the new publish mode
+     */
+    public static void setPublishMode(PublishMode mode) {
+        SubscriberTracker.setMode(mode);
+    }
+
+    /**
+     * Starts recording every value published by BadgerLog into WPILOG files. Values are written by a background
+     * thread, and the oldest files are deleted once the logs pass the total size in the options.
+     *
+     * @param options the options to log with
+     *
+     * @throws IllegalArgumentException if the options are invalid
+     */
+    public static void startDataLog(DataLogOptions options) {
+        DataLogSink.start(options);
+    }
+
+    /**
+     * Stops recording values into WPILOG files, writing every buffered value before returning.
+     */
+    public static void stopDataLog() {
+        DataLogSink.stop();
+    }
+
+    /**
+     * {@code periodSeconds} defaults to 0.02 seconds, and {@code outputOptions} to the default options with a
+     * {@code badgerlog_replay} file prefix
+     *
+     * @see #startReplay(Path, double, DataLogOptions)
+     */
+    public static void startReplay(Path logFile) {
+        startReplay(logFile, 0.02, new DataLogOptions().withFilePrefix("badgerlog_replay"));
+    }
+
+    /**
+     * Starts replaying a recorded WPILOG file. Every {@link #update()} moves the replay clock forward by
+     * {@code periodSeconds}, and publishes the recorded values up to that time to NetworkTables, where they are read by
+     * subscribers, {@link #getValue}, triggers and watchers. NetworkTables is switched to local only, so live values
+     * cannot interfere.
+     *
+     * <p>Every value published during the replay is recorded to a new log with {@code outputOptions}.</p>
+     *
+     * @param logFile the WPILOG file to replay
+     * @param periodSeconds how far the replay clock moves forward on every update
+     * @param outputOptions the options to record the replayed outputs with
+     *
+     * @see #startDataLog(DataLogOptions)
+     */
+    public static void startReplay(Path logFile, double periodSeconds, DataLogOptions outputOptions) {
+        Replay.start(logFile, periodSeconds, outputOptions);
+    }
+
+    /**
+     * Stops replaying, and stops recording the replayed outputs.
+     */
+    public static void stopReplay() {
+        Replay.stop();
+    }
+
+    /**
+     * {@return whether every recorded value of the replayed log has been published}
+     */
+    public static boolean isReplayFinished() {
+        return Replay.isFinished();
+    }
+
     /**
      * Creates a {@link Trigger} instance that is bound to a boolean value at {@code key} on NetworkTables.
      *
@@ -125,9 +325,10 @@ public final class BadgerLog {
      * @return a Trigger with a toggle based on a boolean NetworkTables entry
      */
     public static Trigger createNetworkTablesButton(String key, EventLoop eventLoop) {
-        var subscriber = new ValueEntry<>(key, boolean.class, false, new Configuration());
+        var subscriber = (BooleanValueEntry<Boolean>) EntryFactory
+                .createValueEntry(key, boolean.class, false, new Configuration());
         addNetworkTableEntry(key, subscriber);
-        return new Trigger(eventLoop, subscriber::retrieveValue);
+        return new Trigger(eventLoop, subscriber::retrieveBoolean);
     }
 
     /**
@@ -147,7 +348,12 @@ public final class BadgerLog {
      * @see #putValue(String, Object, Configuration)
      */
     public static <T> void putValue(String key, T value) {
-        putValue(key, value, new Configuration());
+        if (value == null) {
+            ErrorLogger.customError(String.format("Attempted publish of a null value. Key: %s", key));
+            return;
+        }
+
+        findHandle(key, value, null).set(value);
     }
 
     /**
@@ -165,9 +371,7 @@ public final class BadgerLog {
             return;
         }
 
-        NTEntry<T> entry = createEntryIfNotPresent(key, value, config);
-
-        entry.publishValue(value);
+        findHandle(key, value, config).set(value);
     }
 
     /**
@@ -176,7 +380,12 @@ public final class BadgerLog {
      * @see #getValue(String, Object, Configuration)
      */
     public static <T> T getValue(String key, T defaultValue) {
-        return getValue(key, defaultValue, new Configuration());
+        if (defaultValue == null) {
+            ErrorLogger.customError(String.format("Attempted retrieval of a null value. Key: %s", key));
+            return null;
+        }
+
+        return findHandle(key, defaultValue, null).get();
     }
 
     /**
@@ -196,9 +405,137 @@ public final class BadgerLog {
             return null;
         }
 
-        NTEntry<T> entry = createEntryIfNotPresent(key, defaultValue, config);
+        return findHandle(key, defaultValue, config).get();
+    }
 
-        return entry.retrieveValue();
+    /**
+     * {@code config} defaults to the base configuration
+     *
+     * @see #handle(String, Object, Configuration)
+     */
+    public static <T> EntryHandle<T> handle(String key, T defaultValue) {
+        return handle(key, defaultValue, null);
+    }
+
+    /**
+     * Finds the entry at {@code key}, creating it if it does not exist, and returns a handle to set and get its values
+     * without looking up the key again. The configuration is only used if the entry is created.
+     *
+     * @param key the key on NetworkTables
+     * @param defaultValue the value to publish if the entry is created, which decides the type of the entry
+     * @param config the configuration to create the entry with
+     * @param <T> the type of the values
+     *
+     * @return the handle for the entry
+     */
+    public static <T> EntryHandle<T> handle(String key, T defaultValue, Configuration config) {
+        if (defaultValue == null) {
+            throw new IllegalArgumentException("Attempted creating a handle with a null value. Key: " + key);
+        }
+        return findHandle(key, defaultValue, config);
+    }
+
+    /**
+     * Finds the {@code double} entry at {@code key}, creating it with a value of 0 if it does not exist.
+     *
+     * @param key the key on NetworkTables
+     *
+     * @return a handle that sets and gets the value without boxing
+     *
+     * @throws IllegalArgumentException if the entry at {@code key} is not a {@code double} entry
+     */
+    public static DoubleHandle doubleHandle(String key) {
+        return new DoubleHandle(findTypedEntry(key, 0.0, DoubleValueEntry.class));
+    }
+
+    /**
+     * Finds the {@code float} entry at {@code key}, creating it with a value of 0 if it does not exist.
+     *
+     * @param key the key on NetworkTables
+     *
+     * @return a handle that sets and gets the value without boxing
+     *
+     * @throws IllegalArgumentException if the entry at {@code key} is not a {@code float} entry
+     */
+    public static FloatHandle floatHandle(String key) {
+        return new FloatHandle(findTypedEntry(key, 0.0f, FloatValueEntry.class));
+    }
+
+    /**
+     * Finds the integer entry at {@code key}, creating it with a value of 0 if it does not exist.
+     *
+     * @param key the key on NetworkTables
+     *
+     * @return a handle that sets and gets the value as a {@code long} without boxing
+     *
+     * @throws IllegalArgumentException if the entry at {@code key} is not an integer entry
+     */
+    public static IntegerHandle integerHandle(String key) {
+        return new IntegerHandle(findTypedEntry(key, 0L, IntegerValueEntry.class));
+    }
+
+    /**
+     * Finds the {@code boolean} entry at {@code key}, creating it with a value of false if it does not exist.
+     *
+     * @param key the key on NetworkTables
+     *
+     * @return a handle that sets and gets the value without boxing
+     *
+     * @throws IllegalArgumentException if the entry at {@code key} is not a {@code boolean} entry
+     */
+    public static BooleanHandle booleanHandle(String key) {
+        return new BooleanHandle(findTypedEntry(key, false, BooleanValueEntry.class));
+    }
+
+    private static <E> E findTypedEntry(String key, Object defaultValue, Class<E> entryType) {
+        NTEntry<?> entry = findHandle(key, defaultValue, null).getEntry();
+        if (!entryType.isInstance(entry)) {
+            throw new IllegalArgumentException("Entry with name " + key + " is not a " + entryType.getSimpleName());
+        }
+        return entryType.cast(entry);
+    }
+
+    /**
+     * Finds the cached handle for {@code key}, or creates one for the entry at the key, creating the entry if needed.
+     * Handles are removed from the cache when their key is replaced or removed.
+     *
+     * @param config the configuration to create the entry with, or null for the base configuration
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> EntryHandle<T> findHandle(String key, T defaultValue, Configuration config) {
+        EntryHandle<?> handle = handles.get(key);
+        if (handle == null) {
+            handle = new EntryHandle<>(createEntryIfNotPresent(key, defaultValue, config == null ? new Configuration() : config));
+            handles.put(key, handle);
+        }
+        return (EntryHandle<T>) handle;
+    }
+
+    /**
+     * Passes every value received at {@code key} to {@code consumer}, along with the time it was set, once per
+     * {@link #update()}. Unlike {@link #getValue}, no value is missed when several arrive between updates, which
+     * suits high rate streams such as vision results.
+     *
+     * <p>Up to {@code queueSize} values are kept between updates, after which the oldest are dropped.</p>
+     *
+     * @param key the key on NetworkTables
+     * @param defaultValue the value to publish if the entry is missing on NetworkTables, which decides the type
+     * @param queueSize the number of values kept between updates, at least 1
+     * @param consumer receives each value with its server timestamp in microseconds
+     * @param <T> the type of the values
+     */
+    public static <T> void subscribeSamples(String key, T defaultValue, int queueSize, SampleConsumer<T> consumer) {
+        if (defaultValue == null) {
+            ErrorLogger.customError(String.format("Attempted subscription with a null value. Key: %s", key));
+            return;
+        }
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("Sample queue size must be at least 1, got " + queueSize);
+        }
+
+        NTEntry<T> entry = EntryFactory.createNetworkTableEntryFromValue(key, defaultValue, new Configuration()
+                .withSampleQueueSize(queueSize));
+        addNetworkTableEntry(key, new SampleSubscriber<>(entry, consumer));
     }
 
     @SuppressWarnings("unchecked")
@@ -224,6 +561,17 @@ public final class BadgerLog {
      * @param sendable the Sendable to put on NetworkTables
      */
     public static void putSendable(String key, Sendable sendable) {
-        addNetworkTableEntry(key, new SendableEntry(key, sendable));
+        putSendable(key, sendable, UpdateSchedule.DEFAULT);
+    }
+
+    /**
+     * Adds a {@link Sendable} to the active entries to be updated according to the {@code schedule}.
+     *
+     * @param key the key on NetworkTables
+     * @param sendable the Sendable to put on NetworkTables
+     * @param schedule how often, and in what order, the Sendable is updated
+     */
+    public static void putSendable(String key, Sendable sendable, UpdateSchedule schedule) {
+        addNetworkTableEntry(key, new SendableEntry(key, sendable), schedule);
     }
 }
@@ -0,0 +1,20 @@
+package badgerlog.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets whether an element's entry skips publishing values that are identical to the last value on NetworkTables.
+ *
+ * <p>Change detection is enabled by default, this is mainly used to disable it for an element.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.TYPE, ElementType.METHOD})
+public @interface ChangeDetection {
+    /**
+     * {@return whether or not unchanged values should be skipped when publishing}
+     */
+    boolean value() default true;
+}
@@ -0,0 +1,15 @@
+package badgerlog.annotations;
+
+/**
+ * Represents how the events of a watcher are queued between updates
+ */
+public enum QueueMode {
+    /**
+     * Activates the watcher once for every value change
+     */
+    ALL,
+    /**
+     * Activates the watcher once per key with only the latest value, replacing any value still waiting in the queue
+     */
+    LATEST
+}
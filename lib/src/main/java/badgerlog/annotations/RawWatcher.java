@@ -25,4 +25,9 @@ public @interface RawWatcher {
      * {@return an array of NetworkTables keys to watch for value changes}
      */
     String[] keys();
+
+    /**
+     * {@return whether every value change is queued, or only the latest value per key}
+     */
+    QueueMode queueMode() default QueueMode.ALL;
 }
@@ -0,0 +1,22 @@
+package badgerlog.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets whether reads of a {@link EntryType#SUBSCRIBER} or {@link EntryType#INTELLIGENT} field return a snapshot of
+ * its value, which is retrieved from NetworkTables once per {@code BadgerLog.update()}.
+ *
+ * <p>Without a snapshot, every read of the field retrieves and converts the value from NetworkTables. With a
+ * snapshot, reads return the converted value from the last update, so the field stays the same for the whole loop.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.TYPE})
+public @interface Snapshot {
+    /**
+     * {@return whether reads of the field return the value from the last update}
+     */
+    boolean value() default true;
+}
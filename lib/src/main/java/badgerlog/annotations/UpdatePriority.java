@@ -0,0 +1,19 @@
+package badgerlog.annotations;
+
+/**
+ * Represents the order that entries are updated in within a single call to {@code BadgerLog.update()}.
+ */
+public enum UpdatePriority {
+    /**
+     * Updated before all other entries
+     */
+    HIGH,
+    /**
+     * The default priority
+     */
+    NORMAL,
+    /**
+     * Updated after all other entries
+     */
+    LOW,
+}
@@ -0,0 +1,26 @@
+package badgerlog.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets how often an element's entry is updated by {@code BadgerLog.update()}, and in what order.
+ *
+ * <p>Entries with the same period are spread across the loop cycles of the period, so that they do not all update on
+ * the same cycle.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.TYPE, ElementType.METHOD})
+public @interface UpdateRate {
+    /**
+     * {@return the number of calls to {@code BadgerLog.update()} between each update of the entry, at least 1}
+     */
+    int period() default 1;
+
+    /**
+     * {@return the order the entry is updated in, relative to other entries updated on the same call}
+     */
+    UpdatePriority priority() default UpdatePriority.NORMAL;
+}
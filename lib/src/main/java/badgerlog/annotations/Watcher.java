@@ -20,4 +20,9 @@ public @interface Watcher {
      * {@return the name of the event for fields}
      */
     String name();
+
+    /**
+     * {@return whether every value change is queued, or only the latest value per key}
+     */
+    QueueMode queueMode() default QueueMode.ALL;
 }
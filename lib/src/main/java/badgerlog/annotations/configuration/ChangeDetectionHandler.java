@@ -0,0 +1,13 @@
+package badgerlog.annotations.configuration;
+
+import badgerlog.annotations.ChangeDetection;
+
+/**
+ * Handles the {@link ChangeDetection} annotation.
+ */
+public final class ChangeDetectionHandler implements ConfigHandler<ChangeDetection> {
+    @Override
+    public void process(ChangeDetection annotation, Configuration config) {
+        config.withChangeDetection(annotation.value());
+    }
+}
@@ -1,11 +1,14 @@
 package badgerlog.annotations.configuration;
 
 import badgerlog.annotations.AutoGenerateStruct;
+import badgerlog.annotations.ChangeDetection;
 import badgerlog.annotations.Key;
 import badgerlog.annotations.MultiUnitConversion;
+import badgerlog.annotations.Snapshot;
 import badgerlog.annotations.Struct;
 import badgerlog.annotations.Table;
 import badgerlog.annotations.UnitConversion;
+import badgerlog.annotations.UpdateRate;
 
 import java.lang.annotation.Annotation;
 import java.util.HashMap;
@@ -24,6 +27,9 @@ public final class ConfigHandlerRegistry {
         registerHandler(Key.class, new KeyHandler());
         registerHandler(AutoGenerateStruct.class, new AutoGenerateStructHandler());
         registerHandler(Table.class, new TableHandler());
+        registerHandler(ChangeDetection.class, new ChangeDetectionHandler());
+        registerHandler(UpdateRate.class, new UpdateRateHandler());
+        registerHandler(Snapshot.class, new SnapshotHandler());
     }
 
     private ConfigHandlerRegistry() {
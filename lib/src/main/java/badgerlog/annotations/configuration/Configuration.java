@@ -1,7 +1,9 @@
 package badgerlog.annotations.configuration;
 
 import badgerlog.annotations.StructType;
+import badgerlog.annotations.UpdatePriority;
 import badgerlog.conversion.UnitConverter;
+import badgerlog.utilities.UpdateSchedule;
 import edu.wpi.first.units.Unit;
 import edu.wpi.first.util.struct.Struct;
 import lombok.Getter;
@@ -41,6 +43,26 @@ public class Configuration {
      * {@return the auto generated struct}
      */
     private Struct<?> autoGeneratedStruct = null;
+    /**
+     * {@return whether unchanged values are skipped when publishing}
+     */
+    private boolean changeDetection = true;
+    /**
+     * {@return whether field reads return the value from the last update instead of retrieving it}
+     */
+    private boolean snapshot = false;
+    /**
+     * {@return the number of received values queued for {@code NTEntry.readSamples}, or 0 to only keep the latest}
+     */
+    private int sampleQueueSize = 0;
+    /**
+     * {@return the number of calls to {@code BadgerLog.update()} between each update}
+     */
+    private int updatePeriod = 1;
+    /**
+     * {@return the order of updates within a single call to {@code BadgerLog.update()}}
+     */
+    private UpdatePriority updatePriority = UpdatePriority.NORMAL;
     /**
      * {@return if the configuration is still valid}
      */
@@ -118,6 +140,67 @@ public class Configuration {
         return this;
     }
 
+    /**
+     * {@return the configuration object for method chaining}
+     *
+     * @param changeDetection whether unchanged values should be skipped when publishing
+     */
+    public Configuration withChangeDetection(boolean changeDetection) {
+        this.changeDetection = changeDetection;
+        return this;
+    }
+
+    /**
+     * {@return the configuration object for method chaining}
+     *
+     * @param snapshot whether field reads return the value from the last update instead of retrieving it
+     */
+    public Configuration withSnapshot(boolean snapshot) {
+        this.snapshot = snapshot;
+        return this;
+    }
+
+    /**
+     * {@return the configuration object for method chaining}
+     *
+     * @param sampleQueueSize the number of received values queued for {@code NTEntry.readSamples}, or 0 to only keep
+     *         the latest
+     */
+    public Configuration withSampleQueueSize(int sampleQueueSize) {
+        this.sampleQueueSize = sampleQueueSize;
+        return this;
+    }
+
+    /**
+     * {@return the configuration object for method chaining}
+     *
+     * @param updatePeriod the number of calls to {@code BadgerLog.update()} between each update, at least 1
+     */
+    public Configuration withUpdatePeriod(int updatePeriod) {
+        if (updatePeriod < 1) {
+            throw new IllegalArgumentException("Update period must be at least 1, was " + updatePeriod);
+        }
+        this.updatePeriod = updatePeriod;
+        return this;
+    }
+
+    /**
+     * {@return the configuration object for method chaining}
+     *
+     * @param updatePriority the order of updates within a single call to {@code BadgerLog.update()}
+     */
+    public Configuration withUpdatePriority(UpdatePriority updatePriority) {
+        this.updatePriority = updatePriority;
+        return this;
+    }
+
+    /**
+     * {@return the update period and priority as an {@link UpdateSchedule}}
+     */
+    public UpdateSchedule getUpdateSchedule() {
+        return new UpdateSchedule(updatePeriod, updatePriority);
+    }
+
     /**
      * {@return the configuration object for method chaining}
      * Makes this configuration object invalid for entries created from fields
@@ -137,6 +220,27 @@ public class Configuration {
         return this;
     }
 
+    /**
+     * {@return a new configuration with the same options as this one}
+     * The converters are copied into a new map, so adding converters to the copy does not change this configuration.
+     */
+    public Configuration copy() {
+        Configuration copy = new Configuration();
+        copy.converters.putAll(converters);
+        copy.key = key;
+        copy.table = table;
+        copy.structType = structType;
+        copy.autoGenerateStruct = autoGenerateStruct;
+        copy.autoGeneratedStruct = autoGeneratedStruct;
+        copy.changeDetection = changeDetection;
+        copy.snapshot = snapshot;
+        copy.sampleQueueSize = sampleQueueSize;
+        copy.updatePeriod = updatePeriod;
+        copy.updatePriority = updatePriority;
+        copy.isValidConfiguration = isValidConfiguration;
+        return copy;
+    }
+
     /**
      * Creates a new {@link Configuration} based on a {@link Member Member's} annotations and enclosing class
      *
@@ -0,0 +1,13 @@
+package badgerlog.annotations.configuration;
+
+import badgerlog.annotations.Snapshot;
+
+/**
+ * Handles the {@link Snapshot} annotation.
+ */
+public final class SnapshotHandler implements ConfigHandler<Snapshot> {
+    @Override
+    public void process(Snapshot annotation, Configuration config) {
+        config.withSnapshot(annotation.value());
+    }
+}
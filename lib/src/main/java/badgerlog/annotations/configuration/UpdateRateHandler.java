@@ -0,0 +1,13 @@
+package badgerlog.annotations.configuration;
+
+import badgerlog.annotations.UpdateRate;
+
+/**
+ * Handles the {@link UpdateRate} annotation.
+ */
+public final class UpdateRateHandler implements ConfigHandler<UpdateRate> {
+    @Override
+    public void process(UpdateRate annotation, Configuration config) {
+        config.withUpdatePeriod(annotation.period()).withUpdatePriority(annotation.priority());
+    }
+}
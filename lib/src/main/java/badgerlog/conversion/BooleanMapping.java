@@ -0,0 +1,58 @@
+package badgerlog.conversion;
+
+import badgerlog.annotations.configuration.Configuration;
+import edu.wpi.first.networktables.NetworkTableType;
+
+/**
+ * A {@link Mapping} whose NetworkTables value is a {@code boolean}, which can be converted without boxing.
+ *
+ * <p>Entries for these mappings use a {@code BooleanEntry} directly, instead of a {@code GenericEntry}.</p>
+ *
+ * @param <StartType> the starting type of the mapping
+ */
+public abstract class BooleanMapping<StartType> extends Mapping<StartType, Boolean> {
+
+    /**
+     * Creates a new BooleanMapping for the specified starting type.
+     *
+     * @param startType the class representing the starting type of the Mapping
+     */
+    public BooleanMapping(Class<StartType> startType) {
+        super(startType, boolean.class, NetworkTableType.kBoolean);
+    }
+
+    /**
+     * Converts a starting value to the NetworkTables value using the configuration.
+     *
+     * @param startValue the start value to convert
+     * @param config the configuration to use when converting
+     *
+     * @return the converted value
+     */
+    public abstract boolean toBoolean(StartType startValue, Configuration config);
+
+    /**
+     * Converts a NetworkTables value to the starting value using the configuration.
+     *
+     * @param ntValue the NetworkTables value to convert
+     * @param config the configuration to use when converting
+     *
+     * @return the converted value
+     */
+    public abstract StartType fromBoolean(boolean ntValue, Configuration config);
+
+    @Override
+    public BooleanMapping<StartType> bind(Configuration config) {
+        return this;
+    }
+
+    @Override
+    public final Boolean toNT(StartType startValue, Configuration config) {
+        return toBoolean(startValue, config);
+    }
+
+    @Override
+    public final StartType toStart(Boolean ntValue, Configuration config) {
+        return fromBoolean(ntValue, config);
+    }
+}
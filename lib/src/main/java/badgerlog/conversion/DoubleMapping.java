@@ -0,0 +1,58 @@
+package badgerlog.conversion;
+
+import badgerlog.annotations.configuration.Configuration;
+import edu.wpi.first.networktables.NetworkTableType;
+
+/**
+ * A {@link Mapping} whose NetworkTables value is a {@code double}, which can be converted without boxing.
+ *
+ * <p>Entries for these mappings use a {@code DoubleEntry} directly, instead of a {@code GenericEntry}.</p>
+ *
+ * @param <StartType> the starting type of the mapping
+ */
+public abstract class DoubleMapping<StartType> extends Mapping<StartType, Double> {
+
+    /**
+     * Creates a new DoubleMapping for the specified starting type.
+     *
+     * @param startType the class representing the starting type of the Mapping
+     */
+    public DoubleMapping(Class<StartType> startType) {
+        super(startType, double.class, NetworkTableType.kDouble);
+    }
+
+    /**
+     * Converts a starting value to the NetworkTables value using the configuration.
+     *
+     * @param startValue the start value to convert
+     * @param config the configuration to use when converting
+     *
+     * @return the converted value
+     */
+    public abstract double toDouble(StartType startValue, Configuration config);
+
+    /**
+     * Converts a NetworkTables value to the starting value using the configuration.
+     *
+     * @param ntValue the NetworkTables value to convert
+     * @param config the configuration to use when converting
+     *
+     * @return the converted value
+     */
+    public abstract StartType fromDouble(double ntValue, Configuration config);
+
+    @Override
+    public DoubleMapping<StartType> bind(Configuration config) {
+        return this;
+    }
+
+    @Override
+    public final Double toNT(StartType startValue, Configuration config) {
+        return toDouble(startValue, config);
+    }
+
+    @Override
+    public final StartType toStart(Double ntValue, Configuration config) {
+        return fromDouble(ntValue, config);
+    }
+}
@@ -0,0 +1,58 @@
+package badgerlog.conversion;
+
+import badgerlog.annotations.configuration.Configuration;
+import edu.wpi.first.networktables.NetworkTableType;
+
+/**
+ * A {@link Mapping} whose NetworkTables value is a {@code float}, which can be converted without boxing.
+ *
+ * <p>Entries for these mappings use a {@code FloatEntry} directly, instead of a {@code GenericEntry}.</p>
+ *
+ * @param <StartType> the starting type of the mapping
+ */
+public abstract class FloatMapping<StartType> extends Mapping<StartType, Float> {
+
+    /**
+     * Creates a new FloatMapping for the specified starting type.
+     *
+     * @param startType the class representing the starting type of the Mapping
+     */
+    public FloatMapping(Class<StartType> startType) {
+        super(startType, float.class, NetworkTableType.kFloat);
+    }
+
+    /**
+     * Converts a starting value to the NetworkTables value using the configuration.
+     *
+     * @param startValue the start value to convert
+     * @param config the configuration to use when converting
+     *
+     * @return the converted value
+     */
+    public abstract float toFloat(StartType startValue, Configuration config);
+
+    /**
+     * Converts a NetworkTables value to the starting value using the configuration.
+     *
+     * @param ntValue the NetworkTables value to convert
+     * @param config the configuration to use when converting
+     *
+     * @return the converted value
+     */
+    public abstract StartType fromFloat(float ntValue, Configuration config);
+
+    @Override
+    public FloatMapping<StartType> bind(Configuration config) {
+        return this;
+    }
+
+    @Override
+    public final Float toNT(StartType startValue, Configuration config) {
+        return toFloat(startValue, config);
+    }
+
+    @Override
+    public final StartType toStart(Float ntValue, Configuration config) {
+        return fromFloat(ntValue, config);
+    }
+}
@@ -0,0 +1,25 @@
+package badgerlog.conversion;
+
+/**
+ * A {@link ScalarConversion} that multiplies by a scale and adds an offset, which covers every conversion between two
+ * WPILib units of the same dimension.
+ *
+ * @param scale the number of NetworkTables units per default unit
+ * @param offset the value on NetworkTables when the default unit value is zero
+ */
+public record LinearConversion(double scale, double offset) implements ScalarConversion {
+    /**
+     * Does not change the value
+     */
+    public static final LinearConversion IDENTITY = new LinearConversion(1, 0);
+
+    @Override
+    public double to(double value) {
+        return value * scale + offset;
+    }
+
+    @Override
+    public double from(double value) {
+        return (value - offset) / scale;
+    }
+}
@@ -0,0 +1,58 @@
+package badgerlog.conversion;
+
+import badgerlog.annotations.configuration.Configuration;
+import edu.wpi.first.networktables.NetworkTableType;
+
+/**
+ * A {@link Mapping} whose NetworkTables value is a {@code long} integer, which can be converted without boxing.
+ *
+ * <p>Entries for these mappings use a {@code IntegerEntry} directly, instead of a {@code GenericEntry}.</p>
+ *
+ * @param <StartType> the starting type of the mapping
+ */
+public abstract class LongMapping<StartType> extends Mapping<StartType, Long> {
+
+    /**
+     * Creates a new LongMapping for the specified starting type.
+     *
+     * @param startType the class representing the starting type of the Mapping
+     */
+    public LongMapping(Class<StartType> startType) {
+        super(startType, long.class, NetworkTableType.kInteger);
+    }
+
+    /**
+     * Converts a starting value to the NetworkTables value using the configuration.
+     *
+     * @param startValue the start value to convert
+     * @param config the configuration to use when converting
+     *
+     * @return the converted value
+     */
+    public abstract long toLong(StartType startValue, Configuration config);
+
+    /**
+     * Converts a NetworkTables value to the starting value using the configuration.
+     *
+     * @param ntValue the NetworkTables value to convert
+     * @param config the configuration to use when converting
+     *
+     * @return the converted value
+     */
+    public abstract StartType fromLong(long ntValue, Configuration config);
+
+    @Override
+    public LongMapping<StartType> bind(Configuration config) {
+        return this;
+    }
+
+    @Override
+    public final Long toNT(StartType startValue, Configuration config) {
+        return toLong(startValue, config);
+    }
+
+    @Override
+    public final StartType toStart(Long ntValue, Configuration config) {
+        return fromLong(ntValue, config);
+    }
+}
@@ -55,6 +55,21 @@ public abstract class Mapping<StartType, NTType> {
                 .isAssignableFrom(this.startType));
     }
 
+    /**
+     * Creates a mapping for a single entry with the specified configuration.
+     *
+     * <p>Mappings that depend on the configuration, such as unit conversions, should resolve it once here instead of on
+     * every conversion. Since the returned mapping is only used by one entry, it may also keep state between
+     * conversions. The returned mapping may ignore the configuration passed to its conversion methods.</p>
+     *
+     * @param config the configuration of the entry
+     *
+     * @return a mapping for the configuration, or this mapping if it does not depend on the configuration
+     */
+    public Mapping<StartType, NTType> bind(Configuration config) {
+        return this;
+    }
+
     /**
      * Converts a starting value to the ending value using the configuration
      *
@@ -5,8 +5,7 @@ import badgerlog.conversion.internal.TransformMappings;
 import badgerlog.conversion.internal.UnitMappings;
 import edu.wpi.first.networktables.NetworkTableType;
 
-import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -14,10 +13,14 @@ import java.util.Map;
  *
  * <p>Maintains a list of mappings, so that there is only one mapping per starting type; there are never two mappings
  * for the same class.</p>
+ *
+ * <p>Resolved mappings are cached per type using a {@link ClassValue}, which is replaced whenever a mapping is
+ * registered.</p>
  */
 public final class Mappings {
 
-    private static final Map<Class<?>, Mapping<?, ?>> mappings = new HashMap<>();
+    private static final Map<Class<?>, Mapping<?, ?>> mappings = new LinkedHashMap<>();
+    private static volatile ClassValue<Mapping<?, ?>> resolvedMappings = createResolvedMappings();
 
     static {
         UnitMappings.registerAllMappings();
@@ -31,7 +34,9 @@ public final class Mappings {
     /**
      * Finds a {@link Mapping} with the specified type class.
      *
-     * <p>It checks to ensure there is exactly one Mapping for the class.</p>
+     * <p>A mapping registered for exactly the type is preferred, then the mapping for the most specific supertype, and
+     * finally the first registered mapping for a subtype. Ties are broken by registration order, so the result is
+     * always the same for the same set of mappings.</p>
      *
      * @param type the class representing the type
      * @param <T> the initial type of the Mapping
@@ -40,15 +45,16 @@ public final class Mappings {
      */
     @SuppressWarnings("unchecked") // Mapping must have the correct type
     public static <T> Mapping<T, Object> findMapping(Class<T> type) {
-        List<Mapping<?, ?>> filteredMappings = mappings.values()
-                .stream()
-                .filter(mapping -> mapping.matches(type))
-                .toList();
-        if (filteredMappings.isEmpty()) {
+        if (type == null) {
+            throw new IllegalArgumentException("No mapping found for null");
+        }
+
+        Mapping<?, ?> mapping = resolvedMappings.get(type);
+        if (mapping == null) {
             throw new IllegalArgumentException("No mapping found for " + type);
         }
 
-        return (Mapping<T, Object>) filteredMappings.get(0);
+        return (Mapping<T, Object>) mapping;
     }
 
     /**
@@ -67,11 +73,12 @@ public final class Mappings {
      *
      * @param mapping the mapping to register
      */
-    public static void registerMapping(Mapping<?, ?> mapping) {
+    public static synchronized void registerMapping(Mapping<?, ?> mapping) {
         if (mappings.get(mapping.getClass()) != null) {
             throw new IllegalStateException("Mapping already registered for: " + mapping.getStartType());
         }
         mappings.put(mapping.getStartType(), mapping);
+        resolvedMappings = createResolvedMappings();
     }
 
     /**
@@ -84,4 +91,35 @@ public final class Mappings {
             registerMapping(mapping);
         }
     }
+
+    private static ClassValue<Mapping<?, ?>> createResolvedMappings() {
+        return new ClassValue<>() {
+            @Override
+            protected Mapping<?, ?> computeValue(Class<?> type) {
+                return resolveMapping(type);
+            }
+        };
+    }
+
+    private static synchronized Mapping<?, ?> resolveMapping(Class<?> type) {
+        Mapping<?, ?> exactMapping = mappings.get(type);
+        if (exactMapping != null) {
+            return exactMapping;
+        }
+
+        Mapping<?, ?> closestSupertype = null;
+        Mapping<?, ?> firstSubtype = null;
+        for (Mapping<?, ?> mapping : mappings.values()) {
+            Class<?> startType = mapping.getStartType();
+            if (startType.isAssignableFrom(type)) {
+                if (closestSupertype == null || closestSupertype.getStartType().isAssignableFrom(startType)) {
+                    closestSupertype = mapping;
+                }
+            } else if (firstSubtype == null && type.isAssignableFrom(startType)) {
+                firstSubtype = mapping;
+            }
+        }
+
+        return closestSupertype != null ? closestSupertype : firstSubtype;
+    }
 }
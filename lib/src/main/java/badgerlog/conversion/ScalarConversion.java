@@ -0,0 +1,27 @@
+package badgerlog.conversion;
+
+/**
+ * Converts a single value between a mapping's default unit and the unit used on NetworkTables.
+ *
+ * <p>Created once per entry by {@link UnitConversions#createScalarConversion(UnitConverter, edu.wpi.first.units.Unit)},
+ * so that converting a value does not need to look up or create a {@link UnitConverter}.</p>
+ */
+public interface ScalarConversion {
+    /**
+     * Converts a value in the default unit to the unit used on NetworkTables.
+     *
+     * @param value the value in the default unit
+     *
+     * @return the value in the unit used on NetworkTables
+     */
+    double to(double value);
+
+    /**
+     * Converts a value in the unit used on NetworkTables back to the default unit.
+     *
+     * @param value the value in the unit used on NetworkTables
+     *
+     * @return the value in the default unit
+     */
+    double from(double value);
+}
@@ -14,6 +14,7 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static edu.wpi.first.units.Units.Meters;
@@ -27,6 +28,8 @@ import static edu.wpi.first.units.Units.Radians;
 public final class UnitConversions {
 
     private static final Map<String, Unit> units = new HashMap<>();
+    private static final Map<Unit, UnitConverter<?>> defaultConverters = new ConcurrentHashMap<>();
+    private static final double LINEARITY_CHECK_VALUE = 1234.5;
 
     static {
         Field[] fields = Units.class.getFields();
@@ -123,7 +126,53 @@ public final class UnitConversions {
      *
      * @return the non-null initialized or passed converter
      */
+    @SuppressWarnings("unchecked") // the converter is always created with the same unit as the key
     public static <T extends Unit> UnitConverter<T> initializeUnitConverter(UnitConverter<T> converter, T defaultUnit) {
-        return converter == null ? createConverter(defaultUnit) : converter;
+        if (converter != null) {
+            return converter;
+        }
+        return (UnitConverter<T>) defaultConverters.computeIfAbsent(defaultUnit, unit -> createConverter(defaultUnit));
+    }
+
+    /**
+     * Resolves a potentially null converter into a {@link ScalarConversion} relative to the {@code defaultUnit}.
+     *
+     * <p>If the converter is linear, which is the case for every converter created from a WPILib unit, the result is
+     * a {@link LinearConversion} measured from the converter, and converting never creates a {@link Measure}.
+     * Otherwise, the result delegates to the converter.</p>
+     *
+     * @param converter the converter to resolve, or null to use the {@code defaultUnit} as is
+     * @param defaultUnit the unit that values are in before conversion
+     * @param <T> the unit type
+     *
+     * @return the conversion between the {@code defaultUnit} and the converter's unit
+     */
+    @SuppressWarnings("unchecked") // the type is guaranteed to be of type Measure<T> because of Unit implementation
+    public static <T extends Unit> ScalarConversion createScalarConversion(UnitConverter<T> converter, T defaultUnit) {
+        if (converter == null) {
+            return LinearConversion.IDENTITY;
+        }
+
+        double offset = converter.convertTo((Measure<T>) defaultUnit.of(0));
+        double scale = converter.convertTo((Measure<T>) defaultUnit.of(1)) - offset;
+        LinearConversion linear = new LinearConversion(scale, offset);
+
+        double expected = converter.convertTo((Measure<T>) defaultUnit.of(LINEARITY_CHECK_VALUE));
+        double actual = linear.to(LINEARITY_CHECK_VALUE);
+        if (scale != 0 && Math.abs(expected - actual) <= Math.abs(expected) * 1e-9) {
+            return linear;
+        }
+
+        return new ScalarConversion() {
+            @Override
+            public double to(double value) {
+                return converter.convertTo((Measure<T>) defaultUnit.of(value));
+            }
+
+            @Override
+            public double from(double value) {
+                return converter.convertFrom(value).in(defaultUnit);
+            }
+        };
     }
 }
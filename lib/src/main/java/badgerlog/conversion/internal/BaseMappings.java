@@ -1,6 +1,10 @@
 package badgerlog.conversion.internal;
 
 import badgerlog.annotations.configuration.Configuration;
+import badgerlog.conversion.BooleanMapping;
+import badgerlog.conversion.DoubleMapping;
+import badgerlog.conversion.FloatMapping;
+import badgerlog.conversion.LongMapping;
 import badgerlog.conversion.Mapping;
 import badgerlog.conversion.Mappings;
 import edu.wpi.first.networktables.NetworkTableType;
@@ -10,104 +14,130 @@ import edu.wpi.first.networktables.NetworkTableType;
  */
 public final class BaseMappings {
 
-    private static final Mapping<Double, Double> doubleMapping = new Mapping<>(double.class, double.class, NetworkTableType.kDouble) {
+    private static final DoubleMapping<Double> doubleMapping = new DoubleMapping<>(double.class) {
 
         @Override
-        public Double toNT(Double startValue, Configuration config) {
+        public double toDouble(Double startValue, Configuration config) {
             return startValue;
         }
 
         @Override
-        public Double toStart(Double ntValue, Configuration config) {
+        public Double fromDouble(double ntValue, Configuration config) {
             return ntValue;
         }
     };
-    private static final Mapping<Double, Double> double1Mapping = new Mapping<>(Double.class, Double.class, NetworkTableType.kDouble) {
+    private static final DoubleMapping<Double> double1Mapping = new DoubleMapping<>(Double.class) {
 
         @Override
-        public Double toNT(Double startValue, Configuration config) {
+        public double toDouble(Double startValue, Configuration config) {
             return startValue;
         }
 
         @Override
-        public Double toStart(Double ntValue, Configuration config) {
+        public Double fromDouble(double ntValue, Configuration config) {
             return ntValue;
         }
     };
 
-    private static final Mapping<Float, Float> floatMapping = new Mapping<>(float.class, float.class, NetworkTableType.kFloat) {
+    private static final FloatMapping<Float> floatMapping = new FloatMapping<>(float.class) {
 
         @Override
-        public Float toNT(Float startValue, Configuration config) {
+        public float toFloat(Float startValue, Configuration config) {
             return startValue;
         }
 
         @Override
-        public Float toStart(Float ntValue, Configuration config) {
+        public Float fromFloat(float ntValue, Configuration config) {
             return ntValue;
         }
     };
-    private static final Mapping<Float, Float> float1Mapping = new Mapping<>(Float.class, Float.class, NetworkTableType.kFloat) {
+    private static final FloatMapping<Float> float1Mapping = new FloatMapping<>(Float.class) {
 
         @Override
-        public Float toNT(Float startValue, Configuration config) {
+        public float toFloat(Float startValue, Configuration config) {
             return startValue;
         }
 
         @Override
-        public Float toStart(Float ntValue, Configuration config) {
+        public Float fromFloat(float ntValue, Configuration config) {
             return ntValue;
         }
     };
 
-    private static final Mapping<Boolean, Boolean> booleanMapping = new Mapping<>(boolean.class, boolean.class, NetworkTableType.kBoolean) {
+    private static final BooleanMapping<Boolean> booleanMapping = new BooleanMapping<>(boolean.class) {
 
         @Override
-        public Boolean toNT(Boolean startValue, Configuration config) {
+        public boolean toBoolean(Boolean startValue, Configuration config) {
             return startValue;
         }
 
         @Override
-        public Boolean toStart(Boolean ntValue, Configuration config) {
+        public Boolean fromBoolean(boolean ntValue, Configuration config) {
             return ntValue;
         }
     };
-    private static final Mapping<Boolean, Boolean> boolean1Mapping = new Mapping<>(Boolean.class, Boolean.class, NetworkTableType.kBoolean) {
+    private static final BooleanMapping<Boolean> boolean1Mapping = new BooleanMapping<>(Boolean.class) {
 
         @Override
-        public Boolean toNT(Boolean startValue, Configuration config) {
+        public boolean toBoolean(Boolean startValue, Configuration config) {
             return startValue;
         }
 
         @Override
-        public Boolean toStart(Boolean ntValue, Configuration config) {
+        public Boolean fromBoolean(boolean ntValue, Configuration config) {
             return ntValue;
         }
     };
 
-    private static final Mapping<Integer, Long> integerMapping = new Mapping<>(int.class, long.class, NetworkTableType.kInteger) {
+    private static final LongMapping<Integer> integerMapping = new LongMapping<>(int.class) {
 
         @Override
-        public Long toNT(Integer startValue, Configuration config) {
-            return startValue.longValue();
+        public long toLong(Integer startValue, Configuration config) {
+            return startValue;
+        }
+
+        @Override
+        public Integer fromLong(long ntValue, Configuration config) {
+            return (int) ntValue;
+        }
+    };
+
+    private static final LongMapping<Integer> integer1Mapping = new LongMapping<>(Integer.class) {
+
+        @Override
+        public long toLong(Integer startValue, Configuration config) {
+            return startValue;
+        }
+
+        @Override
+        public Integer fromLong(long ntValue, Configuration config) {
+            return (int) ntValue;
+        }
+    };
+
+    private static final LongMapping<Long> longMapping = new LongMapping<>(long.class) {
+
+        @Override
+        public long toLong(Long startValue, Configuration config) {
+            return startValue;
         }
 
         @Override
-        public Integer toStart(Long ntValue, Configuration config) {
-            return ntValue.intValue();
+        public Long fromLong(long ntValue, Configuration config) {
+            return ntValue;
         }
     };
 
-    private static final Mapping<Integer, Long> integer1Mapping = new Mapping<>(Integer.class, Long.class, NetworkTableType.kInteger) {
+    private static final LongMapping<Long> long1Mapping = new LongMapping<>(Long.class) {
 
         @Override
-        public Long toNT(Integer startValue, Configuration config) {
-            return startValue.longValue();
+        public long toLong(Long startValue, Configuration config) {
+            return startValue;
         }
 
         @Override
-        public Integer toStart(Long ntValue, Configuration config) {
-            return ntValue.intValue();
+        public Long fromLong(long ntValue, Configuration config) {
+            return ntValue;
         }
     };
 
@@ -163,6 +193,19 @@ public final class BaseMappings {
         }
     };
 
+    private static final Mapping<long[], long[]> longArrayMapping = new Mapping<>(long[].class, long[].class, NetworkTableType.kIntegerArray) {
+
+        @Override
+        public long[] toNT(long[] startValue, Configuration config) {
+            return startValue;
+        }
+
+        @Override
+        public long[] toStart(long[] ntValue, Configuration config) {
+            return ntValue;
+        }
+    };
+
     private static final Mapping<float[], float[]> floatArrayMapping = new Mapping<>(float[].class, float[].class, NetworkTableType.kFloatArray) {
 
         @Override
@@ -184,7 +227,7 @@ public final class BaseMappings {
      */
     public static void registerAllMappings() {
         Mappings.registerAllMappings(
-                doubleMapping, double1Mapping, floatMapping, float1Mapping, stringMapping, booleanMapping, boolean1Mapping, booleanArrayMapping, stringArrayMapping, integerMapping, integer1Mapping, doubleArrayMapping, floatArrayMapping
+                doubleMapping, double1Mapping, floatMapping, float1Mapping, stringMapping, booleanMapping, boolean1Mapping, booleanArrayMapping, stringArrayMapping, integerMapping, integer1Mapping, longMapping, long1Mapping, doubleArrayMapping, longArrayMapping, floatArrayMapping
         );
     }
 }
@@ -1,8 +1,10 @@
 package badgerlog.conversion.internal;
 
 import badgerlog.annotations.configuration.Configuration;
+import badgerlog.conversion.DoubleMapping;
 import badgerlog.conversion.Mapping;
 import badgerlog.conversion.Mappings;
+import badgerlog.conversion.ScalarConversion;
 import badgerlog.conversion.UnitConversions;
 import badgerlog.conversion.UnitConverter;
 import edu.wpi.first.math.geometry.Pose2d;
@@ -19,6 +21,8 @@ import edu.wpi.first.units.DistanceUnit;
 import edu.wpi.first.units.measure.Angle;
 import edu.wpi.first.units.measure.Distance;
 
+import java.util.Arrays;
+
 import static edu.wpi.first.units.Units.Meters;
 import static edu.wpi.first.units.Units.Radians;
 
@@ -28,10 +32,10 @@ import static edu.wpi.first.units.Units.Radians;
 @SuppressWarnings("DuplicatedCode")
 public final class TransformMappings {
 
-    private static final Mapping<Rotation2d, Double> rotation2dDoubleMapping = new Mapping<>(Rotation2d.class, double.class, NetworkTableType.kDouble) {
+    private static final DoubleMapping<Rotation2d> rotation2dDoubleMapping = new DoubleMapping<>(Rotation2d.class) {
 
         @Override
-        public Double toNT(Rotation2d startValue, Configuration config) {
+        public double toDouble(Rotation2d startValue, Configuration config) {
             UnitConverter<AngleUnit> converter = UnitConversions.initializeRotationConverter(config
                     .getDefaultConverter());
 
@@ -39,12 +43,36 @@ public final class TransformMappings {
         }
 
         @Override
-        public Rotation2d toStart(Double ntValue, Configuration config) {
+        public Rotation2d fromDouble(double ntValue, Configuration config) {
             UnitConverter<AngleUnit> converter = UnitConversions.initializeRotationConverter(config
                     .getDefaultConverter());
 
             return new Rotation2d((Angle) converter.convertFrom(ntValue));
         }
+
+        @Override
+        public DoubleMapping<Rotation2d> bind(Configuration config) {
+            ScalarConversion rotation = angleConversion(config.getDefaultConverter());
+            return new DoubleMapping<>(Rotation2d.class) {
+                private long lastBits;
+                private Rotation2d lastValue;
+
+                @Override
+                public double toDouble(Rotation2d startValue, Configuration config) {
+                    return rotation.to(startValue.getRadians());
+                }
+
+                @Override
+                public Rotation2d fromDouble(double ntValue, Configuration config) {
+                    long bits = Double.doubleToRawLongBits(ntValue);
+                    if (lastValue == null || bits != lastBits) {
+                        lastValue = new Rotation2d(rotation.from(ntValue));
+                        lastBits = bits;
+                    }
+                    return lastValue;
+                }
+            };
+        }
     };
     private static final Mapping<Rotation3d, double[]> rotation3dToDoubleArrayMapping = new Mapping<>(Rotation3d.class, double[].class, NetworkTableType.kDoubleArray) {
         @Override
@@ -69,6 +97,26 @@ public final class TransformMappings {
             Angle z = (Angle) converter.convertFrom(ntValue[2]);
             return new Rotation3d(x, y, z);
         }
+
+        @Override
+        public Mapping<Rotation3d, double[]> bind(Configuration config) {
+            ScalarConversion rotation = angleConversion(config.getDefaultConverter());
+            return new BoundTransformMapping<>(Rotation3d.class, 3) {
+                @Override
+                public double[] toNT(Rotation3d startValue, Configuration config) {
+                    output[0] = rotation.to(startValue.getX());
+                    output[1] = rotation.to(startValue.getY());
+                    output[2] = rotation.to(startValue.getZ());
+                    return output;
+                }
+
+                @Override
+                protected Rotation3d decode(double[] ntValue) {
+                    return new Rotation3d(rotation.from(ntValue[0]), rotation.from(ntValue[1]), rotation
+                            .from(ntValue[2]));
+                }
+            };
+        }
     };
     private static final Mapping<Translation2d, double[]> translation2dToDoubleArrayMapping = new Mapping<>(Translation2d.class, double[].class, NetworkTableType.kDoubleArray) {
         @Override
@@ -91,6 +139,24 @@ public final class TransformMappings {
             Distance y = (Distance) converter.convertFrom(ntValue[1]);
             return new Translation2d(x, y);
         }
+
+        @Override
+        public Mapping<Translation2d, double[]> bind(Configuration config) {
+            ScalarConversion translation = distanceConversion(config.getDefaultConverter());
+            return new BoundTransformMapping<>(Translation2d.class, 2) {
+                @Override
+                public double[] toNT(Translation2d startValue, Configuration config) {
+                    output[0] = translation.to(startValue.getX());
+                    output[1] = translation.to(startValue.getY());
+                    return output;
+                }
+
+                @Override
+                protected Translation2d decode(double[] ntValue) {
+                    return new Translation2d(translation.from(ntValue[0]), translation.from(ntValue[1]));
+                }
+            };
+        }
     };
     private static final Mapping<Translation3d, double[]> translation3dToDoubleArrayMapping = new Mapping<>(Translation3d.class, double[].class, NetworkTableType.kDoubleArray) {
         @Override
@@ -115,6 +181,26 @@ public final class TransformMappings {
             Distance z = (Distance) converter.convertFrom(ntValue[2]);
             return new Translation3d(x, y, z);
         }
+
+        @Override
+        public Mapping<Translation3d, double[]> bind(Configuration config) {
+            ScalarConversion translation = distanceConversion(config.getDefaultConverter());
+            return new BoundTransformMapping<>(Translation3d.class, 3) {
+                @Override
+                public double[] toNT(Translation3d startValue, Configuration config) {
+                    output[0] = translation.to(startValue.getX());
+                    output[1] = translation.to(startValue.getY());
+                    output[2] = translation.to(startValue.getZ());
+                    return output;
+                }
+
+                @Override
+                protected Translation3d decode(double[] ntValue) {
+                    return new Translation3d(translation.from(ntValue[0]), translation.from(ntValue[1]), translation
+                            .from(ntValue[2]));
+                }
+            };
+        }
     };
     private static final Mapping<Twist2d, double[]> twist2dToDoubleArrayMapping = new Mapping<>(Twist2d.class, double[].class, NetworkTableType.kDoubleArray) {
         @Override
@@ -145,6 +231,27 @@ public final class TransformMappings {
                                     .in(Radians)
             );
         }
+
+        @Override
+        public Mapping<Twist2d, double[]> bind(Configuration config) {
+            ScalarConversion translation = distanceConversion(config.getConverter("translation"));
+            ScalarConversion rotation = angleConversion(config.getConverter("rotation"));
+            return new BoundTransformMapping<>(Twist2d.class, 3) {
+                @Override
+                public double[] toNT(Twist2d startValue, Configuration config) {
+                    output[0] = translation.to(startValue.dx);
+                    output[1] = translation.to(startValue.dy);
+                    output[2] = rotation.to(startValue.dtheta);
+                    return output;
+                }
+
+                @Override
+                protected Twist2d decode(double[] ntValue) {
+                    return new Twist2d(translation.from(ntValue[0]), translation.from(ntValue[1]), rotation
+                            .from(ntValue[2]));
+                }
+            };
+        }
     };
     private static final Mapping<Twist3d, double[]> twist3dToDoubleArrayMapping = new Mapping<>(Twist3d.class, double[].class, NetworkTableType.kDoubleArray) {
         @Override
@@ -182,6 +289,32 @@ public final class TransformMappings {
 
             return new Twist3d(dx, dy, dz, rx, ry, rz);
         }
+
+        @Override
+        public Mapping<Twist3d, double[]> bind(Configuration config) {
+            ScalarConversion translation = distanceConversion(config.getConverter("translation"));
+            ScalarConversion rotation = angleConversion(config.getConverter("rotation"));
+            return new BoundTransformMapping<>(Twist3d.class, 6) {
+                @Override
+                public double[] toNT(Twist3d startValue, Configuration config) {
+                    output[0] = translation.to(startValue.dx);
+                    output[1] = translation.to(startValue.dy);
+                    output[2] = translation.to(startValue.dz);
+                    output[3] = rotation.to(startValue.rx);
+                    output[4] = rotation.to(startValue.ry);
+                    output[5] = rotation.to(startValue.rz);
+                    return output;
+                }
+
+                @Override
+                protected Twist3d decode(double[] ntValue) {
+                    return new Twist3d(
+                            translation.from(ntValue[0]), translation.from(ntValue[1]), translation.from(ntValue[2]),
+                            rotation.from(ntValue[3]), rotation.from(ntValue[4]), rotation.from(ntValue[5])
+                    );
+                }
+            };
+        }
     };
     private static final Mapping<Pose2d, double[]> pose2dToDoubleArrayMapping = new Mapping<>(Pose2d.class, double[].class, NetworkTableType.kDoubleArray) {
         @Override
@@ -213,6 +346,27 @@ public final class TransformMappings {
 
             return new Pose2d(x, y, new Rotation2d(rotation));
         }
+
+        @Override
+        public Mapping<Pose2d, double[]> bind(Configuration config) {
+            ScalarConversion translation = distanceConversion(config.getConverter("translation"));
+            ScalarConversion rotation = angleConversion(config.getConverter("rotation"));
+            return new BoundTransformMapping<>(Pose2d.class, 3) {
+                @Override
+                public double[] toNT(Pose2d startValue, Configuration config) {
+                    output[0] = translation.to(startValue.getX());
+                    output[1] = translation.to(startValue.getY());
+                    output[2] = rotation.to(startValue.getRotation().getRadians());
+                    return output;
+                }
+
+                @Override
+                protected Pose2d decode(double[] ntValue) {
+                    return new Pose2d(translation.from(ntValue[0]), translation
+                            .from(ntValue[1]), new Rotation2d(rotation.from(ntValue[2])));
+                }
+            };
+        }
     };
     private static final Mapping<Pose3d, double[]> pose3dToDoubleArrayMapping = new Mapping<>(Pose3d.class, double[].class, NetworkTableType.kDoubleArray) {
         @Override
@@ -251,11 +405,47 @@ public final class TransformMappings {
 
             return new Pose3d(new Translation3d(x, y, z), new Rotation3d(rotationX, rotationY, rotationZ));
         }
+
+        @Override
+        public Mapping<Pose3d, double[]> bind(Configuration config) {
+            ScalarConversion translation = distanceConversion(config.getConverter("translation"));
+            ScalarConversion rotation = angleConversion(config.getConverter("rotation"));
+            return new BoundTransformMapping<>(Pose3d.class, 6) {
+                @Override
+                public double[] toNT(Pose3d startValue, Configuration config) {
+                    Rotation3d startRotation = startValue.getRotation();
+                    output[0] = translation.to(startValue.getX());
+                    output[1] = translation.to(startValue.getY());
+                    output[2] = translation.to(startValue.getZ());
+                    output[3] = rotation.to(startRotation.getX());
+                    output[4] = rotation.to(startRotation.getY());
+                    output[5] = rotation.to(startRotation.getZ());
+                    return output;
+                }
+
+                @Override
+                protected Pose3d decode(double[] ntValue) {
+                    return new Pose3d(
+                            translation.from(ntValue[0]), translation.from(ntValue[1]), translation.from(ntValue[2]),
+                            new Rotation3d(rotation.from(ntValue[3]), rotation.from(ntValue[4]), rotation
+                                    .from(ntValue[5]))
+                    );
+                }
+            };
+        }
     };
 
     private TransformMappings() {
     }
 
+    private static ScalarConversion distanceConversion(UnitConverter<DistanceUnit> converter) {
+        return UnitConversions.createScalarConversion(converter, Meters);
+    }
+
+    private static ScalarConversion angleConversion(UnitConverter<AngleUnit> converter) {
+        return UnitConversions.createScalarConversion(converter, Radians);
+    }
+
     /**
      * Registers all mappings in this class.
      */
@@ -264,4 +454,47 @@ public final class TransformMappings {
                 rotation2dDoubleMapping, rotation3dToDoubleArrayMapping, translation2dToDoubleArrayMapping, translation3dToDoubleArrayMapping, twist2dToDoubleArrayMapping, twist3dToDoubleArrayMapping, pose2dToDoubleArrayMapping, pose3dToDoubleArrayMapping
         );
     }
+
+    /**
+     * A transform mapping with its converters resolved into {@link ScalarConversion ScalarConversions}, which converts
+     * directly from the transform's components.
+     *
+     * <p>Publishing writes into the same output array every time, which is safe since entries copy the array when it
+     * is published or remembered. Retrieving only creates a new transform when the array on NetworkTables has changed,
+     * otherwise the previous transform is returned again.</p>
+     *
+     * @param <T> the type of the transform
+     */
+    private abstract static class BoundTransformMapping<T> extends Mapping<T, double[]> {
+        protected final double[] output;
+
+        private double[] lastNTValue;
+        private T lastValue;
+
+        private BoundTransformMapping(Class<T> type, int size) {
+            super(type, double[].class, NetworkTableType.kDoubleArray);
+            this.output = new double[size];
+        }
+
+        @Override
+        public final T toStart(double[] ntValue, Configuration config) {
+            if (lastValue == null || !Arrays.equals(ntValue, lastNTValue)) {
+                lastValue = decode(ntValue);
+                if (lastNTValue == null || lastNTValue.length != ntValue.length) {
+                    lastNTValue = new double[ntValue.length];
+                }
+                System.arraycopy(ntValue, 0, lastNTValue, 0, ntValue.length);
+            }
+            return lastValue;
+        }
+
+        /**
+         * Converts an array from NetworkTables into the transform.
+         *
+         * @param ntValue the array to convert
+         *
+         * @return the converted transform
+         */
+        protected abstract T decode(double[] ntValue);
+    }
 }
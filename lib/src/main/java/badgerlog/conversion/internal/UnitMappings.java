@@ -1,11 +1,11 @@
 package badgerlog.conversion.internal;
 
 import badgerlog.annotations.configuration.Configuration;
-import badgerlog.conversion.Mapping;
+import badgerlog.conversion.DoubleMapping;
 import badgerlog.conversion.Mappings;
+import badgerlog.conversion.ScalarConversion;
 import badgerlog.conversion.UnitConversions;
 import badgerlog.conversion.UnitConverter;
-import edu.wpi.first.networktables.NetworkTableType;
 import edu.wpi.first.units.Measure;
 import edu.wpi.first.units.Unit;
 import edu.wpi.first.units.measure.*;
@@ -17,26 +17,26 @@ import static edu.wpi.first.units.Units.*;
  */
 public final class UnitMappings {
 
-    private static final Mapping<Distance, Double> distanceMapping = createMeasureMapping(Meters, Distance.class);
-    private static final Mapping<Angle, Double> angleMapping = createMeasureMapping(Radians, Angle.class);
-    private static final Mapping<Time, Double> timeMapping = createMeasureMapping(Seconds, Time.class);
-    private static final Mapping<LinearVelocity, Double> linearVelocityMapping = createMeasureMapping(MetersPerSecond, LinearVelocity.class);
-    private static final Mapping<AngularVelocity, Double> angularVelocityMapping = createMeasureMapping(RadiansPerSecond, AngularVelocity.class);
-    private static final Mapping<Frequency, Double> frequencyMapping = createMeasureMapping(Hertz, Frequency.class);
-    private static final Mapping<LinearAcceleration, Double> linearAccelerationMapping = createMeasureMapping(MetersPerSecondPerSecond, LinearAcceleration.class);
-    private static final Mapping<AngularAcceleration, Double> angularAccelerationMapping = createMeasureMapping(RadiansPerSecondPerSecond, AngularAcceleration.class);
-    private static final Mapping<Mass, Double> massMapping = createMeasureMapping(Kilograms, Mass.class);
-    private static final Mapping<Force, Double> forceMapping = createMeasureMapping(Newtons, Force.class);
-    private static final Mapping<Torque, Double> torqueMapping = createMeasureMapping(NewtonMeter, Torque.class);
-    private static final Mapping<LinearMomentum, Double> linearMomentumMapping = createMeasureMapping(KilogramMetersPerSecond, LinearMomentum.class);
-    private static final Mapping<AngularMomentum, Double> angularMomentumMapping = createMeasureMapping(KilogramMetersSquaredPerSecond, AngularMomentum.class);
-    private static final Mapping<MomentOfInertia, Double> momentOfInertiaMapping = createMeasureMapping(KilogramSquareMeters, MomentOfInertia.class);
-    private static final Mapping<Voltage, Double> voltageMapping = createMeasureMapping(Volts, Voltage.class);
-    private static final Mapping<Current, Double> currentMapping = createMeasureMapping(Amps, Current.class);
-    private static final Mapping<Resistance, Double> resistanceMapping = createMeasureMapping(Ohms, Resistance.class);
-    private static final Mapping<Energy, Double> energyMapping = createMeasureMapping(Joules, Energy.class);
-    private static final Mapping<Power, Double> powerMapping = createMeasureMapping(Watts, Power.class);
-    private static final Mapping<Temperature, Double> temperatureMapping = createMeasureMapping(Celsius, Temperature.class);
+    private static final DoubleMapping<Distance> distanceMapping = createMeasureMapping(Meters, Distance.class);
+    private static final DoubleMapping<Angle> angleMapping = createMeasureMapping(Radians, Angle.class);
+    private static final DoubleMapping<Time> timeMapping = createMeasureMapping(Seconds, Time.class);
+    private static final DoubleMapping<LinearVelocity> linearVelocityMapping = createMeasureMapping(MetersPerSecond, LinearVelocity.class);
+    private static final DoubleMapping<AngularVelocity> angularVelocityMapping = createMeasureMapping(RadiansPerSecond, AngularVelocity.class);
+    private static final DoubleMapping<Frequency> frequencyMapping = createMeasureMapping(Hertz, Frequency.class);
+    private static final DoubleMapping<LinearAcceleration> linearAccelerationMapping = createMeasureMapping(MetersPerSecondPerSecond, LinearAcceleration.class);
+    private static final DoubleMapping<AngularAcceleration> angularAccelerationMapping = createMeasureMapping(RadiansPerSecondPerSecond, AngularAcceleration.class);
+    private static final DoubleMapping<Mass> massMapping = createMeasureMapping(Kilograms, Mass.class);
+    private static final DoubleMapping<Force> forceMapping = createMeasureMapping(Newtons, Force.class);
+    private static final DoubleMapping<Torque> torqueMapping = createMeasureMapping(NewtonMeter, Torque.class);
+    private static final DoubleMapping<LinearMomentum> linearMomentumMapping = createMeasureMapping(KilogramMetersPerSecond, LinearMomentum.class);
+    private static final DoubleMapping<AngularMomentum> angularMomentumMapping = createMeasureMapping(KilogramMetersSquaredPerSecond, AngularMomentum.class);
+    private static final DoubleMapping<MomentOfInertia> momentOfInertiaMapping = createMeasureMapping(KilogramSquareMeters, MomentOfInertia.class);
+    private static final DoubleMapping<Voltage> voltageMapping = createMeasureMapping(Volts, Voltage.class);
+    private static final DoubleMapping<Current> currentMapping = createMeasureMapping(Amps, Current.class);
+    private static final DoubleMapping<Resistance> resistanceMapping = createMeasureMapping(Ohms, Resistance.class);
+    private static final DoubleMapping<Energy> energyMapping = createMeasureMapping(Joules, Energy.class);
+    private static final DoubleMapping<Power> powerMapping = createMeasureMapping(Watts, Power.class);
+    private static final DoubleMapping<Temperature> temperatureMapping = createMeasureMapping(Celsius, Temperature.class);
 
     /**
      * Registers all mappings in this class.
@@ -47,10 +47,10 @@ public final class UnitMappings {
         );
     }
 
-    private static <T extends Unit, N extends Measure<T>> Mapping<N, Double> createMeasureMapping(T defaultUnit, Class<N> measureType) {
-        return new Mapping<>(measureType, double.class, NetworkTableType.kDouble) {
+    private static <T extends Unit, N extends Measure<T>> DoubleMapping<N> createMeasureMapping(T defaultUnit, Class<N> measureType) {
+        return new DoubleMapping<>(measureType) {
             @Override
-            public Double toNT(N startValue, Configuration config) {
+            public double toDouble(N startValue, Configuration config) {
                 UnitConverter<T> converter = UnitConversions.initializeUnitConverter(config
                         .getDefaultConverter(), defaultUnit);
                 return converter.convertTo(startValue);
@@ -58,11 +58,54 @@ public final class UnitMappings {
 
             @Override
             @SuppressWarnings("unchecked") // N has to be able to cast to Measure<T> to fulfill the generic requirement
-            public N toStart(Double ntValue, Configuration config) {
+            public N fromDouble(double ntValue, Configuration config) {
                 UnitConverter<T> converter = UnitConversions.initializeUnitConverter(config
                         .getDefaultConverter(), defaultUnit);
                 return (N) converter.convertFrom(ntValue);
             }
+
+            @Override
+            public DoubleMapping<N> bind(Configuration config) {
+                ScalarConversion conversion = UnitConversions.createScalarConversion(config
+                        .getDefaultConverter(), defaultUnit);
+                return new BoundMeasureMapping<>(measureType, defaultUnit, conversion);
+            }
         };
     }
+
+    /**
+     * A {@link Measure} mapping with its converter resolved into a {@link ScalarConversion}.
+     *
+     * <p>Publishing only uses arithmetic on the measure's magnitude. Retrieving only creates a new measure when the
+     * value on NetworkTables has changed, otherwise the previous measure is returned again.</p>
+     */
+    private static final class BoundMeasureMapping<T extends Unit, N extends Measure<T>> extends DoubleMapping<N> {
+        private final T defaultUnit;
+        private final ScalarConversion conversion;
+
+        private long lastBits;
+        private N lastMeasure;
+
+        private BoundMeasureMapping(Class<N> measureType, T defaultUnit, ScalarConversion conversion) {
+            super(measureType);
+            this.defaultUnit = defaultUnit;
+            this.conversion = conversion;
+        }
+
+        @Override
+        public double toDouble(N startValue, Configuration config) {
+            return conversion.to(startValue.in(defaultUnit));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked") // N has to be able to cast to Measure<T> to fulfill the generic requirement
+        public N fromDouble(double ntValue, Configuration config) {
+            long bits = Double.doubleToRawLongBits(ntValue);
+            if (lastMeasure == null || bits != lastBits) {
+                lastMeasure = (N) defaultUnit.of(conversion.from(ntValue));
+                lastBits = bits;
+            }
+            return lastMeasure;
+        }
+    }
 }
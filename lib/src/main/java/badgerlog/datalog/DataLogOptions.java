@@ -0,0 +1,117 @@
+package badgerlog.datalog;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * Options for the {@link DataLogSink}. Used when starting the sink.
+ */
+@SuppressWarnings({"UnusedReturnValue", "InvalidBlockTag"})
+@Getter
+public class DataLogOptions {
+    /**
+     * {@return the directory the log files are created in}
+     */
+    private Path directory = Path.of("logs");
+    /**
+     * {@return the prefix of every log file name}
+     */
+    private String filePrefix = "badgerlog";
+    /**
+     * {@return the size in bytes after which a new log file is started}
+     */
+    private long maxFileBytes = 64L * 1024 * 1024;
+    /**
+     * {@return the total size in bytes of the log files from this sink, after which the oldest files are deleted}
+     */
+    private long maxTotalBytes = 512L * 1024 * 1024;
+    /**
+     * {@return the size in bytes of each of the two buffers that records are written into}
+     */
+    private int bufferBytes = 256 * 1024;
+    /**
+     * {@return the longest time in milliseconds that a record waits in a buffer before being written to the file}
+     */
+    private long flushPeriodMillis = 250;
+
+    /**
+     * {@return the options object for method chaining}
+     *
+     * @param directory the directory the log files are created in
+     */
+    public DataLogOptions withDirectory(Path directory) {
+        this.directory = directory;
+        return this;
+    }
+
+    /**
+     * {@return the options object for method chaining}
+     *
+     * @param filePrefix the prefix of every log file name
+     */
+    public DataLogOptions withFilePrefix(String filePrefix) {
+        this.filePrefix = filePrefix;
+        return this;
+    }
+
+    /**
+     * {@return the options object for method chaining}
+     *
+     * @param maxFileBytes the size in bytes after which a new log file is started, at least twice the buffer size
+     */
+    public DataLogOptions withMaxFileBytes(long maxFileBytes) {
+        this.maxFileBytes = maxFileBytes;
+        return this;
+    }
+
+    /**
+     * {@return the options object for method chaining}
+     *
+     * @param maxTotalBytes the total size in bytes of the log files, after which the oldest files are deleted
+     */
+    public DataLogOptions withMaxTotalBytes(long maxTotalBytes) {
+        this.maxTotalBytes = maxTotalBytes;
+        return this;
+    }
+
+    /**
+     * {@return the options object for method chaining}
+     *
+     * @param bufferBytes the size in bytes of each of the two buffers that records are written into
+     */
+    public DataLogOptions withBufferBytes(int bufferBytes) {
+        this.bufferBytes = bufferBytes;
+        return this;
+    }
+
+    /**
+     * {@return the options object for method chaining}
+     *
+     * @param flushPeriodMillis the longest time in milliseconds that a record waits before being written
+     */
+    public DataLogOptions withFlushPeriodMillis(long flushPeriodMillis) {
+        this.flushPeriodMillis = flushPeriodMillis;
+        return this;
+    }
+
+    /**
+     * Checks that the options can be used to start a sink.
+     *
+     * @throws IllegalArgumentException if any of the sizes or periods are invalid
+     */
+    void validate() {
+        if (bufferBytes < 1024) {
+            throw new IllegalArgumentException("Buffer size must be at least 1024 bytes, was " + bufferBytes);
+        }
+        if (maxFileBytes < 2L * bufferBytes) {
+            throw new IllegalArgumentException("Max file size must be at least twice the buffer size, was " + maxFileBytes);
+        }
+        if (maxTotalBytes < maxFileBytes) {
+            throw new IllegalArgumentException("Max total size must be at least the max file size, was " + maxTotalBytes);
+        }
+        if (flushPeriodMillis < 1) {
+            throw new IllegalArgumentException("Flush period must be at least 1 millisecond, was " + flushPeriodMillis);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package badgerlog.datalog;
+
+import edu.wpi.first.util.struct.Struct;
+
+/**
+ * Records every value published or received by BadgerLog into WPILOG files, which can be opened by AdvantageScope and
+ * the WPILib DataLogTool.
+ *
+ * <p>Values are logged under {@code NT:/BadgerLog/<key>}, matching the names used by the WPILib DataLogManager when
+ * it logs NetworkTables. Published values and values received from NetworkTables are logged as two entries with the
+ * same name, and the metadata of each entry says which direction it is, so that {@link Replay} only replays inputs.
+ * Records are written into a buffer on the thread that publishes them, and written to disk by a background thread, so
+ * logging does not block the robot loop on file IO.</p>
+ */
+public final class DataLogSink {
+    private static final String ENTRY_PREFIX = "NT:/BadgerLog/";
+    static final String OUTPUT_METADATA = "{\"source\":\"badgerlog\",\"direction\":\"output\"}";
+    static final String INPUT_METADATA = "{\"source\":\"badgerlog\",\"direction\":\"input\"}";
+
+    private static volatile LogWriter writer;
+
+    private DataLogSink() {
+    }
+
+    /**
+     * Starts logging to new files, stopping the previous log if there is one.
+     *
+     * @param options the options to log with
+     *
+     * @throws IllegalArgumentException if the options are invalid
+     */
+    public static synchronized void start(DataLogOptions options) {
+        options.validate();
+        stop();
+
+        LogWriter newWriter = new LogWriter(options);
+        newWriter.start();
+        writer = newWriter;
+    }
+
+    /**
+     * Stops logging, writing every buffered record to the file before returning. Does nothing if the sink is not
+     * active.
+     */
+    public static synchronized void stop() {
+        LogWriter oldWriter = writer;
+        if (oldWriter == null) {
+            return;
+        }
+        writer = null;
+        oldWriter.stop();
+    }
+
+    /**
+     * {@return whether values are currently being logged}
+     */
+    public static boolean isActive() {
+        return writer != null;
+    }
+
+    /**
+     * {@return the number of records dropped by the current log because both buffers were full, or 0 if inactive}
+     */
+    public static long getDroppedRecordCount() {
+        LogWriter current = writer;
+        return current == null ? 0 : current.getDroppedRecordCount();
+    }
+
+    /**
+     * Creates an output entry for a BadgerLog key, for values published by BadgerLog. The entry is started in the log
+     * the first time a value is appended while the sink is active.
+     *
+     * @param key the key on NetworkTables, relative to the BadgerLog table
+     * @param type the WPILOG type string of the values, such as {@code double} or {@code string[]}
+     *
+     * @return the entry to append values to
+     */
+    public static LogEntry createEntry(String key, String type) {
+        return new LogEntry(ENTRY_PREFIX + key, type, OUTPUT_METADATA, null);
+    }
+
+    /**
+     * Creates an input entry for a BadgerLog key, for values received from NetworkTables. Only input entries are
+     * replayed by {@link Replay}.
+     *
+     * @param key the key on NetworkTables, relative to the BadgerLog table
+     * @param type the WPILOG type string of the values, such as {@code double} or {@code string[]}
+     *
+     * @return the entry to append values to
+     */
+    public static LogEntry createInputEntry(String key, String type) {
+        return new LogEntry(ENTRY_PREFIX + key, type, INPUT_METADATA, null);
+    }
+
+    /**
+     * Creates an output entry for a BadgerLog key with struct values. The schema of the struct is logged with the entry.
+     *
+     * @param key the key on NetworkTables, relative to the BadgerLog table
+     * @param struct the struct to pack values with
+     *
+     * @return the entry to append values to
+     */
+    public static LogEntry createStructEntry(String key, Struct<?> struct) {
+        return new LogEntry(ENTRY_PREFIX + key, "struct:" + struct.getTypeName(), OUTPUT_METADATA, struct);
+    }
+
+    /**
+     * Creates an input entry for a BadgerLog key with struct values. The schema of the struct is logged with the entry.
+     *
+     * @param key the key on NetworkTables, relative to the BadgerLog table
+     * @param struct the struct to unpack values with
+     *
+     * @return the entry to append values to
+     */
+    public static LogEntry createStructInputEntry(String key, Struct<?> struct) {
+        return new LogEntry(ENTRY_PREFIX + key, "struct:" + struct.getTypeName(), INPUT_METADATA, struct);
+    }
+
+    /**
+     * {@return whether the metadata of a logged entry marks it as an input entry}
+     *
+     * @param metadata the metadata string from the start record of the entry
+     */
+    static boolean isInputMetadata(String metadata) {
+        return metadata.contains("\"direction\":\"input\"");
+    }
+
+    static LogWriter getWriter() {
+        return writer;
+    }
+}
@@ -0,0 +1,339 @@
+package badgerlog.datalog;
+
+import edu.wpi.first.networktables.NetworkTablesJNI;
+import edu.wpi.first.util.struct.Struct;
+
+/**
+ * An entry in the {@link DataLogSink}, which values are appended to after they are published, or after they are received
+ * from NetworkTables for input entries.
+ *
+ * <p>Appending does nothing while the sink is inactive. When the sink is started, or restarted with new files, the
+ * entry is started in the new log the next time a value is appended.</p>
+ */
+public final class LogEntry {
+    private final String name;
+    private final String type;
+    private final String metadata;
+    private final Struct<?> struct;
+
+    private LogWriter writer;
+    private int id;
+    private long lastChange = -1;
+
+    LogEntry(String name, String type, String metadata, Struct<?> struct) {
+        this.name = name;
+        this.type = type;
+        this.metadata = metadata;
+        this.struct = struct;
+    }
+
+    /**
+     * {@return whether the sink is active, so values appended to this entry are logged}
+     */
+    public boolean isActive() {
+        return DataLogSink.getWriter() != null;
+    }
+
+    /**
+     * Remembers the last change of a NetworkTables entry, for entries that log received values. Values are only logged
+     * once for each change, and changes caused by publishing are accepted without logging them as received.
+     *
+     * @param change the time of the last change of the NetworkTables entry, in microseconds
+     *
+     * @return whether the change was not accepted before, and the value with this change should be appended
+     */
+    public boolean acceptChange(long change) {
+        if (change == lastChange) {
+            return false;
+        }
+        lastChange = change;
+        return true;
+    }
+
+    /**
+     * Finds the id of this entry in the current log, starting the entry if it was not started in that log yet.
+     *
+     * @param current the current writer of the sink
+     * @param timestamp the time to start the entry at
+     *
+     * @return the id of the entry in the current log
+     */
+    private int start(LogWriter current, long timestamp) {
+        if (current != writer) {
+            writer = current;
+            if (struct != null) {
+                current.logSchema(struct, timestamp);
+            }
+            id = current.startEntry(name, type, metadata, timestamp);
+        }
+        return id;
+    }
+
+    /**
+     * Appends a double value with the current NetworkTables time, if the sink is active.
+     */
+    public void appendDouble(double value) {
+        appendDouble(value, 0);
+    }
+
+    /**
+     * Appends a double value at a NetworkTables time, if the sink is active.
+     *
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     */
+    public void appendDouble(double value, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendDouble(start(current, time), time, value);
+    }
+
+    /**
+     * Appends a float value with the current NetworkTables time, if the sink is active.
+     */
+    public void appendFloat(float value) {
+        appendFloat(value, 0);
+    }
+
+    /**
+     * Appends a float value at a NetworkTables time, if the sink is active.
+     *
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     */
+    public void appendFloat(float value, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendFloat(start(current, time), time, value);
+    }
+
+    /**
+     * Appends an integer value with the current NetworkTables time, if the sink is active.
+     */
+    public void appendLong(long value) {
+        appendLong(value, 0);
+    }
+
+    /**
+     * Appends an integer value at a NetworkTables time, if the sink is active.
+     *
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     */
+    public void appendLong(long value, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendLong(start(current, time), time, value);
+    }
+
+    /**
+     * Appends a boolean value with the current NetworkTables time, if the sink is active.
+     */
+    public void appendBoolean(boolean value) {
+        appendBoolean(value, 0);
+    }
+
+    /**
+     * Appends a boolean value at a NetworkTables time, if the sink is active.
+     *
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     */
+    public void appendBoolean(boolean value, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendBoolean(start(current, time), time, value);
+    }
+
+    /**
+     * Appends a string value with the current NetworkTables time, if the sink is active.
+     */
+    public void appendString(String value) {
+        appendString(value, 0);
+    }
+
+    /**
+     * Appends a string value at a NetworkTables time, if the sink is active.
+     *
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     */
+    public void appendString(String value, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendString(start(current, time), time, value);
+    }
+
+    /**
+     * Appends a raw value with the current NetworkTables time, if the sink is active.
+     */
+    public void appendRaw(byte[] value) {
+        appendRaw(value, 0);
+    }
+
+    /**
+     * Appends a raw value at a NetworkTables time, if the sink is active.
+     *
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     */
+    public void appendRaw(byte[] value, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendRaw(start(current, time), time, value);
+    }
+
+    /**
+     * Appends a double array with the current NetworkTables time, if the sink is active.
+     */
+    public void appendDoubleArray(double[] values) {
+        appendDoubleArray(values, 0);
+    }
+
+    /**
+     * Appends a double array at a NetworkTables time, if the sink is active.
+     *
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     */
+    public void appendDoubleArray(double[] values, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendDoubleArray(start(current, time), time, values);
+    }
+
+    /**
+     * Appends a float array with the current NetworkTables time, if the sink is active.
+     */
+    public void appendFloatArray(float[] values) {
+        appendFloatArray(values, 0);
+    }
+
+    /**
+     * Appends a float array at a NetworkTables time, if the sink is active.
+     *
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     */
+    public void appendFloatArray(float[] values, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendFloatArray(start(current, time), time, values);
+    }
+
+    /**
+     * Appends an integer array with the current NetworkTables time, if the sink is active.
+     */
+    public void appendLongArray(long[] values) {
+        appendLongArray(values, 0);
+    }
+
+    /**
+     * Appends an integer array at a NetworkTables time, if the sink is active.
+     *
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     */
+    public void appendLongArray(long[] values, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendLongArray(start(current, time), time, values);
+    }
+
+    /**
+     * Appends a boolean array with the current NetworkTables time, if the sink is active.
+     */
+    public void appendBooleanArray(boolean[] values) {
+        appendBooleanArray(values, 0);
+    }
+
+    /**
+     * Appends a boolean array at a NetworkTables time, if the sink is active.
+     *
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     */
+    public void appendBooleanArray(boolean[] values, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendBooleanArray(start(current, time), time, values);
+    }
+
+    /**
+     * Appends a string array with the current NetworkTables time, if the sink is active.
+     */
+    public void appendStringArray(String[] values) {
+        appendStringArray(values, 0);
+    }
+
+    /**
+     * Appends a string array at a NetworkTables time, if the sink is active.
+     *
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     */
+    public void appendStringArray(String[] values, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendStringArray(start(current, time), time, values);
+    }
+
+    /**
+     * {@code timestamp} defaults to the current NetworkTables time
+     *
+     * @see #appendStruct(Struct, Object, long)
+     */
+    public <T> void appendStruct(Struct<T> struct, T value) {
+        appendStruct(struct, value, 0);
+    }
+
+    /**
+     * Appends a struct value at a NetworkTables time, packing it directly into the log buffer, if the sink is active.
+     *
+     * @param struct the struct this entry was created with
+     * @param value the value to append
+     * @param timestamp the time of the value in microseconds, or 0 for the current time
+     * @param <T> the type of the struct
+     */
+    public <T> void appendStruct(Struct<T> struct, T value, long timestamp) {
+        LogWriter current = DataLogSink.getWriter();
+        if (current == null) {
+            return;
+        }
+        long time = timestamp == 0 ? NetworkTablesJNI.now() : timestamp;
+        current.appendStruct(start(current, time), time, struct, value);
+    }
+
+    /**
+     * Finishes this entry in the current log, if it was started.
+     */
+    public void finish() {
+        LogWriter current = DataLogSink.getWriter();
+        if (current != null && current == writer) {
+            current.finishEntry(id, NetworkTablesJNI.now());
+        }
+        writer = null;
+    }
+}
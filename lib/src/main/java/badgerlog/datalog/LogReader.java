@@ -0,0 +1,218 @@
+package badgerlog.datalog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads the records of a WPILOG file in order, through a fixed size buffer that is refilled from the file as records
+ * are read. Only records larger than the buffer cause it to grow, so whole logs are never loaded into memory.
+ *
+ * <p>Start and finish records are read by the reader itself, and {@link #next()} only stops at data records.</p>
+ */
+final class LogReader implements AutoCloseable {
+    private static final byte[] HEADER_MAGIC = "WPILOG".getBytes(StandardCharsets.US_ASCII);
+
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+    private boolean endOfFile = false;
+
+    private EntryInfo[] entries = new EntryInfo[64];
+
+    private int entryId;
+    private int payloadSize;
+    private long timestamp;
+    private int recordEnd = -1;
+
+    /**
+     * Opens a log file and reads its header.
+     *
+     * @param path the log file to read
+     *
+     * @throws IOException if the file cannot be read, or is not a WPILOG file
+     */
+    LogReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        buffer.limit(0);
+
+        byte[] magic = new byte[HEADER_MAGIC.length];
+        if (!ensure(magic.length + 2 + 4)) {
+            throw new IOException("File is too short to be a WPILOG file: " + path);
+        }
+        buffer.get(magic);
+        int version = buffer.getShort() & 0xFFFF;
+        if (!Arrays.equals(magic, HEADER_MAGIC) || version < 0x0100) {
+            throw new IOException("Not a WPILOG file: " + path);
+        }
+
+        int extraHeaderLength = buffer.getInt();
+        if (!ensure(extraHeaderLength)) {
+            throw new IOException("Truncated WPILOG header: " + path);
+        }
+        buffer.position(buffer.position() + extraHeaderLength);
+    }
+
+    /**
+     * Advances to the next data record, reading any start and finish records before it.
+     *
+     * @return whether there was another record, or false once the end of the file is reached
+     *
+     * @throws IOException if the file cannot be read
+     */
+    boolean next() throws IOException {
+        while (true) {
+            if (recordEnd >= 0) {
+                buffer.position(recordEnd);
+                recordEnd = -1;
+            }
+            if (!ensure(1)) {
+                return false;
+            }
+
+            int header = buffer.get(buffer.position()) & 0xFF;
+            int idLength = (header & 0x3) + 1;
+            int sizeLength = (header >> 2 & 0x3) + 1;
+            int timestampLength = (header >> 4 & 0x7) + 1;
+            if (!ensure(1 + idLength + sizeLength + timestampLength)) {
+                return false;
+            }
+
+            buffer.get();
+            int id = (int) readLittleEndian(idLength);
+            int size = (int) readLittleEndian(sizeLength);
+            long time = readLittleEndian(timestampLength);
+            if (!ensure(size)) {
+                return false;
+            }
+            recordEnd = buffer.position() + size;
+
+            if (id != 0) {
+                entryId = id;
+                payloadSize = size;
+                timestamp = time;
+                return true;
+            }
+            readControlRecord(size);
+        }
+    }
+
+    private void readControlRecord(int size) {
+        if (size < 5) {
+            return;
+        }
+
+        byte control = buffer.get();
+        int id = buffer.getInt();
+        if (control == 0 && size >= 17) {
+            String name = readString();
+            String type = readString();
+            String metadata = readString();
+            setEntry(id, new EntryInfo(name, type, metadata));
+        } else if (control == 1) {
+            setEntry(id, null);
+        }
+    }
+
+    private String readString() {
+        int length = buffer.getInt();
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private void setEntry(int id, EntryInfo info) {
+        if (id < 0) {
+            return;
+        }
+        if (id >= entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(entries.length * 2, id + 1));
+        }
+        entries[id] = info;
+    }
+
+    /**
+     * Makes sure the buffer has at least {@code length} unread bytes, reading more of the file if needed.
+     *
+     * @return false if the file ended first
+     */
+    private boolean ensure(int length) throws IOException {
+        if (buffer.remaining() >= length) {
+            return true;
+        }
+        if (endOfFile) {
+            return false;
+        }
+
+        buffer.compact();
+        if (buffer.capacity() < length) {
+            buffer.flip();
+            buffer = ByteBuffer.allocate(Integer.highestOneBit(length) * 2).order(ByteOrder.LITTLE_ENDIAN)
+                    .put(buffer);
+        }
+        while (buffer.position() < length) {
+            if (channel.read(buffer) < 0) {
+                endOfFile = true;
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= length;
+    }
+
+    private long readLittleEndian(int length) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value |= (buffer.get() & 0xFFL) << (8 * i);
+        }
+        return value;
+    }
+
+    /**
+     * {@return the started entry of the current record, or null if the entry was never started}
+     */
+    EntryInfo getEntry() {
+        return entryId < entries.length ? entries[entryId] : null;
+    }
+
+    int getEntryId() {
+        return entryId;
+    }
+
+    long getTimestamp() {
+        return timestamp;
+    }
+
+    int getPayloadSize() {
+        return payloadSize;
+    }
+
+    /**
+     * {@return the buffer, positioned at the payload of the current record}
+     *
+     * <p>Only the next {@link #getPayloadSize()} bytes belong to the record. The buffer is little-endian.</p>
+     */
+    ByteBuffer getPayload() {
+        return buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * The name, type and metadata of an entry from its start record.
+     *
+     * @param name the name of the entry
+     * @param type the type string of the entry
+     * @param metadata the metadata string of the entry
+     */
+    record EntryInfo(String name, String type, String metadata) {
+    }
+}
@@ -0,0 +1,520 @@
+package badgerlog.datalog;
+
+import badgerlog.utilities.ErrorLogger;
+import edu.wpi.first.util.struct.Struct;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes records in the WPILOG format into two direct buffers, which are written to the log file by a background
+ * thread.
+ *
+ * <p>Records are appended to the active buffer under this writer's lock, without allocating. When the active buffer is
+ * full, or every flush period, the buffers are swapped and the background thread writes the full buffer while the
+ * other one is filled. If both buffers are full the record is dropped instead of blocking the caller.</p>
+ *
+ * <p>A new file is started when the next buffer could make the current file larger than the max file size. That buffer
+ * starts with the file header and the start records of every entry, so each file can be read on its own. The oldest
+ * files from this writer are deleted once the total size passes the max total size.</p>
+ */
+final class LogWriter implements Runnable {
+    private static final byte[] HEADER_MAGIC = "WPILOG".getBytes(StandardCharsets.US_ASCII);
+    private static final short HEADER_VERSION = 0x0100;
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private static final byte CONTROL_START = 0;
+    private static final byte CONTROL_FINISH = 1;
+
+    private final DataLogOptions options;
+    private final String fileTime = LocalDateTime.now().format(FILE_TIME_FORMAT);
+    private final Thread thread;
+
+    private ByteBuffer active;
+    private ByteBuffer spare;
+    private boolean spareFree = true;
+    private boolean activeStartsFile = true;
+    private boolean spareStartsFile = false;
+    private int activeStart;
+    private long fileBytes = 0;
+    private boolean stopping = false;
+
+    private final List<PreambleRecord> preamble = new ArrayList<>();
+    private final Set<String> loggedSchemas = new HashSet<>();
+    private int nextEntryId = 1;
+    private long droppedRecordCount = 0;
+
+    private FileChannel channel;
+    private int fileIndex = 0;
+    private final ArrayDeque<Path> writtenFiles = new ArrayDeque<>();
+    private long writtenTotalBytes = 0;
+    private long currentFileSize = 0;
+
+    LogWriter(DataLogOptions options) {
+        this.options = options;
+        this.active = ByteBuffer.allocateDirect(options.getBufferBytes()).order(ByteOrder.LITTLE_ENDIAN);
+        this.spare = ByteBuffer.allocateDirect(options.getBufferBytes()).order(ByteOrder.LITTLE_ENDIAN);
+        writeFileStart(active);
+        activeStart = active.position();
+
+        thread = new Thread(this, "BadgerLog DataLog Writer");
+        thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Writes every buffered record, closes the current file, and stops the background thread.
+     */
+    void stop() {
+        synchronized (this) {
+            stopping = true;
+            notifyAll();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    synchronized long getDroppedRecordCount() {
+        return droppedRecordCount;
+    }
+
+    /**
+     * Starts a new entry, which is also started again at the beginning of every following file.
+     *
+     * @param name the name of the entry
+     * @param type the type string of the entry
+     * @param timestamp the timestamp in microseconds
+     *
+     * @return the id of the entry
+     */
+    synchronized int startEntry(String name, String type, long timestamp) {
+        return startEntry(name, type, "", timestamp);
+    }
+
+    /**
+     * Starts a new entry with metadata, which is also started again at the beginning of every following file.
+     *
+     * @param name the name of the entry
+     * @param type the type string of the entry
+     * @param metadata the metadata string of the entry
+     * @param timestamp the timestamp in microseconds
+     *
+     * @return the id of the entry
+     */
+    synchronized int startEntry(String name, String type, String metadata, long timestamp) {
+        int id = nextEntryId++;
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        byte[] typeBytes = type.getBytes(StandardCharsets.UTF_8);
+        byte[] metadataBytes = metadata.getBytes(StandardCharsets.UTF_8);
+
+        int payloadSize = 1 + 4 + 4 + nameBytes.length + 4 + typeBytes.length + 4 + metadataBytes.length;
+        ByteBuffer record = ByteBuffer.allocate(recordSize(0, payloadSize, timestamp)).order(ByteOrder.LITTLE_ENDIAN);
+        writeRecordHeader(record, 0, payloadSize, timestamp);
+        record.put(CONTROL_START).putInt(id);
+        record.putInt(nameBytes.length).put(nameBytes);
+        record.putInt(typeBytes.length).put(typeBytes);
+        record.putInt(metadataBytes.length).put(metadataBytes);
+
+        addPreamble(id, record.array());
+        return id;
+    }
+
+    /**
+     * Finishes an entry, so it is no longer started in following files.
+     *
+     * @param id the id of the entry
+     * @param timestamp the timestamp in microseconds
+     */
+    synchronized void finishEntry(int id, long timestamp) {
+        preamble.removeIf(record -> record.id == id);
+        ByteBuffer buffer = beginRecord(0, 5, timestamp);
+        if (buffer != null) {
+            buffer.put(CONTROL_FINISH).putInt(id);
+        }
+    }
+
+    /**
+     * Logs the schema of a struct, and every struct nested in it, if it has not been logged yet.
+     *
+     * @param struct the struct to log the schema of
+     * @param timestamp the timestamp in microseconds
+     */
+    synchronized void logSchema(Struct<?> struct, long timestamp) {
+        String typeString = "struct:" + struct.getTypeName();
+        if (!loggedSchemas.add(typeString)) {
+            return;
+        }
+        for (Struct<?> nested : struct.getNested()) {
+            logSchema(nested, timestamp);
+        }
+
+        int id = startEntry("/.schema/" + typeString, "structschema", timestamp);
+        byte[] schema = struct.getSchema().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(recordSize(id, schema.length, timestamp)).order(ByteOrder.LITTLE_ENDIAN);
+        writeRecordHeader(record, id, schema.length, timestamp);
+        record.put(schema);
+        addPreamble(id, record.array());
+    }
+
+    /**
+     * Writes a record into the active buffer, and keeps it to start every following file with. The record is only kept
+     * after reserving room for it, since reserving can start a new file whose start already holds the preamble.
+     */
+    private void addPreamble(int id, byte[] record) {
+        ByteBuffer buffer = reserve(record.length);
+        if (buffer != null) {
+            buffer.put(record);
+        }
+        preamble.add(new PreambleRecord(id, record));
+    }
+
+    synchronized void appendDouble(int id, long timestamp, double value) {
+        ByteBuffer buffer = beginRecord(id, 8, timestamp);
+        if (buffer != null) {
+            buffer.putDouble(value);
+        }
+    }
+
+    synchronized void appendFloat(int id, long timestamp, float value) {
+        ByteBuffer buffer = beginRecord(id, 4, timestamp);
+        if (buffer != null) {
+            buffer.putFloat(value);
+        }
+    }
+
+    synchronized void appendLong(int id, long timestamp, long value) {
+        ByteBuffer buffer = beginRecord(id, 8, timestamp);
+        if (buffer != null) {
+            buffer.putLong(value);
+        }
+    }
+
+    synchronized void appendBoolean(int id, long timestamp, boolean value) {
+        ByteBuffer buffer = beginRecord(id, 1, timestamp);
+        if (buffer != null) {
+            buffer.put((byte) (value ? 1 : 0));
+        }
+    }
+
+    synchronized void appendString(int id, long timestamp, String value) {
+        ByteBuffer buffer = beginRecord(id, utf8Length(value), timestamp);
+        if (buffer != null) {
+            putUtf8(buffer, value);
+        }
+    }
+
+    synchronized void appendRaw(int id, long timestamp, byte[] value) {
+        ByteBuffer buffer = beginRecord(id, value.length, timestamp);
+        if (buffer != null) {
+            buffer.put(value);
+        }
+    }
+
+    synchronized void appendDoubleArray(int id, long timestamp, double[] values) {
+        ByteBuffer buffer = beginRecord(id, values.length * 8, timestamp);
+        if (buffer != null) {
+            for (double value : values) {
+                buffer.putDouble(value);
+            }
+        }
+    }
+
+    synchronized void appendFloatArray(int id, long timestamp, float[] values) {
+        ByteBuffer buffer = beginRecord(id, values.length * 4, timestamp);
+        if (buffer != null) {
+            for (float value : values) {
+                buffer.putFloat(value);
+            }
+        }
+    }
+
+    synchronized void appendLongArray(int id, long timestamp, long[] values) {
+        ByteBuffer buffer = beginRecord(id, values.length * 8, timestamp);
+        if (buffer != null) {
+            for (long value : values) {
+                buffer.putLong(value);
+            }
+        }
+    }
+
+    synchronized void appendBooleanArray(int id, long timestamp, boolean[] values) {
+        ByteBuffer buffer = beginRecord(id, values.length, timestamp);
+        if (buffer != null) {
+            for (boolean value : values) {
+                buffer.put((byte) (value ? 1 : 0));
+            }
+        }
+    }
+
+    synchronized void appendStringArray(int id, long timestamp, String[] values) {
+        int payloadSize = 4;
+        for (String value : values) {
+            payloadSize += 4 + utf8Length(value);
+        }
+
+        ByteBuffer buffer = beginRecord(id, payloadSize, timestamp);
+        if (buffer != null) {
+            buffer.putInt(values.length);
+            for (String value : values) {
+                buffer.putInt(utf8Length(value));
+                putUtf8(buffer, value);
+            }
+        }
+    }
+
+    synchronized <T> void appendStruct(int id, long timestamp, Struct<T> struct, T value) {
+        int size = struct.getSize();
+        ByteBuffer buffer = beginRecord(id, size, timestamp);
+        if (buffer == null) {
+            return;
+        }
+
+        int end = buffer.position() + size;
+        struct.pack(buffer, value);
+        if (buffer.position() != end) {
+            ErrorLogger.customError("Struct " + struct.getTypeName() + " packed a different size than " + size);
+            buffer.position(end);
+        }
+    }
+
+    /**
+     * Writes the header of a record into the active buffer, making room for the payload.
+     *
+     * @return the buffer to write the payload into, or null if the record was dropped
+     */
+    private ByteBuffer beginRecord(int id, int payloadSize, long timestamp) {
+        ByteBuffer buffer = reserve(recordSize(id, payloadSize, timestamp));
+        if (buffer != null) {
+            writeRecordHeader(buffer, id, payloadSize, timestamp);
+        }
+        return buffer;
+    }
+
+    private ByteBuffer reserve(int size) {
+        if (active.remaining() < size && (!swap() || active.remaining() < size)) {
+            droppedRecordCount++;
+            return null;
+        }
+        return active;
+    }
+
+    /**
+     * Hands the active buffer to the background thread, if it is done writing the other buffer.
+     *
+     * @return whether the buffers were swapped
+     */
+    private boolean swap() {
+        if (!spareFree) {
+            return false;
+        }
+
+        ByteBuffer full = active;
+        active = spare;
+        spare = full;
+        spareFree = false;
+        spareStartsFile = activeStartsFile;
+
+        fileBytes += full.position();
+        activeStartsFile = fileBytes + active.capacity() > options.getMaxFileBytes();
+        if (activeStartsFile) {
+            fileBytes = 0;
+            writeFileStart(active);
+        }
+        activeStart = active.position();
+
+        notifyAll();
+        return true;
+    }
+
+    private void writeFileStart(ByteBuffer buffer) {
+        buffer.put(HEADER_MAGIC).putShort(HEADER_VERSION).putInt(0);
+        for (PreambleRecord record : preamble) {
+            if (buffer.remaining() < record.bytes.length) {
+                ErrorLogger.customError("Too many DataLog entries to fit in a single buffer, increase the buffer size");
+                return;
+            }
+            buffer.put(record.bytes);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            ByteBuffer toWrite;
+            boolean startsFile;
+            synchronized (this) {
+                if (spareFree && !stopping) {
+                    try {
+                        wait(options.getFlushPeriodMillis());
+                    } catch (InterruptedException e) {
+                        stopping = true;
+                    }
+                }
+                if (spareFree && active.position() > activeStart) {
+                    swap();
+                }
+                if (spareFree) {
+                    if (stopping) {
+                        break;
+                    }
+                    continue;
+                }
+                toWrite = spare;
+                startsFile = spareStartsFile;
+            }
+
+            try {
+                if (startsFile || channel == null) {
+                    openNextFile();
+                }
+                toWrite.flip();
+                while (toWrite.hasRemaining()) {
+                    currentFileSize += channel.write(toWrite);
+                }
+                deleteOldFiles();
+            } catch (IOException e) {
+                ErrorLogger.customError("Failed to write DataLog file: " + e.getMessage());
+            }
+            toWrite.clear();
+
+            synchronized (this) {
+                spareFree = true;
+            }
+        }
+
+        closeFile();
+    }
+
+    private void openNextFile() throws IOException {
+        closeFile();
+        Files.createDirectories(options.getDirectory());
+
+        Path path = options.getDirectory()
+                .resolve(options.getFilePrefix() + "_" + fileTime + "_" + fileIndex++ + ".wpilog");
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        writtenFiles.add(path);
+        currentFileSize = 0;
+    }
+
+    private void closeFile() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            ErrorLogger.customError("Failed to close DataLog file: " + e.getMessage());
+        }
+        writtenTotalBytes += currentFileSize;
+        currentFileSize = 0;
+        channel = null;
+    }
+
+    private void deleteOldFiles() throws IOException {
+        Iterator<Path> files = writtenFiles.iterator();
+        while (writtenTotalBytes + currentFileSize > options.getMaxTotalBytes() && writtenFiles.size() > 1) {
+            Path oldest = files.next();
+            long size = Files.size(oldest);
+            Files.deleteIfExists(oldest);
+            files.remove();
+            writtenTotalBytes -= size;
+        }
+    }
+
+    static int recordSize(int id, int payloadSize, long timestamp) {
+        return 1 + intLength(id) + intLength(payloadSize) + longLength(timestamp) + payloadSize;
+    }
+
+    private static void writeRecordHeader(ByteBuffer buffer, int id, int payloadSize, long timestamp) {
+        int idLength = intLength(id);
+        int sizeLength = intLength(payloadSize);
+        int timestampLength = longLength(timestamp);
+
+        buffer.put((byte) ((idLength - 1) | (sizeLength - 1) << 2 | (timestampLength - 1) << 4));
+        putLittleEndian(buffer, id, idLength);
+        putLittleEndian(buffer, payloadSize, sizeLength);
+        putLittleEndian(buffer, timestamp, timestampLength);
+    }
+
+    private static int intLength(int value) {
+        if ((value & 0xFFFFFF00) == 0) return 1;
+        if ((value & 0xFFFF0000) == 0) return 2;
+        if ((value & 0xFF000000) == 0) return 3;
+        return 4;
+    }
+
+    private static int longLength(long value) {
+        return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 7) / 8);
+    }
+
+    private static void putLittleEndian(ByteBuffer buffer, long value, int length) {
+        for (int i = 0; i < length; i++) {
+            buffer.put((byte) (value >>> (8 * i)));
+        }
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character
+                    .isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void putUtf8(ByteBuffer buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character
+                    .isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12));
+                buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    private record PreambleRecord(int id, byte[] bytes) {
+    }
+}
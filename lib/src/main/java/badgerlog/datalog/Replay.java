@@ -0,0 +1,291 @@
+package badgerlog.datalog;
+
+import badgerlog.BadgerLog;
+import badgerlog.events.EventRegistry;
+import badgerlog.utilities.ErrorLogger;
+import edu.wpi.first.networktables.GenericPublisher;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.NetworkTablesJNI;
+import edu.wpi.first.networktables.Topic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Replays the BadgerLog values of a recorded WPILOG file into NetworkTables, so that robot code can be run again against
+ * recorded inputs.
+ *
+ * <p>Each call to {@link #advance()} moves the replay clock forward by one period, and publishes every recorded input
+ * up to the new time on the local NetworkTables instance, with its recorded timestamp. Subscribers, watchers and
+ * triggers then read the recorded values as if they came from the dashboard. Inputs are the entries the
+ * {@link DataLogSink} marks as received from NetworkTables. Recorded outputs are not replayed, so they never overwrite
+ * the values published by the code under test. The NetworkTables clock follows the
+ * replay clock, so the replay runs as fast as it is advanced, and is the same every time.</p>
+ *
+ * <p>While replaying, NetworkTables runs locally without a server or client, and every value published by BadgerLog
+ * is recorded to a new log by the {@link DataLogSink}, which can be compared with the original.</p>
+ */
+public final class Replay {
+    private static final String ENTRY_PREFIX = "NT:/BadgerLog/";
+
+    private static LogReader reader;
+    private static long periodMicros;
+    private static long clockMicros;
+    private static boolean hasRecord;
+    private static ReplayTopic[] topics = new ReplayTopic[64];
+
+    private Replay() {
+    }
+
+    /**
+     * Starts replaying a log, and starts recording the replayed outputs with the {@link DataLogSink}. Stops any replay
+     * in progress first.
+     *
+     * @param logFile the WPILOG file to replay
+     * @param periodSeconds how far the replay clock moves forward each time it is advanced
+     * @param outputOptions the options to record outputs with, which should not overwrite the replayed log
+     *
+     * @throws IllegalArgumentException if the period is not positive, or the output options are invalid
+     */
+    public static synchronized void start(Path logFile, double periodSeconds, DataLogOptions outputOptions) {
+        if (!(periodSeconds > 0)) {
+            throw new IllegalArgumentException("Replay period must be positive, was " + periodSeconds);
+        }
+        outputOptions.validate();
+        stop();
+
+        try {
+            reader = new LogReader(logFile);
+            hasRecord = reader.next();
+        } catch (IOException e) {
+            ErrorLogger.customError("Failed to open replay log: " + e.getMessage());
+            reader = null;
+            return;
+        }
+
+        NetworkTableInstance instance = NetworkTableInstance.getDefault();
+        instance.stopServer();
+        instance.stopClient();
+        instance.startLocal();
+
+        periodMicros = Math.round(periodSeconds * 1e6);
+        clockMicros = hasRecord ? reader.getTimestamp() : 0;
+        NetworkTablesJNI.setNow(clockMicros);
+        DataLogSink.start(outputOptions);
+    }
+
+    /**
+     * Stops replaying, closing the replayed log and stopping the {@link DataLogSink}. Does nothing if no replay is in
+     * progress.
+     *
+     * <p>NetworkTables stays local, and its clock stays at the last replayed time.</p>
+     */
+    public static synchronized void stop() {
+        if (reader == null) {
+            return;
+        }
+
+        try {
+            reader.close();
+        } catch (IOException e) {
+            ErrorLogger.customError("Failed to close replay log: " + e.getMessage());
+        }
+        reader = null;
+        hasRecord = false;
+
+        for (ReplayTopic topic : topics) {
+            if (topic != null) {
+                topic.publisher.close();
+            }
+        }
+        Arrays.fill(topics, null);
+        DataLogSink.stop();
+    }
+
+    /**
+     * {@return whether a log is being replayed}
+     */
+    public static boolean isActive() {
+        return reader != null;
+    }
+
+    /**
+     * {@return whether every record of the replayed log has been published}
+     */
+    public static boolean isFinished() {
+        return reader != null && !hasRecord;
+    }
+
+    /**
+     * {@return the time of the replay clock in microseconds, on the same clock as the recorded timestamps}
+     */
+    public static long getTimestampMicros() {
+        return clockMicros;
+    }
+
+    /**
+     * Moves the replay clock forward by one period, and publishes every recorded value up to the new time. Called by
+     * {@link BadgerLog#update()} before entries are updated.
+     */
+    public static synchronized void advance() {
+        if (reader == null) {
+            return;
+        }
+
+        clockMicros += periodMicros;
+        NetworkTablesJNI.setNow(clockMicros);
+
+        try {
+            while (hasRecord && reader.getTimestamp() <= clockMicros) {
+                publishRecord();
+                hasRecord = reader.next();
+            }
+        } catch (IOException e) {
+            ErrorLogger.customError("Failed to read replay log: " + e.getMessage());
+            hasRecord = false;
+        }
+    }
+
+    private static void publishRecord() {
+        ReplayTopic topic = getTopic(reader.getEntryId(), reader.getEntry());
+        if (topic == null) {
+            return;
+        }
+
+        ByteBuffer payload = reader.getPayload();
+        int size = reader.getPayloadSize();
+        long time = reader.getTimestamp();
+        GenericPublisher publisher = topic.publisher;
+
+        switch (topic.kind) {
+            case DOUBLE -> publisher.setDouble(payload.getDouble(payload.position()), time);
+            case FLOAT -> publisher.setFloat(payload.getFloat(payload.position()), time);
+            case INTEGER -> publisher.setInteger(payload.getLong(payload.position()), time);
+            case BOOLEAN -> publisher.setBoolean(payload.get(payload.position()) != 0, time);
+            case STRING -> publisher.setString(readString(payload, payload.position(), size), time);
+            case DOUBLE_ARRAY -> {
+                double[] values = new double[size / 8];
+                payload.asDoubleBuffer().get(values);
+                publisher.setDoubleArray(values, time);
+            }
+            case FLOAT_ARRAY -> {
+                float[] values = new float[size / 4];
+                payload.asFloatBuffer().get(values);
+                publisher.setFloatArray(values, time);
+            }
+            case INTEGER_ARRAY -> {
+                long[] values = new long[size / 8];
+                payload.asLongBuffer().get(values);
+                publisher.setIntegerArray(values, time);
+            }
+            case BOOLEAN_ARRAY -> {
+                boolean[] values = new boolean[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = payload.get(payload.position() + i) != 0;
+                }
+                publisher.setBooleanArray(values, time);
+            }
+            case STRING_ARRAY -> publisher.setStringArray(readStringArray(payload, size), time);
+            case RAW -> {
+                byte[] values = new byte[size];
+                payload.get(payload.position(), values);
+                publisher.setRaw(values, time);
+            }
+        }
+    }
+
+    private static ReplayTopic getTopic(int id, LogReader.EntryInfo info) {
+        if (info == null || !info.name().startsWith(ENTRY_PREFIX) || !DataLogSink.isInputMetadata(info.metadata())) {
+            return null;
+        }
+        if (id >= topics.length) {
+            topics = Arrays.copyOf(topics, Math.max(topics.length * 2, id + 1));
+        }
+
+        ReplayTopic topic = topics[id];
+        if (topic != null && topic.info == info) {
+            return topic;
+        }
+        if (topic != null) {
+            topic.publisher.close();
+        }
+
+        Kind kind = Kind.fromType(info.type());
+        String key = info.name().substring(ENTRY_PREFIX.length());
+        Topic networkTablesTopic = BadgerLog.defaultTable.getTopic(key);
+        GenericPublisher publisher = networkTablesTopic.genericPublish(kind.networkTablesType(info.type()));
+        EventRegistry.addReplayedTopic(networkTablesTopic.getHandle());
+
+        topic = new ReplayTopic(info, kind, publisher);
+        topics[id] = topic;
+        return topic;
+    }
+
+    private static String readString(ByteBuffer payload, int offset, int length) {
+        return new String(payload.array(), payload.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+    }
+
+    private static String[] readStringArray(ByteBuffer payload, int size) {
+        int offset = payload.position();
+        int end = offset + size;
+        if (size < 4) {
+            return new String[0];
+        }
+
+        int count = payload.getInt(offset);
+        offset += 4;
+        String[] values = new String[Math.max(0, Math.min(count, (size - 4) / 4))];
+        for (int i = 0; i < values.length; i++) {
+            int length = payload.getInt(offset);
+            offset += 4;
+            if (length < 0 || offset + length > end) {
+                return Arrays.copyOf(values, i);
+            }
+            values[i] = readString(payload, offset, length);
+            offset += length;
+        }
+        return values;
+    }
+
+    private record ReplayTopic(LogReader.EntryInfo info, Kind kind, GenericPublisher publisher) {
+    }
+
+    /**
+     * How the payload of a record is decoded, found from the WPILOG type string of its entry.
+     */
+    private enum Kind {
+        DOUBLE, FLOAT, INTEGER, BOOLEAN, STRING,
+        DOUBLE_ARRAY, FLOAT_ARRAY, INTEGER_ARRAY, BOOLEAN_ARRAY, STRING_ARRAY,
+        RAW;
+
+        private static Kind fromType(String type) {
+            return switch (type) {
+                case "double" -> DOUBLE;
+                case "float" -> FLOAT;
+                case "int64" -> INTEGER;
+                case "boolean" -> BOOLEAN;
+                case "string", "json" -> STRING;
+                case "double[]" -> DOUBLE_ARRAY;
+                case "float[]" -> FLOAT_ARRAY;
+                case "int64[]" -> INTEGER_ARRAY;
+                case "boolean[]" -> BOOLEAN_ARRAY;
+                case "string[]" -> STRING_ARRAY;
+                default -> RAW;
+            };
+        }
+
+        /**
+         * {@return the NetworkTables type string for an entry with the WPILOG type string}
+         */
+        private String networkTablesType(String type) {
+            return switch (this) {
+                case INTEGER -> "int";
+                case INTEGER_ARRAY -> "int[]";
+                default -> type;
+            };
+        }
+    }
+}
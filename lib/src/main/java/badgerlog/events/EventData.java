@@ -1,12 +1,165 @@
 package badgerlog.events;
 
+import java.util.Objects;
+
 /**
  * Holds data relevant to one specific value change
  *
- * @param key the key on NetworkTables
- * @param timestamp the FPGA timestamp when the value changed
- * @param newValue the value the event is firing for
+ * <p>The instance passed to a watcher is reused for every event, and is only valid for the duration of the callback.
+ * Use {@link #snapshot()} to keep the data of an event after the callback returns.</p>
+ *
+ * <p>Primitive values are stored without boxing, and can be read with {@link #getDouble()}, {@link #getLong()},
+ * {@link #getFloat()} and {@link #getBoolean()}. {@link #newValue()} boxes them when called.</p>
+ *
  * @param <T> the type of the event
  */
-public record EventData<T>(String key, double timestamp, T newValue) {
+public final class EventData<T> {
+    static final byte OBJECT = 0;
+    static final byte DOUBLE = 1;
+    static final byte FLOAT = 2;
+    static final byte LONG = 3;
+    static final byte BOOLEAN = 4;
+
+    private String key;
+    private int topicHandle;
+    private long timestampMicros;
+    private byte kind;
+    private long bits;
+    private Object value;
+
+    /**
+     * Creates event data that is not reused, such as for calling a watcher directly.
+     *
+     * @param key the key on NetworkTables
+     * @param timestamp the timestamp when the value changed in seconds
+     * @param newValue the value the event is firing for
+     */
+    public EventData(String key, double timestamp, T newValue) {
+        this.key = key;
+        this.timestampMicros = (long) (timestamp * 1e6);
+        this.kind = OBJECT;
+        this.value = newValue;
+    }
+
+    EventData() {
+    }
+
+    void set(String key, int topicHandle, long timestampMicros, byte kind, long bits, Object value) {
+        this.key = key;
+        this.topicHandle = topicHandle;
+        this.timestampMicros = timestampMicros;
+        this.kind = kind;
+        this.bits = bits;
+        this.value = value;
+    }
+
+    /**
+     * {@return the key on NetworkTables}
+     */
+    public String key() {
+        if (key == null) {
+            key = EventRegistry.getTopicName(topicHandle);
+        }
+        return key;
+    }
+
+    /**
+     * {@return the NetworkTables timestamp when the value changed in seconds}
+     */
+    public double timestamp() {
+        return timestampMicros * 1e-6;
+    }
+
+    /**
+     * {@return the NetworkTables timestamp when the value changed in microseconds}
+     */
+    public long timestampMicros() {
+        return timestampMicros;
+    }
+
+    /**
+     * {@return the value the event is firing for, boxing it if it is a primitive}
+     */
+    @SuppressWarnings("unchecked")
+    public T newValue() {
+        return (T) switch (kind) {
+            case DOUBLE -> Double.longBitsToDouble(bits);
+            case FLOAT -> Float.intBitsToFloat((int) bits);
+            case LONG -> bits;
+            case BOOLEAN -> bits != 0;
+            default -> value;
+        };
+    }
+
+    /**
+     * {@return the value the event is firing for as a {@code double}, without boxing primitive values}
+     *
+     * @throws ClassCastException if the value is not a number
+     */
+    public double getDouble() {
+        return switch (kind) {
+            case DOUBLE -> Double.longBitsToDouble(bits);
+            case FLOAT -> Float.intBitsToFloat((int) bits);
+            case LONG -> bits;
+            default -> ((Number) newValue()).doubleValue();
+        };
+    }
+
+    /**
+     * {@return the value the event is firing for as a {@code float}, without boxing primitive values}
+     *
+     * @throws ClassCastException if the value is not a number
+     */
+    public float getFloat() {
+        return kind == FLOAT ? Float.intBitsToFloat((int) bits) : (float) getDouble();
+    }
+
+    /**
+     * {@return the value the event is firing for as a {@code long}, without boxing primitive values}
+     *
+     * @throws ClassCastException if the value is not a number
+     */
+    public long getLong() {
+        return switch (kind) {
+            case LONG -> bits;
+            case DOUBLE, FLOAT -> (long) getDouble();
+            default -> ((Number) newValue()).longValue();
+        };
+    }
+
+    /**
+     * {@return the value the event is firing for as a {@code boolean}, without boxing primitive values}
+     *
+     * @throws ClassCastException if the value is not a boolean
+     */
+    public boolean getBoolean() {
+        return kind == BOOLEAN ? bits != 0 : (Boolean) newValue();
+    }
+
+    /**
+     * {@return a copy of this event data that is not reused, and stays valid after the callback returns}
+     */
+    public EventData<T> snapshot() {
+        EventData<T> copy = new EventData<>();
+        copy.set(key(), topicHandle, timestampMicros, kind, bits, value);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EventData<?> other)) return false;
+        return timestampMicros == other.timestampMicros && Objects.equals(key(), other.key()) && Objects
+                .equals(newValue(), other.newValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key(), timestampMicros, newValue());
+    }
+
+    @Override
+    public String toString() {
+        return "EventData[key=" + key() + ", timestamp=" + timestamp() + ", newValue=" + newValue() + "]";
+    }
 }
@@ -0,0 +1,181 @@
+package badgerlog.events;
+
+/**
+ * A bounded ring of preallocated event slots, filled by {@link EventRegistry#pollEvents()} and emptied by
+ * {@link EventRegistry#handleNextEvent()} on the main thread.
+ *
+ * <p>Slots store primitive values as raw bits, so queueing and handling events does not allocate. When the ring is
+ * full, the oldest event is dropped. A {@link Latest} remembers the slot of the last queued event for a watcher and
+ * key, so that a newer value can replace it in place.</p>
+ */
+final class EventQueue {
+    private Slot[] slots;
+    private int head = 0;
+    private int size = 0;
+    private long nextSequence = 1;
+
+    private long droppedCount = 0;
+    private long coalescedCount = 0;
+
+    EventQueue(int capacity) {
+        slots = createSlots(capacity);
+    }
+
+    private static Slot[] createSlots(int capacity) {
+        Slot[] slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        return slots;
+    }
+
+    /**
+     * Finds the slot to write an event into. If {@code latest} still has a queued event, its slot is returned so the
+     * event is replaced in place, otherwise a new slot is added after the newest event.
+     *
+     * @param watcher the watcher of the event
+     * @param latest the last queued event for the watcher and key, or null if the watcher keeps every event
+     * @param timestampMicros the timestamp of the event, used when a new slot is added
+     *
+     * @return the slot to write the event into
+     */
+    Slot add(WatcherEvent<?> watcher, Latest latest, long timestampMicros) {
+        if (latest != null && latest.isQueued()) {
+            coalescedCount++;
+            return latest.slot;
+        }
+
+        if (size == slots.length) {
+            drop();
+        }
+
+        Slot slot = slots[(head + size) % slots.length];
+        size++;
+        slot.sequence = nextSequence++;
+        slot.watcher = watcher;
+        slot.queuedMicros = timestampMicros;
+
+        if (latest != null) {
+            latest.slot = slot;
+            latest.sequence = slot.sequence;
+        }
+        return slot;
+    }
+
+    /**
+     * Removes the oldest event, copying it into {@code data}.
+     *
+     * @param data the reused event data to copy the event into
+     *
+     * @return the watcher of the event, or null if the queue was empty
+     */
+    WatcherEvent<?> poll(EventData<?> data) {
+        if (size == 0) {
+            return null;
+        }
+
+        Slot slot = slots[head];
+        WatcherEvent<?> watcher = slot.watcher;
+        data.set(slot.key, slot.topicHandle, slot.timestampMicros, slot.kind, slot.bits, slot.value);
+        release();
+        return watcher;
+    }
+
+    /**
+     * Drops the oldest event.
+     */
+    void drop() {
+        if (size == 0) {
+            return;
+        }
+        release();
+        droppedCount++;
+    }
+
+    private void release() {
+        Slot slot = slots[head];
+        slot.sequence = 0;
+        slot.watcher = null;
+        slot.value = null;
+        head = (head + 1) % slots.length;
+        size--;
+    }
+
+    /**
+     * Changes the number of slots, dropping the oldest events that no longer fit.
+     *
+     * @param capacity the new number of slots
+     */
+    void setCapacity(int capacity) {
+        while (size > capacity) {
+            drop();
+        }
+
+        Slot[] resized = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            resized[i] = i < size ? slots[(head + i) % slots.length] : new Slot();
+        }
+        slots = resized;
+        head = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * {@return the timestamp of the oldest event when it was first queued in microseconds, or -1 if empty}
+     */
+    long oldestQueuedMicros() {
+        return size == 0 ? -1 : slots[head].queuedMicros;
+    }
+
+    long getDroppedCount() {
+        return droppedCount;
+    }
+
+    long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * A preallocated event in the queue. The sequence is 0 while the slot is empty.
+     */
+    static final class Slot {
+        private long sequence;
+        private WatcherEvent<?> watcher;
+        private long queuedMicros;
+
+        private String key;
+        private int topicHandle;
+        private long timestampMicros;
+        private byte kind;
+        private long bits;
+        private Object value;
+
+        void set(String key, int topicHandle, long timestampMicros, byte kind, long bits, Object value) {
+            this.key = key;
+            this.topicHandle = topicHandle;
+            this.timestampMicros = timestampMicros;
+            this.kind = kind;
+            this.bits = bits;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The last queued event for a watcher and key, which is created once and reused.
+     */
+    static final class Latest {
+        private Slot slot;
+        private long sequence;
+
+        private boolean isQueued() {
+            return slot != null && slot.sequence == sequence;
+        }
+    }
+}
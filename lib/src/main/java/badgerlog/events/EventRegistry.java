@@ -1,57 +1,219 @@
 package badgerlog.events;
 
+import badgerlog.annotations.EventType;
+import badgerlog.annotations.QueueMode;
 import badgerlog.networktables.NTEntry;
 import edu.wpi.first.networktables.NetworkTableEvent;
 import edu.wpi.first.networktables.NetworkTableEvent.Kind;
 import edu.wpi.first.networktables.NetworkTableInstance;
-import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.networktables.NetworkTableListenerPoller;
+import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.networktables.NetworkTableValue;
+import edu.wpi.first.networktables.NetworkTablesJNI;
+import edu.wpi.first.networktables.Topic;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Contains all instances of events and a queue for events to be synchronized on the main thread
+ *
+ * <p>Every watcher shares a single {@link NetworkTableListenerPoller}, with one listener for the topic prefix of each
+ * watched entry, and one for the keys of each raw watcher. The poller is read on the main thread, so a value change
+ * only costs a lookup of the listener handle, and events are queued and activated in the order NetworkTables reported
+ * them. Each watched entry is retrieved at most once per poll no matter how many of its topics changed.</p>
+ *
+ * <p>Events are stored in a preallocated ring holding at most {@link #getEventCapacity()} events, dropping the oldest
+ * event when it is full. Primitive values are stored without boxing, and each watcher is passed the same reused
+ * {@link EventData}. Watchers using {@link QueueMode#LATEST} replace the value of their queued event for the same key
+ * instead of queueing another.</p>
  */
 public class EventRegistry {
-    private static final Queue<WatcherPair<?>> eventQueue = new ConcurrentLinkedQueue<>();
-    private static final Map<String, Queue<NTEntry<?>>> watchedEntries = new ConcurrentHashMap<>();
+    private static final Map<NetworkTableType, Class<?>> valueTypes = new EnumMap<>(NetworkTableType.class);
+    static {
+        valueTypes.put(NetworkTableType.kBoolean, Boolean.class);
+        valueTypes.put(NetworkTableType.kDouble, Double.class);
+        valueTypes.put(NetworkTableType.kFloat, Float.class);
+        valueTypes.put(NetworkTableType.kInteger, Long.class);
+        valueTypes.put(NetworkTableType.kString, String.class);
+        valueTypes.put(NetworkTableType.kRaw, byte[].class);
+        valueTypes.put(NetworkTableType.kBooleanArray, boolean[].class);
+        valueTypes.put(NetworkTableType.kDoubleArray, double[].class);
+        valueTypes.put(NetworkTableType.kFloatArray, float[].class);
+        valueTypes.put(NetworkTableType.kIntegerArray, long[].class);
+        valueTypes.put(NetworkTableType.kStringArray, String[].class);
+    }
+
+    private static final EventQueue eventQueue = new EventQueue(1024);
+    private static final EventData<Object> eventData = new EventData<>();
+
+    private static final NetworkTableInstance networkTableInstance = NetworkTableInstance.getDefault();
+    private static final NetworkTableListenerPoller eventPoller = new NetworkTableListenerPoller(networkTableInstance);
+    private static final Map<String, List<WatcherEvent<?>>> managedWatchers = new ConcurrentHashMap<>();
+    private static final Map<String, WatchedEntry> watchedEntriesByKey = new ConcurrentHashMap<>();
+    private static final HandleMap<Object> listeners = new HandleMap<>();
+    private static final List<WatchedEntry> changedEntries = new ArrayList<>();
+    private static final HandleMap<String> topicNames = new HandleMap<>();
+    private static final HandleMap<Boolean> replayedTopics = new HandleMap<>();
 
     /**
-     * Activates any queued events from the previous loop
+     * Polls for changes to watched entries, and activates every queued event
      */
     public static void updateEvents() {
-        while (!eventQueue.isEmpty()) {
-            WatcherPair<?> queuedEvent = eventQueue.poll();
-            if (queuedEvent == null) {
+        pollEvents();
+        while (handleNextEvent()) {
+            // Handles every queued event
+        }
+    }
+
+    /**
+     * Activates the oldest queued event.
+     *
+     * @return whether an event was activated, or false if the queue was empty
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean handleNextEvent() {
+        WatcherEvent<Object> watcher = (WatcherEvent<Object>) eventQueue.poll(eventData);
+        if (watcher == null) {
+            return false;
+        }
+
+        watcher.invoke(eventData);
+        return true;
+    }
+
+    /**
+     * {@return the number of events queued to be activated}
+     */
+    public static int getQueuedEventCount() {
+        return eventQueue.size();
+    }
+
+    /**
+     * {@return how long the oldest queued event has been waiting to be activated in seconds, or 0 if none are queued}
+     */
+    public static double getEventBacklogSeconds() {
+        long oldestMicros = eventQueue.oldestQueuedMicros();
+        if (oldestMicros < 0) {
+            return 0;
+        }
+        return (NetworkTablesJNI.now() - oldestMicros) * 1e-6;
+    }
+
+    /**
+     * {@return the maximum number of events that can be queued}
+     */
+    public static int getEventCapacity() {
+        return eventQueue.capacity();
+    }
+
+    /**
+     * Sets the maximum number of events that can be queued. Once full, the oldest queued event is dropped for every
+     * new event. Events already queued past a lower capacity are dropped.
+     *
+     * @param capacity the maximum number of queued events, must be at least 1
+     */
+    public static void setEventCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Event capacity must be at least 1, got " + capacity);
+        }
+        eventQueue.setCapacity(capacity);
+    }
+
+    /**
+     * {@return the total number of events dropped because the queue was full}
+     */
+    public static long getDroppedEventCount() {
+        return eventQueue.getDroppedCount();
+    }
+
+    /**
+     * {@return the total number of events that replaced the value of an already queued event}
+     *
+     * @see QueueMode#LATEST
+     */
+    public static long getCoalescedEventCount() {
+        return eventQueue.getCoalescedCount();
+    }
+
+    /**
+     * Reads every value change since the last poll, and queues an event for each raw watcher of the change, and each
+     * managed watcher of a changed entry. Each changed entry is retrieved once, on the calling thread.
+     */
+    public static void pollEvents() {
+        NetworkTableEvent[] events = eventPoller.readQueue();
+        if (events.length == 0) {
+            return;
+        }
+
+        for (NetworkTableEvent ntEvent : events) {
+            Object listener = listeners.get(ntEvent.listener);
+            if (listener instanceof RawWatcher rawWatcher) {
+                if (rawWatcher.accepts(isIncoming(ntEvent))) {
+                    addNetworkTablesWatcherEvent(rawWatcher, ntEvent);
+                }
+                continue;
+            }
+            if (!(listener instanceof WatchedEntry watchedEntry)) {
                 continue;
             }
 
-            handleWatcher(queuedEvent);
+            long time = ntEvent.valueData.value.getTime();
+            if (!watchedEntry.changed) {
+                watchedEntry.changed = true;
+                watchedEntry.changeMicros = time;
+                changedEntries.add(watchedEntry);
+            } else if (time > watchedEntry.changeMicros) {
+                watchedEntry.changeMicros = time;
+            }
+        }
+
+        for (WatchedEntry watchedEntry : changedEntries) {
+            watchedEntry.changed = false;
+            addManagedWatcherEvents(watchedEntry);
         }
+        changedEntries.clear();
     }
 
-    private static final NetworkTableInstance networkTableInstance = NetworkTableInstance.getDefault();
+    /**
+     * {@return the name of the topic with the handle, which is cached after the first call}
+     */
+    static String getTopicName(int topicHandle) {
+        return topicNames.computeIfAbsent(topicHandle, handle -> new Topic(networkTableInstance, handle).getName());
+    }
 
     /**
      * Register an unmanaged watcher event only relying on NetworkTables
      *
+     * <p>The listener receives every value change, and the direction of the change is checked when it is polled, so
+     * that values published locally by a replay can be treated as incoming.</p>
+     *
      * @param event the event to register
      * @param metadata the metadata for the event
      */
     public static void registerRawWatcher(WatcherEvent<?> event, EventMetadata metadata) {
-        EnumSet<Kind> validMessages = EnumSet.of(
-                switch (metadata.type()) {
-                    case INCOMING -> Kind.kValueRemote;
-                    case OUTGOING -> Kind.kValueLocal;
-                    case ALL -> Kind.kValueAll;
-                });
+        int listener = eventPoller.addListener(metadata.keys(), EnumSet.of(Kind.kValueAll));
+        listeners.put(listener, new RawWatcher(event, metadata.type()));
+    }
 
-        networkTableInstance.addListener(metadata
-                .keys(), validMessages, (ntEvent) -> addNetworkTablesWatcherEvent(event, ntEvent));
+    /**
+     * Marks a topic as having its values published by a replay, so raw watchers treat its local value changes as
+     * incoming.
+     *
+     * @param topicHandle the handle of the replayed topic
+     */
+    public static void addReplayedTopic(int topicHandle) {
+        replayedTopics.put(topicHandle, Boolean.TRUE);
+    }
+
+    private static boolean isIncoming(NetworkTableEvent event) {
+        return event.is(Kind.kValueRemote) || replayedTopics.get(event.valueData.topic) != null;
     }
 
     /**
@@ -61,62 +223,129 @@ public class EventRegistry {
      * @param metadata the metadata for the event
      */
     public static void registerWatcher(WatcherEvent<?> event, EventMetadata metadata) {
-        networkTableInstance.addListener(new String[] {"/"}, EnumSet
-                .of(Kind.kValueAll), (ntEvent) -> addManagedWatcherEvent(event, metadata, ntEvent));
+        managedWatchers.computeIfAbsent(metadata.name(), k -> new CopyOnWriteArrayList<>()).add(event);
     }
 
     /**
      * Adds an entry to the list of those being watched by managed watchers
      *
+     * <p>The first time a key is watched, a listener for its topic prefix is added to the shared poller. Watching the
+     * same key again replaces the entry, and attaches any new watcher names.</p>
+     *
      * @param entry the generic entry to add
      * @param watcherNames the managed watcher names to attach to
      */
-    public static void addWatchedEntry(NTEntry<?> entry, List<String> watcherNames) {
+    public static synchronized void addWatchedEntry(NTEntry<?> entry, List<String> watcherNames) {
+        WatchedEntry watchedEntry = watchedEntriesByKey.get(entry.getKey());
+        if (watchedEntry == null) {
+            watchedEntry = new WatchedEntry();
+            int listener = eventPoller.addListener(new String[] {"/BadgerLog/" + entry.getKey()}, EnumSet
+                    .of(Kind.kValueAll));
+            watchedEntriesByKey.put(entry.getKey(), watchedEntry);
+            listeners.put(listener, watchedEntry);
+        }
+
+        watchedEntry.entry = entry;
         for (String watcher : watcherNames) {
-            Queue<NTEntry<?>> entries = watchedEntries.computeIfAbsent(watcher, k -> new ConcurrentLinkedQueue<>());
-            entries.add(entry);
+            if (!watchedEntry.watcherNames.contains(watcher)) {
+                watchedEntry.watcherNames.add(watcher);
+            }
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static void addManagedWatcherEvent(WatcherEvent<?> event, EventMetadata metadata, NetworkTableEvent ntEvent) {
-        Queue<NTEntry<?>> namedEntries = watchedEntries.getOrDefault(metadata.name(), new ConcurrentLinkedQueue<>());
-
-        for (NTEntry<?> entry : namedEntries) {
-            String actualKey = "/BadgerLog/" + entry.getKey();
-            boolean equivalentKeys = ntEvent.valueData.getTopic().getName().startsWith(actualKey);
-            boolean typeMatch = event.matches(entry.getType()) || event.type().equals(void.class);
-            if (typeMatch && equivalentKeys) {
-                EventData<Object> eventData = new EventData<>(entry.getKey(), Timer.getFPGATimestamp(), entry
-                        .retrieveValue());
-                eventQueue.add(new WatcherPair<>((WatcherEvent<Object>) event, eventData));
+    private static void addManagedWatcherEvents(WatchedEntry watchedEntry) {
+        NTEntry<?> entry = watchedEntry.entry;
+        Object value = null;
+        boolean retrieved = false;
+
+        for (String watcherName : watchedEntry.watcherNames) {
+            List<WatcherEvent<?>> events = managedWatchers.get(watcherName);
+            if (events == null) {
+                continue;
+            }
+
+            for (WatcherEvent<?> event : events) {
+                boolean typeMatch = event.matches(entry.getType()) || event.type().equals(void.class);
+                if (!typeMatch) {
+                    continue;
+                }
+                if (!retrieved) {
+                    value = entry.retrieveValue();
+                    retrieved = true;
+                }
+
+                EventQueue.Latest latest = null;
+                if (event.queueMode() == QueueMode.LATEST) {
+                    latest = watchedEntry.latestEvents.computeIfAbsent(event, k -> new EventQueue.Latest());
+                }
+                eventQueue.add(event, latest, watchedEntry.changeMicros)
+                        .set(entry.getKey(), 0, watchedEntry.changeMicros, EventData.OBJECT, 0, value);
             }
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static void addNetworkTablesWatcherEvent(WatcherEvent<?> watcherEvent, NetworkTableEvent event) {
-        Object value = event.valueData.value.getValue();
+    private static void addNetworkTablesWatcherEvent(RawWatcher rawWatcher, NetworkTableEvent event) {
+        NetworkTableValue value = event.valueData.value;
+        Class<?> type = valueTypes.get(value.getType());
 
-        if (value == null) return;
-        Class<?> type = value.getClass();
+        if (type == null) return;
 
+        WatcherEvent<?> watcherEvent = rawWatcher.event;
         if (!watcherEvent.matches(type) && !watcherEvent.type().equals(void.class)) {
             return;
         }
 
-        EventData<Object> data = new EventData<>(event.valueData.getTopic()
-                .getName(), Timer.getFPGATimestamp(), event.valueData.value.getValue());
-        eventQueue.add(new WatcherPair<>((WatcherEvent<Object>) watcherEvent, data));
+        int topicHandle = event.valueData.topic;
+        EventQueue.Latest latest = null;
+        if (watcherEvent.queueMode() == QueueMode.LATEST) {
+            latest = rawWatcher.latestEvents.computeIfAbsent(topicHandle, k -> new EventQueue.Latest());
+        }
+
+        long time = value.getTime();
+        EventQueue.Slot slot = eventQueue.add(watcherEvent, latest, time);
+        switch (value.getType()) {
+            case kBoolean -> slot.set(null, topicHandle, time, EventData.BOOLEAN, value.getBoolean() ? 1 : 0, null);
+            case kDouble -> slot.set(null, topicHandle, time, EventData.DOUBLE, Double
+                    .doubleToRawLongBits(value.getDouble()), null);
+            case kFloat -> slot.set(null, topicHandle, time, EventData.FLOAT, Float
+                    .floatToRawIntBits(value.getFloat()), null);
+            case kInteger -> slot.set(null, topicHandle, time, EventData.LONG, value.getInteger(), null);
+            default -> slot.set(null, topicHandle, time, EventData.OBJECT, 0, value.getValue());
+        }
     }
 
-    @SuppressWarnings("unchecked")
-    private static void handleWatcher(WatcherPair<?> event) {
-        WatcherEvent<Object> watcher = (WatcherEvent<Object>) event.watcher();
-        EventData<Object> data = (EventData<Object>) event.data();
+    /**
+     * A raw watcher, the direction of changes it receives, and the last queued event for each topic if it uses
+     * {@link QueueMode#LATEST}.
+     */
+    private static final class RawWatcher {
+        private final WatcherEvent<?> event;
+        private final EventType type;
+        private final HandleMap<EventQueue.Latest> latestEvents = new HandleMap<>();
+
+        private RawWatcher(WatcherEvent<?> event, EventType type) {
+            this.event = event;
+            this.type = type;
+        }
 
-        watcher.invoke(data);
+        private boolean accepts(boolean incoming) {
+            return switch (type) {
+                case INCOMING -> incoming;
+                case OUTGOING -> !incoming;
+                case ALL -> true;
+            };
+        }
     }
 
-    private record WatcherPair<T>(WatcherEvent<T> watcher, EventData<T> data) {}
+    /**
+     * An entry watched by managed watchers, the names of the watchers attached to it, and the last queued event for
+     * each watcher using {@link QueueMode#LATEST}.
+     */
+    private static final class WatchedEntry {
+        private final List<String> watcherNames = new CopyOnWriteArrayList<>();
+        private final Map<WatcherEvent<?>, EventQueue.Latest> latestEvents = new IdentityHashMap<>();
+        private volatile NTEntry<?> entry;
+        private boolean changed = false;
+        private long changeMicros;
+    }
 }
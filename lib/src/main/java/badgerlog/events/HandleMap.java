@@ -0,0 +1,75 @@
+package badgerlog.events;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * A map from NetworkTables handles to values, which looks up handles without boxing them.
+ *
+ * <p>Handles are kept in a sorted array and found with a binary search. Adding a handle copies the arrays, so this is
+ * meant for handles that are added rarely, such as listeners and topics, and looked up for every event. Lookups are
+ * safe while another thread is adding a handle.</p>
+ *
+ * @param <T> the type of the values
+ */
+final class HandleMap<T> {
+    private volatile Contents contents = new Contents(new int[0], new Object[0]);
+
+    /**
+     * {@return the value for the handle, or null if there is none}
+     */
+    @SuppressWarnings("unchecked")
+    T get(int handle) {
+        Contents current = contents;
+        int index = Arrays.binarySearch(current.handles, handle);
+        return index < 0 ? null : (T) current.values[index];
+    }
+
+    /**
+     * Finds the value for the handle, creating and adding it if there is none.
+     *
+     * @param handle the handle to find the value of
+     * @param factory creates the value if the handle is not in the map
+     *
+     * @return the value for the handle
+     */
+    synchronized T computeIfAbsent(int handle, IntFunction<T> factory) {
+        T value = get(handle);
+        if (value == null) {
+            value = factory.apply(handle);
+            put(handle, value);
+        }
+        return value;
+    }
+
+    /**
+     * Sets the value for the handle, replacing any previous value.
+     *
+     * @param handle the handle to set the value of
+     * @param value the value for the handle
+     */
+    synchronized void put(int handle, T value) {
+        int[] handles = contents.handles;
+        Object[] values = contents.values;
+        int index = Arrays.binarySearch(handles, handle);
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+
+        int insertion = -index - 1;
+        int[] newHandles = new int[handles.length + 1];
+        Object[] newValues = new Object[values.length + 1];
+        System.arraycopy(handles, 0, newHandles, 0, insertion);
+        System.arraycopy(values, 0, newValues, 0, insertion);
+        newHandles[insertion] = handle;
+        newValues[insertion] = value;
+        System.arraycopy(handles, insertion, newHandles, insertion + 1, handles.length - insertion);
+        System.arraycopy(values, insertion, newValues, insertion + 1, values.length - insertion);
+        contents = new Contents(newHandles, newValues);
+    }
+
+    @SuppressWarnings("ArrayRecordComponent") // Never exposed outside the map
+    private record Contents(int[] handles, Object[] values) {
+    }
+}
@@ -1,5 +1,7 @@
 package badgerlog.events;
 
+import badgerlog.annotations.QueueMode;
+
 import java.util.function.Consumer;
 
 /**
@@ -7,9 +9,17 @@ import java.util.function.Consumer;
  *
  * @param type the class type of the event
  * @param valueConsumer a function consuming an event
+ * @param queueMode how the events are queued between updates
  * @param <T> the type of the event
  */
-public record WatcherEvent<T>(Class<T> type, Consumer<EventData<T>> valueConsumer) {
+public record WatcherEvent<T>(Class<T> type, Consumer<EventData<T>> valueConsumer, QueueMode queueMode) {
+    /**
+     * {@code queueMode} defaults to {@link QueueMode#ALL}
+     */
+    public WatcherEvent(Class<T> type, Consumer<EventData<T>> valueConsumer) {
+        this(type, valueConsumer, QueueMode.ALL);
+    }
+
     /**
      * Invokes the {@code valueConsumer} with the {@code value}
      *
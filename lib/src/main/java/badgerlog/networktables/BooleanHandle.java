@@ -0,0 +1,44 @@
+package badgerlog.networktables;
+
+/**
+ * A resolved {@link BooleanValueEntry}, which sets and gets values as a {@code boolean}, without boxing or looking up the
+ * key again.
+ *
+ * <p>Values are set and read as they are on NetworkTables, without being converted by the mapping of the entry. A
+ * handle stops working if the entry at its key is replaced or removed.</p>
+ */
+public final class BooleanHandle {
+    private final BooleanValueEntry<?> entry;
+
+    /**
+     * Constructs a new BooleanHandle for an entry.
+     *
+     * @param entry the entry to set and get values with
+     */
+    public BooleanHandle(BooleanValueEntry<?> entry) {
+        this.entry = entry;
+    }
+
+    /**
+     * Publishes a value to NetworkTables.
+     *
+     * @param value the value to publish
+     */
+    public void set(boolean value) {
+        entry.publishBoolean(value);
+    }
+
+    /**
+     * {@return the value on NetworkTables}
+     */
+    public boolean get() {
+        return entry.retrieveBoolean();
+    }
+
+    /**
+     * {@return the key on NetworkTables}
+     */
+    public String getKey() {
+        return entry.getKey();
+    }
+}
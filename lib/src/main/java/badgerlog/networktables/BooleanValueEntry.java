@@ -0,0 +1,102 @@
+package badgerlog.networktables;
+
+import badgerlog.BadgerLog;
+import badgerlog.annotations.configuration.Configuration;
+import badgerlog.conversion.BooleanMapping;
+import edu.wpi.first.networktables.BooleanEntry;
+import edu.wpi.first.networktables.TimestampedBoolean;
+
+/**
+ * Wraps a {@link BooleanEntry}, for types with a {@link BooleanMapping}. Values are converted to and from
+ * a {@code boolean} without boxing, and without creating a {@code NetworkTableValue}.
+ *
+ * @param <T> the type to use. Does not need to be a valid NetworkTableType
+ */
+public final class BooleanValueEntry<T> extends PrimitiveValueEntry<T> {
+
+    private final BooleanMapping<T> mapping;
+    private final BooleanEntry entry;
+
+    /**
+     * Constructs a new BooleanValueEntry, creating the entry on NetworkTables.
+     *
+     * <p>This initially publishes the {@code initialValue} to make the entry appear on NetworkTables. Unchanged values
+     * are not published again if the configuration has change detection enabled.</p>
+     *
+     * @param key the key on NetworkTables
+     * @param valueClass the class type of the {@code initialValue}
+     * @param mapping the mapping for the {@code valueClass}, which is bound to the {@code config}
+     * @param initialValue the value to initially publish to NetworkTables
+     * @param config the configuration to use for the Mapping
+     */
+    public BooleanValueEntry(String key, Class<T> valueClass, BooleanMapping<T> mapping, T initialValue, Configuration config) {
+        super(key, valueClass, config, "boolean", mapping.getStartType() == boolean.class);
+        this.mapping = mapping.bind(config);
+        this.entry = BadgerLog.defaultTable.getBooleanTopic(key).getEntry(false, EntryFactory.subscriberOptions(config));
+
+        publishValue(initialValue);
+    }
+
+    @Override
+    public void publishValue(T value) {
+        publishBoolean(mapping.toBoolean(value, config));
+    }
+
+    @Override
+    T retrieveConverted() {
+        return mapping.fromBoolean(retrieveBoolean(), config);
+    }
+
+    @Override
+    public long getLastChange() {
+        return entry.getLastChange();
+    }
+
+    @Override
+    public int readSamples(SampleConsumer<T> consumer) {
+        TimestampedBoolean[] samples = entry.readQueue();
+        for (TimestampedBoolean sample : samples) {
+            consumer.accept(mapping.fromBoolean(sample.value, config), sample.serverTime);
+            if (acceptInputSample(sample.timestamp)) {
+                inputLogEntry.appendBoolean(sample.value, sample.timestamp);
+            }
+        }
+        return samples.length;
+    }
+
+    /**
+     * Publishes a value that has already been converted by the mapping.
+     *
+     * @param value the NetworkTables value to publish
+     */
+    public void publishBoolean(boolean value) {
+        if (skipUnchanged(value ? 1L : 0L)) {
+            return;
+        }
+
+        entry.set(value);
+        logEntry.appendBoolean(value);
+        recordPublished();
+    }
+
+    /**
+     * Gets the last value retrieved from NetworkTables, without converting it with the mapping.
+     *
+     * @return the last NetworkTables value
+     */
+    public boolean retrieveBoolean() {
+        boolean value = entry.get();
+        rememberRetrieved(value ? 1L : 0L);
+        long change = acceptInputChange();
+        if (change != NO_CHANGE) {
+            inputLogEntry.appendBoolean(value, change);
+        }
+        return value;
+    }
+
+    @Override
+    void closeEntry() {
+        entry.unpublish();
+        entry.close();
+    }
+}
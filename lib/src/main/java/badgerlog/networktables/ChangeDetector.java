@@ -0,0 +1,215 @@
+package badgerlog.networktables;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Remembers the last value on NetworkTables for an entry, so that publishing an identical value can be skipped.
+ *
+ * <p>Floating point values are compared by their raw bits, arrays by their contents, and packed structs by their
+ * bytes. Arrays and buffers are copied when remembered, so later changes to the original do not affect the
+ * comparison. Remembered {@code double} arrays are reused when the length is the same, since transforms are published
+ * as fixed length arrays. Primitive values are remembered as raw bits, so they are never boxed.</p>
+ */
+public final class ChangeDetector {
+    private Object lastValue;
+    private byte[] lastBytes;
+    private ByteBuffer lastBuffer;
+    private long lastBits;
+    private boolean hasValue = false;
+
+    /**
+     * Checks if a NetworkTables value differs from the last value, and remembers it if it does.
+     *
+     * @param value the value about to be published
+     *
+     * @return whether the value has changed, and should be published
+     */
+    public boolean hasChanged(Object value) {
+        if (hasValue && isEqual(lastValue, value)) {
+            return false;
+        }
+        remember(value);
+        return true;
+    }
+
+    /**
+     * Identical to {@link #hasChanged(Object)}, except for a primitive value stored as raw bits.
+     *
+     * @param bits the raw bits of the value about to be published
+     *
+     * @return whether the value has changed, and should be published
+     *
+     * @see Double#doubleToRawLongBits(double)
+     */
+    public boolean hasChanged(long bits) {
+        if (hasValue && lastBits == bits) {
+            return false;
+        }
+        remember(bits);
+        return true;
+    }
+
+    /**
+     * Identical to {@link #hasChanged(long)}, with the bits of a {@code double}.
+     */
+    public boolean hasChanged(double value) {
+        return hasChanged(Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Identical to {@link #hasChanged(long)}, with the bits of a {@code float}.
+     */
+    public boolean hasChanged(float value) {
+        return hasChanged((long) Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Identical to {@link #hasChanged(long)}, with the bits of a {@code boolean}.
+     */
+    public boolean hasChanged(boolean value) {
+        return hasChanged(value ? 1L : 0L);
+    }
+
+    /**
+     * Checks if the remaining bytes of a packed buffer differ from the last packed bytes, and remembers them if they
+     * do. The position of the buffer is not changed.
+     *
+     * @param packed the buffer containing the packed value about to be published
+     *
+     * @return whether the bytes have changed, and should be published
+     */
+    public boolean hasChanged(ByteBuffer packed) {
+        if (hasValue && lastBytes != null && packed.remaining() == lastBytes.length && packed
+                .mismatch(lastBuffer) == -1) {
+            return false;
+        }
+        remember(packed);
+        return true;
+    }
+
+    /**
+     * Remembers a value that is already on NetworkTables, such as a value that was just retrieved.
+     *
+     * @param value the value currently on NetworkTables
+     */
+    public void remember(Object value) {
+        lastValue = copyOf(value);
+        hasValue = true;
+    }
+
+    /**
+     * Identical to {@link #remember(Object)}, except for a primitive value stored as raw bits.
+     *
+     * @param bits the raw bits of the value currently on NetworkTables
+     */
+    public void remember(long bits) {
+        lastBits = bits;
+        hasValue = true;
+    }
+
+    /**
+     * Identical to {@link #remember(long)}, with the bits of a {@code double}.
+     */
+    public void remember(double value) {
+        remember(Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Identical to {@link #remember(long)}, with the bits of a {@code float}.
+     */
+    public void remember(float value) {
+        remember((long) Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Identical to {@link #remember(long)}, with the bits of a {@code boolean}.
+     */
+    public void remember(boolean value) {
+        remember(value ? 1L : 0L);
+    }
+
+    /**
+     * Remembers the remaining bytes of a packed buffer that are already on NetworkTables. The position of the buffer
+     * is not changed.
+     *
+     * @param packed the buffer containing the packed value currently on NetworkTables
+     */
+    public void remember(ByteBuffer packed) {
+        if (lastBytes == null || lastBytes.length != packed.remaining()) {
+            lastBytes = new byte[packed.remaining()];
+            lastBuffer = ByteBuffer.wrap(lastBytes);
+        }
+        packed.get(packed.position(), lastBytes);
+        hasValue = true;
+    }
+
+    /**
+     * Forgets the last value, so that the next value is always published.
+     */
+    public void reset() {
+        lastValue = null;
+        hasValue = false;
+    }
+
+    private static boolean isEqual(Object last, Object value) {
+        if (last == value) {
+            return true;
+        }
+        if (last == null || value == null || last.getClass() != value.getClass()) {
+            return false;
+        }
+
+        if (value instanceof Double d) {
+            return Double.doubleToRawLongBits(d) == Double.doubleToRawLongBits((Double) last);
+        }
+        if (value instanceof Float f) {
+            return Float.floatToRawIntBits(f) == Float.floatToRawIntBits((Float) last);
+        }
+        if (value instanceof double[] array) {
+            return Arrays.equals(array, (double[]) last);
+        }
+        if (value instanceof float[] array) {
+            return Arrays.equals(array, (float[]) last);
+        }
+        if (value instanceof long[] array) {
+            return Arrays.equals(array, (long[]) last);
+        }
+        if (value instanceof boolean[] array) {
+            return Arrays.equals(array, (boolean[]) last);
+        }
+        if (value instanceof byte[] array) {
+            return Arrays.equals(array, (byte[]) last);
+        }
+        if (value instanceof Object[] array) {
+            return Arrays.equals(array, (Object[]) last);
+        }
+        return value.equals(last);
+    }
+
+    private Object copyOf(Object value) {
+        if (value instanceof double[] array) {
+            if (lastValue instanceof double[] last && last.length == array.length) {
+                System.arraycopy(array, 0, last, 0, array.length);
+                return last;
+            }
+            return array.clone();
+        }
+        if (value instanceof float[] array) {
+            return array.clone();
+        }
+        if (value instanceof long[] array) {
+            return array.clone();
+        }
+        if (value instanceof boolean[] array) {
+            return array.clone();
+        }
+        if (value instanceof byte[] array) {
+            return array.clone();
+        }
+        if (value instanceof Object[] array) {
+            return array.clone();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,44 @@
+package badgerlog.networktables;
+
+/**
+ * A resolved {@link DoubleValueEntry}, which sets and gets values as a {@code double}, without boxing or looking up the
+ * key again.
+ *
+ * <p>Values are set and read as they are on NetworkTables, without being converted by the mapping of the entry. A
+ * handle stops working if the entry at its key is replaced or removed.</p>
+ */
+public final class DoubleHandle {
+    private final DoubleValueEntry<?> entry;
+
+    /**
+     * Constructs a new DoubleHandle for an entry.
+     *
+     * @param entry the entry to set and get values with
+     */
+    public DoubleHandle(DoubleValueEntry<?> entry) {
+        this.entry = entry;
+    }
+
+    /**
+     * Publishes a value to NetworkTables.
+     *
+     * @param value the value to publish
+     */
+    public void set(double value) {
+        entry.publishDouble(value);
+    }
+
+    /**
+     * {@return the value on NetworkTables}
+     */
+    public double get() {
+        return entry.retrieveDouble();
+    }
+
+    /**
+     * {@return the key on NetworkTables}
+     */
+    public String getKey() {
+        return entry.getKey();
+    }
+}
@@ -0,0 +1,102 @@
+package badgerlog.networktables;
+
+import badgerlog.BadgerLog;
+import badgerlog.annotations.configuration.Configuration;
+import badgerlog.conversion.DoubleMapping;
+import edu.wpi.first.networktables.DoubleEntry;
+import edu.wpi.first.networktables.TimestampedDouble;
+
+/**
+ * Wraps a {@link DoubleEntry}, for types with a {@link DoubleMapping}. Values are converted to and from
+ * a {@code double} without boxing, and without creating a {@code NetworkTableValue}.
+ *
+ * @param <T> the type to use. Does not need to be a valid NetworkTableType
+ */
+public final class DoubleValueEntry<T> extends PrimitiveValueEntry<T> {
+
+    private final DoubleMapping<T> mapping;
+    private final DoubleEntry entry;
+
+    /**
+     * Constructs a new DoubleValueEntry, creating the entry on NetworkTables.
+     *
+     * <p>This initially publishes the {@code initialValue} to make the entry appear on NetworkTables. Unchanged values
+     * are not published again if the configuration has change detection enabled.</p>
+     *
+     * @param key the key on NetworkTables
+     * @param valueClass the class type of the {@code initialValue}
+     * @param mapping the mapping for the {@code valueClass}, which is bound to the {@code config}
+     * @param initialValue the value to initially publish to NetworkTables
+     * @param config the configuration to use for the Mapping
+     */
+    public DoubleValueEntry(String key, Class<T> valueClass, DoubleMapping<T> mapping, T initialValue, Configuration config) {
+        super(key, valueClass, config, "double", mapping.getStartType() == double.class);
+        this.mapping = mapping.bind(config);
+        this.entry = BadgerLog.defaultTable.getDoubleTopic(key).getEntry(0.0, EntryFactory.subscriberOptions(config));
+
+        publishValue(initialValue);
+    }
+
+    @Override
+    public void publishValue(T value) {
+        publishDouble(mapping.toDouble(value, config));
+    }
+
+    @Override
+    T retrieveConverted() {
+        return mapping.fromDouble(retrieveDouble(), config);
+    }
+
+    @Override
+    public long getLastChange() {
+        return entry.getLastChange();
+    }
+
+    @Override
+    public int readSamples(SampleConsumer<T> consumer) {
+        TimestampedDouble[] samples = entry.readQueue();
+        for (TimestampedDouble sample : samples) {
+            consumer.accept(mapping.fromDouble(sample.value, config), sample.serverTime);
+            if (acceptInputSample(sample.timestamp)) {
+                inputLogEntry.appendDouble(sample.value, sample.timestamp);
+            }
+        }
+        return samples.length;
+    }
+
+    /**
+     * Publishes a value that has already been converted by the mapping.
+     *
+     * @param value the NetworkTables value to publish
+     */
+    public void publishDouble(double value) {
+        if (skipUnchanged(Double.doubleToRawLongBits(value))) {
+            return;
+        }
+
+        entry.set(value);
+        logEntry.appendDouble(value);
+        recordPublished();
+    }
+
+    /**
+     * Gets the last value retrieved from NetworkTables, without converting it with the mapping.
+     *
+     * @return the last NetworkTables value
+     */
+    public double retrieveDouble() {
+        double value = entry.get();
+        rememberRetrieved(Double.doubleToRawLongBits(value));
+        long change = acceptInputChange();
+        if (change != NO_CHANGE) {
+            inputLogEntry.appendDouble(value, change);
+        }
+        return value;
+    }
+
+    @Override
+    void closeEntry() {
+        entry.unpublish();
+        entry.close();
+    }
+}
@@ -3,7 +3,14 @@ package badgerlog.networktables;
 import badgerlog.BadgerLog;
 import badgerlog.annotations.StructType;
 import badgerlog.annotations.configuration.Configuration;
+import badgerlog.conversion.BooleanMapping;
+import badgerlog.conversion.DoubleMapping;
+import badgerlog.conversion.FloatMapping;
+import badgerlog.conversion.LongMapping;
+import badgerlog.conversion.Mapping;
+import badgerlog.conversion.Mappings;
 import badgerlog.utilities.TypeParser;
+import edu.wpi.first.networktables.PubSubOption;
 import edu.wpi.first.util.struct.Struct;
 import edu.wpi.first.util.struct.StructFetcher;
 import edu.wpi.first.util.struct.StructSerializable;
@@ -14,9 +21,28 @@ import java.util.Optional;
  * Creates a {@link NTEntry} from a key, value, and configuration.
  */
 public final class EntryFactory {
+    private static final PubSubOption[] NO_OPTIONS = new PubSubOption[0];
+
     private EntryFactory() {
     }
 
+    /**
+     * Creates the options for the subscriber of an entry. A sample queue size in the configuration keeps every value
+     * sent by publishers, including duplicates, for {@link NTEntry#readSamples}.
+     *
+     * @param config the configuration of the entry
+     *
+     * @return the options to subscribe with
+     */
+    static PubSubOption[] subscriberOptions(Configuration config) {
+        int queueSize = config.getSampleQueueSize();
+        if (queueSize <= 0) {
+            return NO_OPTIONS;
+        }
+        return new PubSubOption[] {PubSubOption.sendAll(true), PubSubOption.keepDuplicates(true), PubSubOption
+                .pollStorage(queueSize)};
+    }
+
     /**
      * Creates a new {@link NTEntry} from the specified key, value, and configuration.
      *
@@ -40,9 +66,9 @@ public final class EntryFactory {
                         .getStructType();
 
                 return switch (option) {
-                    case STRUCT -> new StructValueEntry<>(key, struct, value);
-                    case SUB_TABLE -> new SubtableEntry<>(key, struct, value);
-                    case MAPPING -> new ValueEntry<>(key, valueTypeClass, value, config);
+                    case STRUCT -> new StructValueEntry<>(key, struct, value, config);
+                    case SUB_TABLE -> new SubtableEntry<>(key, struct, value, config);
+                    case MAPPING -> createValueEntry(key, valueTypeClass, value, config);
                 };
             }
         }
@@ -55,10 +81,42 @@ public final class EntryFactory {
             Struct<T> generatedStruct = (Struct<T>) config.getAutoGeneratedStruct();
 
             if (generatedStruct != null) {
-                return option == StructType.SUB_TABLE ? new SubtableEntry<>(key, generatedStruct, value) : new StructValueEntry<>(key, generatedStruct, value);
+                return option == StructType.SUB_TABLE ? new SubtableEntry<>(key, generatedStruct, value, config) : new StructValueEntry<>(key, generatedStruct, value, config);
             }
         }
 
-        return new ValueEntry<>(key, valueTypeClass, value, config);
+        return createValueEntry(key, valueTypeClass, value, config);
+    }
+
+    /**
+     * Creates a new {@link NTEntry} that uses the Mapping system, choosing a specialized entry when the
+     * {@link Mapping} for the type converts to a primitive.
+     *
+     * @param key the key on NetworkTables
+     * @param type the class type of the {@code initialValue}
+     * @param initialValue the value to initially publish to NetworkTables
+     * @param config the configuration to use for the Mapping
+     * @param <T> the type to use
+     *
+     * @return a new NTEntry that uses the Mapping for the type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> NTEntry<T> createValueEntry(String key, Class<T> type, T initialValue, Configuration config) {
+        Mapping<?, ?> mapping = Mappings.findMapping(type);
+
+        if (mapping instanceof DoubleMapping<?> doubleMapping) {
+            return new DoubleValueEntry<>(key, type, (DoubleMapping<T>) doubleMapping, initialValue, config);
+        }
+        if (mapping instanceof BooleanMapping<?> booleanMapping) {
+            return new BooleanValueEntry<>(key, type, (BooleanMapping<T>) booleanMapping, initialValue, config);
+        }
+        if (mapping instanceof LongMapping<?> longMapping) {
+            return new IntegerValueEntry<>(key, type, (LongMapping<T>) longMapping, initialValue, config);
+        }
+        if (mapping instanceof FloatMapping<?> floatMapping) {
+            return new FloatValueEntry<>(key, type, (FloatMapping<T>) floatMapping, initialValue, config);
+        }
+
+        return new ValueEntry<>(key, type, initialValue, config);
     }
 }
@@ -0,0 +1,57 @@
+package badgerlog.networktables;
+
+import badgerlog.utilities.ErrorLogger;
+
+/**
+ * A resolved entry for a key, which sets and gets values without looking up the key again.
+ *
+ * <p>A handle stops working if the entry at its key is replaced or removed.</p>
+ *
+ * @param <T> the type of the values
+ */
+public final class EntryHandle<T> {
+    private final NTEntry<T> entry;
+
+    /**
+     * Constructs a new EntryHandle for an entry.
+     *
+     * @param entry the entry to set and get values with
+     */
+    public EntryHandle(NTEntry<T> entry) {
+        this.entry = entry;
+    }
+
+    /**
+     * Publishes a value to NetworkTables.
+     *
+     * @param value the value to publish
+     */
+    public void set(T value) {
+        if (value == null) {
+            ErrorLogger.customError(String.format("Attempted publish of a null value. Key: %s", entry.getKey()));
+            return;
+        }
+        entry.publishValue(value);
+    }
+
+    /**
+     * {@return the value on NetworkTables}
+     */
+    public T get() {
+        return entry.retrieveValue();
+    }
+
+    /**
+     * {@return the key on NetworkTables}
+     */
+    public String getKey() {
+        return entry.getKey();
+    }
+
+    /**
+     * {@return the entry of the handle}
+     */
+    public NTEntry<T> getEntry() {
+        return entry;
+    }
+}
@@ -0,0 +1,44 @@
+package badgerlog.networktables;
+
+/**
+ * A resolved {@link FloatValueEntry}, which sets and gets values as a {@code float}, without boxing or looking up the
+ * key again.
+ *
+ * <p>Values are set and read as they are on NetworkTables, without being converted by the mapping of the entry. A
+ * handle stops working if the entry at its key is replaced or removed.</p>
+ */
+public final class FloatHandle {
+    private final FloatValueEntry<?> entry;
+
+    /**
+     * Constructs a new FloatHandle for an entry.
+     *
+     * @param entry the entry to set and get values with
+     */
+    public FloatHandle(FloatValueEntry<?> entry) {
+        this.entry = entry;
+    }
+
+    /**
+     * Publishes a value to NetworkTables.
+     *
+     * @param value the value to publish
+     */
+    public void set(float value) {
+        entry.publishFloat(value);
+    }
+
+    /**
+     * {@return the value on NetworkTables}
+     */
+    public float get() {
+        return entry.retrieveFloat();
+    }
+
+    /**
+     * {@return the key on NetworkTables}
+     */
+    public String getKey() {
+        return entry.getKey();
+    }
+}
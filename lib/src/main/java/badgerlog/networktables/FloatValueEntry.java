@@ -0,0 +1,102 @@
+package badgerlog.networktables;
+
+import badgerlog.BadgerLog;
+import badgerlog.annotations.configuration.Configuration;
+import badgerlog.conversion.FloatMapping;
+import edu.wpi.first.networktables.FloatEntry;
+import edu.wpi.first.networktables.TimestampedFloat;
+
+/**
+ * Wraps a {@link FloatEntry}, for types with a {@link FloatMapping}. Values are converted to and from
+ * a {@code float} without boxing, and without creating a {@code NetworkTableValue}.
+ *
+ * @param <T> the type to use. Does not need to be a valid NetworkTableType
+ */
+public final class FloatValueEntry<T> extends PrimitiveValueEntry<T> {
+
+    private final FloatMapping<T> mapping;
+    private final FloatEntry entry;
+
+    /**
+     * Constructs a new FloatValueEntry, creating the entry on NetworkTables.
+     *
+     * <p>This initially publishes the {@code initialValue} to make the entry appear on NetworkTables. Unchanged values
+     * are not published again if the configuration has change detection enabled.</p>
+     *
+     * @param key the key on NetworkTables
+     * @param valueClass the class type of the {@code initialValue}
+     * @param mapping the mapping for the {@code valueClass}, which is bound to the {@code config}
+     * @param initialValue the value to initially publish to NetworkTables
+     * @param config the configuration to use for the Mapping
+     */
+    public FloatValueEntry(String key, Class<T> valueClass, FloatMapping<T> mapping, T initialValue, Configuration config) {
+        super(key, valueClass, config, "float", mapping.getStartType() == float.class);
+        this.mapping = mapping.bind(config);
+        this.entry = BadgerLog.defaultTable.getFloatTopic(key).getEntry(0.0f, EntryFactory.subscriberOptions(config));
+
+        publishValue(initialValue);
+    }
+
+    @Override
+    public void publishValue(T value) {
+        publishFloat(mapping.toFloat(value, config));
+    }
+
+    @Override
+    T retrieveConverted() {
+        return mapping.fromFloat(retrieveFloat(), config);
+    }
+
+    @Override
+    public long getLastChange() {
+        return entry.getLastChange();
+    }
+
+    @Override
+    public int readSamples(SampleConsumer<T> consumer) {
+        TimestampedFloat[] samples = entry.readQueue();
+        for (TimestampedFloat sample : samples) {
+            consumer.accept(mapping.fromFloat(sample.value, config), sample.serverTime);
+            if (acceptInputSample(sample.timestamp)) {
+                inputLogEntry.appendFloat(sample.value, sample.timestamp);
+            }
+        }
+        return samples.length;
+    }
+
+    /**
+     * Publishes a value that has already been converted by the mapping.
+     *
+     * @param value the NetworkTables value to publish
+     */
+    public void publishFloat(float value) {
+        if (skipUnchanged(Float.floatToRawIntBits(value))) {
+            return;
+        }
+
+        entry.set(value);
+        logEntry.appendFloat(value);
+        recordPublished();
+    }
+
+    /**
+     * Gets the last value retrieved from NetworkTables, without converting it with the mapping.
+     *
+     * @return the last NetworkTables value
+     */
+    public float retrieveFloat() {
+        float value = entry.get();
+        rememberRetrieved(Float.floatToRawIntBits(value));
+        long change = acceptInputChange();
+        if (change != NO_CHANGE) {
+            inputLogEntry.appendFloat(value, change);
+        }
+        return value;
+    }
+
+    @Override
+    void closeEntry() {
+        entry.unpublish();
+        entry.close();
+    }
+}
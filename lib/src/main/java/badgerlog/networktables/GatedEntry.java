@@ -0,0 +1,82 @@
+package badgerlog.networktables;
+
+/**
+ * Wraps a publisher entry, and skips publishing while its {@link SubscriberTracker.Gate} is closed, before the value
+ * is converted.
+ *
+ * <p>The latest value skipped while the gate is closed is kept, and published on the first update after the gate
+ * opens, so a field that is written rarely is not left stale for a new subscriber.</p>
+ *
+ * @param <T> the type of the wrapped entry
+ */
+public final class GatedEntry<T> implements NTEntry<T>, NTUpdatable {
+    private final NTEntry<T> entry;
+    private final SubscriberTracker.Gate gate;
+
+    private T pendingValue;
+    private boolean hasPendingValue = false;
+
+    /**
+     * Constructs a new GatedEntry, using the gate for the key of the entry.
+     *
+     * @param entry the entry to publish to
+     */
+    public GatedEntry(NTEntry<T> entry) {
+        this.entry = entry;
+        this.gate = SubscriberTracker.getGate(entry.getKey());
+    }
+
+    @Override
+    public void publishValue(T value) {
+        if (!gate.isOpen()) {
+            pendingValue = value;
+            hasPendingValue = true;
+            PublishStatistics.recordGated();
+            return;
+        }
+        clearPendingValue();
+        entry.publishValue(value);
+    }
+
+    /**
+     * Publishes the latest value skipped while the gate was closed, once the gate is open.
+     */
+    @Override
+    public void update() {
+        if (hasPendingValue && gate.isOpen()) {
+            T value = pendingValue;
+            clearPendingValue();
+            entry.publishValue(value);
+        }
+    }
+
+    private void clearPendingValue() {
+        pendingValue = null;
+        hasPendingValue = false;
+    }
+
+    @Override
+    public T retrieveValue() {
+        return entry.retrieveValue();
+    }
+
+    @Override
+    public long getLastChange() {
+        return entry.getLastChange();
+    }
+
+    @Override
+    public String getKey() {
+        return entry.getKey();
+    }
+
+    @Override
+    public Class<?> getType() {
+        return entry.getType();
+    }
+
+    @Override
+    public void close() throws Exception {
+        entry.close();
+    }
+}
@@ -0,0 +1,44 @@
+package badgerlog.networktables;
+
+/**
+ * A resolved {@link IntegerValueEntry}, which sets and gets values as a {@code long}, without boxing or looking up the
+ * key again.
+ *
+ * <p>Values are set and read as they are on NetworkTables, without being converted by the mapping of the entry. A
+ * handle stops working if the entry at its key is replaced or removed.</p>
+ */
+public final class IntegerHandle {
+    private final IntegerValueEntry<?> entry;
+
+    /**
+     * Constructs a new IntegerHandle for an entry.
+     *
+     * @param entry the entry to set and get values with
+     */
+    public IntegerHandle(IntegerValueEntry<?> entry) {
+        this.entry = entry;
+    }
+
+    /**
+     * Publishes a value to NetworkTables.
+     *
+     * @param value the value to publish
+     */
+    public void set(long value) {
+        entry.publishLong(value);
+    }
+
+    /**
+     * {@return the value on NetworkTables}
+     */
+    public long get() {
+        return entry.retrieveLong();
+    }
+
+    /**
+     * {@return the key on NetworkTables}
+     */
+    public String getKey() {
+        return entry.getKey();
+    }
+}
@@ -0,0 +1,102 @@
+package badgerlog.networktables;
+
+import badgerlog.BadgerLog;
+import badgerlog.annotations.configuration.Configuration;
+import badgerlog.conversion.LongMapping;
+import edu.wpi.first.networktables.IntegerEntry;
+import edu.wpi.first.networktables.TimestampedInteger;
+
+/**
+ * Wraps a {@link IntegerEntry}, for types with a {@link LongMapping}. Values are converted to and from
+ * an integer without boxing, and without creating a {@code NetworkTableValue}.
+ *
+ * @param <T> the type to use. Does not need to be a valid NetworkTableType
+ */
+public final class IntegerValueEntry<T> extends PrimitiveValueEntry<T> {
+
+    private final LongMapping<T> mapping;
+    private final IntegerEntry entry;
+
+    /**
+     * Constructs a new IntegerValueEntry, creating the entry on NetworkTables.
+     *
+     * <p>This initially publishes the {@code initialValue} to make the entry appear on NetworkTables. Unchanged values
+     * are not published again if the configuration has change detection enabled.</p>
+     *
+     * @param key the key on NetworkTables
+     * @param valueClass the class type of the {@code initialValue}
+     * @param mapping the mapping for the {@code valueClass}, which is bound to the {@code config}
+     * @param initialValue the value to initially publish to NetworkTables
+     * @param config the configuration to use for the Mapping
+     */
+    public IntegerValueEntry(String key, Class<T> valueClass, LongMapping<T> mapping, T initialValue, Configuration config) {
+        super(key, valueClass, config, "int64", mapping.getStartType() == long.class);
+        this.mapping = mapping.bind(config);
+        this.entry = BadgerLog.defaultTable.getIntegerTopic(key).getEntry(0L, EntryFactory.subscriberOptions(config));
+
+        publishValue(initialValue);
+    }
+
+    @Override
+    public void publishValue(T value) {
+        publishLong(mapping.toLong(value, config));
+    }
+
+    @Override
+    T retrieveConverted() {
+        return mapping.fromLong(retrieveLong(), config);
+    }
+
+    @Override
+    public long getLastChange() {
+        return entry.getLastChange();
+    }
+
+    @Override
+    public int readSamples(SampleConsumer<T> consumer) {
+        TimestampedInteger[] samples = entry.readQueue();
+        for (TimestampedInteger sample : samples) {
+            consumer.accept(mapping.fromLong(sample.value, config), sample.serverTime);
+            if (acceptInputSample(sample.timestamp)) {
+                inputLogEntry.appendLong(sample.value, sample.timestamp);
+            }
+        }
+        return samples.length;
+    }
+
+    /**
+     * Publishes a value that has already been converted by the mapping.
+     *
+     * @param value the NetworkTables value to publish
+     */
+    public void publishLong(long value) {
+        if (skipUnchanged(value)) {
+            return;
+        }
+
+        entry.set(value);
+        logEntry.appendLong(value);
+        recordPublished();
+    }
+
+    /**
+     * Gets the last value retrieved from NetworkTables, without converting it with the mapping.
+     *
+     * @return the last NetworkTables value
+     */
+    public long retrieveLong() {
+        long value = entry.get();
+        rememberRetrieved(value);
+        long change = acceptInputChange();
+        if (change != NO_CHANGE) {
+            inputLogEntry.appendLong(value, change);
+        }
+        return value;
+    }
+
+    @Override
+    void closeEntry() {
+        entry.unpublish();
+        entry.close();
+    }
+}
@@ -0,0 +1,157 @@
+package badgerlog.networktables;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the parts of MessagePack needed for the NetworkTables meta topics, which are maps, arrays, strings and
+ * booleans. Every other value can be skipped.
+ *
+ * <p>Reading past the end of the data, or reading a value as the wrong type, throws an
+ * {@link IllegalArgumentException}.</p>
+ */
+final class MsgPackReader {
+    private final byte[] data;
+    private int position = 0;
+
+    MsgPackReader(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * {@return the number of elements in the array at the current position}
+     */
+    int readArrayHeader() {
+        int format = readByte();
+        if ((format & 0xF0) == 0x90) return format & 0x0F;
+        if (format == 0xDC) return readUnsigned(2);
+        if (format == 0xDD) return readUnsigned(4);
+        throw new IllegalArgumentException("Expected an array, found format " + Integer.toHexString(format));
+    }
+
+    /**
+     * {@return the number of key and value pairs in the map at the current position}
+     */
+    int readMapHeader() {
+        int format = readByte();
+        if ((format & 0xF0) == 0x80) return format & 0x0F;
+        if (format == 0xDE) return readUnsigned(2);
+        if (format == 0xDF) return readUnsigned(4);
+        throw new IllegalArgumentException("Expected a map, found format " + Integer.toHexString(format));
+    }
+
+    /**
+     * {@return the string at the current position}
+     */
+    String readString() {
+        int format = readByte();
+        int length;
+        if ((format & 0xE0) == 0xA0) length = format & 0x1F;
+        else if (format == 0xD9) length = readUnsigned(1);
+        else if (format == 0xDA) length = readUnsigned(2);
+        else if (format == 0xDB) length = readUnsigned(4);
+        else throw new IllegalArgumentException("Expected a string, found format " + Integer.toHexString(format));
+
+        checkRemaining(length);
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * {@return the boolean at the current position}
+     */
+    boolean readBoolean() {
+        int format = readByte();
+        if (format == 0xC2) return false;
+        if (format == 0xC3) return true;
+        throw new IllegalArgumentException("Expected a boolean, found format " + Integer.toHexString(format));
+    }
+
+    /**
+     * {@return whether the value at the current position is a map}
+     */
+    boolean isMap() {
+        checkRemaining(1);
+        int format = data[position] & 0xFF;
+        return (format & 0xF0) == 0x80 || format == 0xDE || format == 0xDF;
+    }
+
+    /**
+     * Skips the value at the current position, including every element of an array or map.
+     */
+    void skip() {
+        int format = readByte();
+        if (format <= 0x7F || format >= 0xE0 || format == 0xC0 || format == 0xC2 || format == 0xC3) {
+            return;
+        }
+        if ((format & 0xF0) == 0x80) {
+            skipElements(2 * (format & 0x0F));
+            return;
+        }
+        if ((format & 0xF0) == 0x90) {
+            skipElements(format & 0x0F);
+            return;
+        }
+        if ((format & 0xE0) == 0xA0) {
+            skipBytes(format & 0x1F);
+            return;
+        }
+
+        switch (format) {
+            case 0xCC, 0xD0 -> skipBytes(1);
+            case 0xCD, 0xD1 -> skipBytes(2);
+            case 0xCA, 0xCE, 0xD2 -> skipBytes(4);
+            case 0xCB, 0xCF, 0xD3 -> skipBytes(8);
+            case 0xC4, 0xD9 -> skipBytes(readUnsigned(1));
+            case 0xC5, 0xDA -> skipBytes(readUnsigned(2));
+            case 0xC6, 0xDB -> skipBytes(readUnsigned(4));
+            case 0xD4 -> skipBytes(2);
+            case 0xD5 -> skipBytes(3);
+            case 0xD6 -> skipBytes(5);
+            case 0xD7 -> skipBytes(9);
+            case 0xD8 -> skipBytes(17);
+            case 0xC7 -> skipBytes(readUnsigned(1) + 1);
+            case 0xC8 -> skipBytes(readUnsigned(2) + 1);
+            case 0xC9 -> skipBytes(readUnsigned(4) + 1);
+            case 0xDC -> skipElements(readUnsigned(2));
+            case 0xDD -> skipElements(readUnsigned(4));
+            case 0xDE -> skipElements(2 * readUnsigned(2));
+            case 0xDF -> skipElements(2 * readUnsigned(4));
+            default -> throw new IllegalArgumentException("Unknown format " + Integer.toHexString(format));
+        }
+    }
+
+    private void skipElements(int count) {
+        for (int i = 0; i < count; i++) {
+            skip();
+        }
+    }
+
+    private void skipBytes(int length) {
+        checkRemaining(length);
+        position += length;
+    }
+
+    private int readByte() {
+        checkRemaining(1);
+        return data[position++] & 0xFF;
+    }
+
+    private int readUnsigned(int length) {
+        checkRemaining(length);
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = value << 8 | (data[position++] & 0xFF);
+        }
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Length " + value + " is too large");
+        }
+        return (int) value;
+    }
+
+    private void checkRemaining(int length) {
+        if (length < 0 || position + length > data.length) {
+            throw new IllegalArgumentException("Unexpected end of data at " + position);
+        }
+    }
+}
@@ -34,4 +34,29 @@ public interface NTEntry<T> extends AutoCloseable, NT {
      * @return the type before NetworkTables
      */
     Class<?> getType();
+
+    /**
+     * Gets the time of the last change to the value on NetworkTables, from either a remote update or a local publish.
+     * Users of the entry can compare it with an earlier time, to only retrieve the value once it has changed.
+     *
+     * @return the time of the last change in microseconds, or -1 if the entry does not track changes
+     */
+    default long getLastChange() {
+        return -1;
+    }
+
+    /**
+     * Reads every value received since the last call, oldest first. Values are only queued if the entry was created
+     * with a sample queue size, otherwise only the latest new value is kept. Entries that cannot queue values, such as
+     * subtable entries, read nothing.
+     *
+     * @param consumer receives each converted value with the time it was set
+     *
+     * @return the number of values read
+     *
+     * @see badgerlog.annotations.configuration.Configuration#withSampleQueueSize(int)
+     */
+    default int readSamples(SampleConsumer<T> consumer) {
+        return 0;
+    }
 }
@@ -0,0 +1,163 @@
+package badgerlog.networktables;
+
+import badgerlog.annotations.configuration.Configuration;
+import badgerlog.datalog.DataLogSink;
+import badgerlog.datalog.LogEntry;
+
+/**
+ * The shared parts of the entries for a single primitive on NetworkTables, such as {@link DoubleValueEntry}.
+ *
+ * <p>Holds the change detection, the output and input log entries, and the converted value that is reused until
+ * NetworkTables reports a change. The subclasses only convert values with their mapping and access their typed
+ * entry, so that values are never boxed. Change detection works on the raw bits of the primitive.</p>
+ *
+ * @param <T> the type to use. Does not need to be a valid NetworkTableType
+ */
+abstract class PrimitiveValueEntry<T> implements NTEntry<T> {
+    /**
+     * Returned by {@link #acceptInputChange()} when a retrieved value should not be logged.
+     */
+    static final long NO_CHANGE = -1;
+
+    final Configuration config;
+    final LogEntry logEntry;
+    final LogEntry inputLogEntry;
+
+    private final String key;
+    private final Class<?> type;
+    private final ChangeDetector changeDetector;
+    private final boolean unmapped;
+
+    private T lastValue;
+    private long lastValueChange = -1;
+
+    /**
+     * Creates the shared parts of an entry. The subclass creates its entry on NetworkTables and publishes the initial
+     * value.
+     *
+     * @param key the key on NetworkTables
+     * @param type the class type of the values
+     * @param config the configuration of the entry
+     * @param logType the WPILOG type string of the primitive, such as {@code double}
+     * @param unmapped whether the mapping converts the primitive to itself
+     */
+    PrimitiveValueEntry(String key, Class<?> type, Configuration config, String logType, boolean unmapped) {
+        this.key = key;
+        this.type = type;
+        this.config = config;
+        this.unmapped = unmapped;
+        this.changeDetector = config.isChangeDetection() ? new ChangeDetector() : null;
+        this.logEntry = DataLogSink.createEntry(key, logType);
+        this.inputLogEntry = DataLogSink.createInputEntry(key, logType);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The converted value is reused until NetworkTables reports a change, so unchanged values are not converted
+     * again.</p>
+     */
+    @Override
+    public final T retrieveValue() {
+        long change = getLastChange();
+        if (lastValue == null || change != lastValueChange) {
+            lastValue = retrieveConverted();
+            lastValueChange = change;
+        }
+        return lastValue;
+    }
+
+    /**
+     * Checks if the mapping converts the primitive to itself, such as for a {@code double} field with a
+     * {@link DoubleValueEntry}. The typed publish and retrieve methods can then be used with the value of the field
+     * directly, so that the value is not converted or boxed.
+     *
+     * @return whether the mapping converts the primitive to itself
+     */
+    public final boolean isUnmapped() {
+        return unmapped;
+    }
+
+    /**
+     * {@return the value on NetworkTables, converted by the mapping of the entry}
+     */
+    abstract T retrieveConverted();
+
+    /**
+     * Closes the typed entry on NetworkTables.
+     */
+    abstract void closeEntry();
+
+    /**
+     * Checks a value about to be published against the last value, recording a skip if it has not changed.
+     *
+     * @param bits the raw bits of the value about to be published
+     *
+     * @return whether the value has not changed, and should not be published
+     */
+    final boolean skipUnchanged(long bits) {
+        if (changeDetector != null && !changeDetector.hasChanged(bits)) {
+            PublishStatistics.recordSkip();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Remembers a value retrieved from NetworkTables for change detection.
+     *
+     * @param bits the raw bits of the retrieved value
+     */
+    final void rememberRetrieved(long bits) {
+        if (changeDetector != null) {
+            changeDetector.remember(bits);
+        }
+    }
+
+    /**
+     * Records a value that was just published, so that it is not logged again as an input when it is retrieved.
+     */
+    final void recordPublished() {
+        if (inputLogEntry.isActive()) {
+            inputLogEntry.acceptChange(getLastChange());
+        }
+        PublishStatistics.recordPublish();
+    }
+
+    /**
+     * {@return the time of the value on NetworkTables if it was not logged as an input yet, or {@link #NO_CHANGE}}
+     */
+    final long acceptInputChange() {
+        if (!inputLogEntry.isActive()) {
+            return NO_CHANGE;
+        }
+        long change = getLastChange();
+        return inputLogEntry.acceptChange(change) ? change : NO_CHANGE;
+    }
+
+    /**
+     * {@return whether a sample at a time should be logged as an input}
+     *
+     * @param timestamp the time of the sample in microseconds
+     */
+    final boolean acceptInputSample(long timestamp) {
+        return inputLogEntry.isActive() && inputLogEntry.acceptChange(timestamp);
+    }
+
+    @Override
+    public final String getKey() {
+        return key;
+    }
+
+    @Override
+    public final Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public final void close() {
+        logEntry.finish();
+        inputLogEntry.finish();
+        closeEntry();
+    }
+}
@@ -0,0 +1,21 @@
+package badgerlog.networktables;
+
+/**
+ * Controls when publisher entries publish their values, to skip the work for values nobody is looking at.
+ *
+ * <p>Entries always publish while the {@code DataLogSink} is recording, so logs stay complete.</p>
+ */
+public enum PublishMode {
+    /**
+     * Entries always publish
+     */
+    ALWAYS,
+    /**
+     * Entries only publish while a remote client subscribes to their topic, or one of their nested topics
+     */
+    WHILE_SUBSCRIBED,
+    /**
+     * Entries only publish while any remote client is connected
+     */
+    WHILE_CONNECTED
+}
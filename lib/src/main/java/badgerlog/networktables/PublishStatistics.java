@@ -0,0 +1,68 @@
+package badgerlog.networktables;
+
+/**
+ * Counts the values published to NetworkTables by entries, the values skipped by a {@link ChangeDetector} because they
+ * were unchanged, and the values skipped because nobody was subscribed, as decided by the {@link PublishMode}.
+ *
+ * <p>The counts are not synchronized, and are only exact when entries are published from a single thread, such as
+ * the main robot thread.</p>
+ */
+public final class PublishStatistics {
+    private static long publishedCount = 0;
+    private static long skippedCount = 0;
+    private static long gatedCount = 0;
+
+    private PublishStatistics() {
+    }
+
+    /**
+     * Records a value being published to NetworkTables.
+     */
+    public static void recordPublish() {
+        publishedCount++;
+    }
+
+    /**
+     * Records a value being skipped because it was unchanged.
+     */
+    public static void recordSkip() {
+        skippedCount++;
+    }
+
+    /**
+     * Records a value not being published, or not being computed at all, because nobody was subscribed.
+     */
+    public static void recordGated() {
+        gatedCount++;
+    }
+
+    /**
+     * {@return the number of values published to NetworkTables}
+     */
+    public static long getPublishedCount() {
+        return publishedCount;
+    }
+
+    /**
+     * {@return the number of values skipped because they were unchanged}
+     */
+    public static long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * {@return the number of values not published because nobody was subscribed}
+     */
+    public static long getGatedCount() {
+        return gatedCount;
+    }
+
+    /**
+     * Resets every count back to zero.
+     */
+    public static void reset() {
+        publishedCount = 0;
+        skippedCount = 0;
+        gatedCount = 0;
+    }
+}
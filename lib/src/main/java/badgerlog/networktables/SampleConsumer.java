@@ -0,0 +1,19 @@
+package badgerlog.networktables;
+
+/**
+ * Receives every value of an entry that was queued on NetworkTables, along with the time it was set.
+ *
+ * @param <T> the type of the values
+ *
+ * @see NTEntry#readSamples(SampleConsumer)
+ */
+@FunctionalInterface
+public interface SampleConsumer<T> {
+    /**
+     * Receives a single queued value.
+     *
+     * @param value the converted value
+     * @param serverTimeMicros the time the value was set, on the NetworkTables server clock in microseconds
+     */
+    void accept(T value, long serverTimeMicros);
+}
@@ -0,0 +1,20 @@
+package badgerlog.networktables;
+
+/**
+ * Passes every queued value of an entry to a {@link SampleConsumer} each time it is updated.
+ *
+ * @param entry the entry to read samples from, which should have been created with a sample queue size
+ * @param consumer the consumer of every sample
+ * @param <T> the type of the entry
+ */
+public record SampleSubscriber<T>(NTEntry<T> entry, SampleConsumer<T> consumer) implements NTUpdatable, AutoCloseable {
+    @Override
+    public void update() {
+        entry.readSamples(consumer);
+    }
+
+    @Override
+    public void close() throws Exception {
+        entry.close();
+    }
+}
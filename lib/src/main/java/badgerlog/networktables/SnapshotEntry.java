@@ -0,0 +1,68 @@
+package badgerlog.networktables;
+
+/**
+ * Wraps another entry, and keeps the last value retrieved from it, so that reads do not go to NetworkTables.
+ *
+ * <p>The value is retrieved once each time the entry is updated by {@code BadgerLog.update()}. Publishing a value
+ * replaces the snapshot, so the value that was set is read back until the next update.</p>
+ *
+ * @param <T> the type of the wrapped entry
+ */
+public final class SnapshotEntry<T> implements NTEntry<T>, NTUpdatable {
+    private final NTEntry<T> entry;
+    private T value;
+
+    /**
+     * Constructs a new SnapshotEntry, taking the first snapshot immediately.
+     *
+     * @param entry the entry to take snapshots of
+     */
+    public SnapshotEntry(NTEntry<T> entry) {
+        this.entry = entry;
+        this.value = entry.retrieveValue();
+    }
+
+    @Override
+    public void update() {
+        value = entry.retrieveValue();
+    }
+
+    @Override
+    public void publishValue(T value) {
+        entry.publishValue(value);
+        this.value = value;
+    }
+
+    /**
+     * {@return the value from the last update, or the last published value if it is newer}
+     */
+    @Override
+    public T retrieveValue() {
+        return value;
+    }
+
+    @Override
+    public long getLastChange() {
+        return entry.getLastChange();
+    }
+
+    @Override
+    public int readSamples(SampleConsumer<T> consumer) {
+        return entry.readSamples(consumer);
+    }
+
+    @Override
+    public String getKey() {
+        return entry.getKey();
+    }
+
+    @Override
+    public Class<?> getType() {
+        return entry.getType();
+    }
+
+    @Override
+    public void close() throws Exception {
+        entry.close();
+    }
+}
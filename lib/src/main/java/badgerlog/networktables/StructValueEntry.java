@@ -1,44 +1,156 @@
 package badgerlog.networktables;
 
 import badgerlog.BadgerLog;
-import edu.wpi.first.networktables.StructEntry;
+import badgerlog.annotations.configuration.Configuration;
+import badgerlog.datalog.DataLogSink;
+import badgerlog.datalog.LogEntry;
+import edu.wpi.first.networktables.RawPublisher;
+import edu.wpi.first.networktables.StructSubscriber;
+import edu.wpi.first.networktables.StructTopic;
+import edu.wpi.first.networktables.TimestampedObject;
 import edu.wpi.first.util.struct.Struct;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
- * Wraps a {@link StructEntry} on NetworkTables. An implementation of the {@code StructType.STRUCT} for NetworkTables.
+ * Wraps a struct topic on NetworkTables. An implementation of the {@code StructType.STRUCT} for NetworkTables.
+ *
+ * <p>Values are packed once when published, and the same bytes are used for change detection, published through a
+ * raw publisher with the type of the struct, and appended to the log.</p>
  *
  * @param <T> the type to use. Does not need to be a valid NetworkTableType
  */
 public final class StructValueEntry<T> implements NTEntry<T> {
 
-    private final StructEntry<T> entry;
+    private final StructSubscriber<T> entry;
+    private final RawPublisher publisher;
     private final String key;
     private final Class<?> type;
 
+    private final Struct<T> struct;
+    private final ByteBuffer buffer;
+    private final ChangeDetector changeDetector;
+    private final LogEntry logEntry;
+    private final LogEntry inputLogEntry;
+
+    private T lastValue;
+    private long lastValueChange = -1;
+
     /**
      * Constructs a new StructValueEntry and creates the entry on NetworkTables.
      *
-     * <p>This initially publishes the {@code initialValue} to make the entry appear on NetworkTables.</p>
+     * <p>This initially publishes the {@code initialValue} to make the entry appear on NetworkTables. If the
+     * configuration has change detection enabled, values with the same packed bytes as the last value are not
+     * published again.</p>
      *
      * @param key the key on NetworkTables
      * @param struct the struct to use for the NetworkTables entry
      * @param initialValue the initial value to be published to NetworkTables
+     * @param config the configuration to use for the entry
      */
-    public StructValueEntry(String key, Struct<T> struct, T initialValue) {
+    public StructValueEntry(String key, Struct<T> struct, T initialValue, Configuration config) {
         this.key = key;
         this.type = initialValue.getClass();
-        entry = BadgerLog.defaultTable.getStructTopic(key, struct).getEntry(initialValue);
+        this.struct = struct;
+
+        this.buffer = createPackBuffer(struct);
+        this.changeDetector = config.isChangeDetection() ? new ChangeDetector() : null;
+        this.logEntry = DataLogSink.createStructEntry(key, struct);
+        this.inputLogEntry = DataLogSink.createStructInputEntry(key, struct);
+
+        StructTopic<T> topic = BadgerLog.defaultTable.getStructTopic(key, struct);
+        BadgerLog.defaultTable.getInstance().addSchema(struct);
+        entry = topic.subscribe(initialValue, EntryFactory.subscriberOptions(config));
+        publisher = BadgerLog.defaultTable.getRawTopic(key).publish("struct:" + struct.getTypeName());
         publishValue(initialValue);
     }
 
     @Override
     public void publishValue(T value) {
-        entry.set(value);
+        ByteBuffer packed = pack(buffer, struct, value);
+        if (changeDetector != null && !changeDetector.hasChanged(packed)) {
+            PublishStatistics.recordSkip();
+            return;
+        }
+
+        publisher.set(packed.array());
+        logEntry.appendRaw(packed.array());
+        if (inputLogEntry.isActive()) {
+            inputLogEntry.acceptChange(entry.getLastChange());
+        }
+        PublishStatistics.recordPublish();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the struct is immutable, the unpacked value is reused until NetworkTables reports a change, so unchanged
+     * values are not unpacked again.</p>
+     */
     @Override
     public T retrieveValue() {
-        return entry.get();
+        long change = entry.getLastChange();
+        if (lastValue != null && change == lastValueChange) {
+            return lastValue;
+        }
+
+        T value = entry.get();
+        if (changeDetector != null) {
+            changeDetector.remember(pack(buffer, struct, value));
+        }
+        if (inputLogEntry.isActive() && inputLogEntry.acceptChange(change)) {
+            inputLogEntry.appendStruct(struct, value, change);
+        }
+        if (struct.isImmutable()) {
+            lastValue = value;
+            lastValueChange = change;
+        }
+        return value;
+    }
+
+    @Override
+    public long getLastChange() {
+        return entry.getLastChange();
+    }
+
+    @Override
+    public int readSamples(SampleConsumer<T> consumer) {
+        TimestampedObject<T>[] samples = entry.readQueue();
+        for (TimestampedObject<T> sample : samples) {
+            consumer.accept(sample.value, sample.serverTime);
+            if (inputLogEntry.isActive() && inputLogEntry.acceptChange(sample.timestamp)) {
+                inputLogEntry.appendStruct(struct, sample.value, sample.timestamp);
+            }
+        }
+        return samples.length;
+    }
+
+    /**
+     * {@return a buffer for packing values of a struct, in the little-endian byte order of the struct format}
+     *
+     * @param struct the struct to pack values with
+     */
+    static ByteBuffer createPackBuffer(Struct<?> struct) {
+        return ByteBuffer.allocate(struct.getSize()).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Packs a value into a buffer from {@link #createPackBuffer(Struct)}, so that the whole backing array of the
+     * buffer is the packed value.
+     *
+     * @param buffer the buffer to pack the value into
+     * @param struct the struct to pack the value with
+     * @param value the value to pack
+     * @param <T> the type of the struct
+     *
+     * @return the buffer, flipped so the packed value is remaining
+     */
+    static <T> ByteBuffer pack(ByteBuffer buffer, Struct<T> struct, T value) {
+        buffer.clear();
+        struct.pack(buffer, value);
+        buffer.flip();
+        return buffer;
     }
 
     @Override
@@ -53,7 +165,9 @@ public final class StructValueEntry<T> implements NTEntry<T> {
 
     @Override
     public void close() {
-        entry.unpublish();
+        logEntry.finish();
+        inputLogEntry.finish();
+        publisher.close();
         entry.close();
     }
 }
@@ -0,0 +1,196 @@
+package badgerlog.networktables;
+
+import badgerlog.datalog.DataLogSink;
+import badgerlog.utilities.ErrorLogger;
+import edu.wpi.first.networktables.NetworkTableEvent;
+import edu.wpi.first.networktables.NetworkTableEvent.Kind;
+import edu.wpi.first.networktables.NetworkTableInstance;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks which BadgerLog topics have remote subscribers, so publisher entries can skip publishing values nobody is
+ * looking at, depending on the {@link PublishMode}.
+ *
+ * <p>The NetworkTables server publishes the subscriptions to every topic on a {@code $sub$<topic>} meta topic, as a
+ * MessagePack array with a map for each subscription. Subscriptions from the robot itself, which have an empty client
+ * name, and subscriptions that only list topics are not counted. Listening only starts once a mode other than
+ * {@link PublishMode#ALWAYS} is set.</p>
+ *
+ * <p>Listeners run on the NetworkTables thread, so a new subscriber reopens its entry's {@link Gate} before the next
+ * loop.</p>
+ */
+public final class SubscriberTracker {
+    private static final String META_PREFIX = "$sub$/BadgerLog/";
+
+    private static volatile PublishMode mode = PublishMode.ALWAYS;
+    private static volatile boolean connected = false;
+    private static boolean listening = false;
+
+    private static final Set<String> subscribedTopics = new HashSet<>();
+    private static final Map<String, Gate> gates = new HashMap<>();
+
+    private SubscriberTracker() {
+    }
+
+    /**
+     * Sets when publisher entries publish their values, and starts listening for subscribers if needed.
+     *
+     * @param publishMode the new publish mode
+     */
+    public static synchronized void setMode(PublishMode publishMode) {
+        mode = publishMode;
+        if (publishMode != PublishMode.ALWAYS && !listening) {
+            startListening();
+        }
+    }
+
+    /**
+     * {@return the current publish mode}
+     */
+    public static PublishMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the gate for an entry, which is open while the entry should publish. Gates are shared by every entry with
+     * the same key.
+     *
+     * @param key the key of the entry, relative to the BadgerLog table
+     *
+     * @return the gate for the key
+     */
+    public static synchronized Gate getGate(String key) {
+        Gate gate = gates.get(key);
+        if (gate == null) {
+            gate = new Gate();
+            for (String topic : subscribedTopics) {
+                if (isWithin(topic, key)) {
+                    gate.subscribedTopics++;
+                }
+            }
+            gates.put(key, gate);
+        }
+        return gate;
+    }
+
+    private static void startListening() {
+        NetworkTableInstance instance = NetworkTableInstance.getDefault();
+        instance.addListener(new String[] {META_PREFIX}, EnumSet
+                .of(Kind.kImmediate, Kind.kValueAll, Kind.kUnpublish), SubscriberTracker::handleSubscriptions);
+        instance.addConnectionListener(true, event -> connected = instance.getConnections().length > 0);
+        listening = true;
+    }
+
+    private static synchronized void handleSubscriptions(NetworkTableEvent event) {
+        String metaTopic;
+        boolean subscribed;
+        if (event.valueData != null) {
+            metaTopic = event.valueData.getTopic().getName();
+            subscribed = hasRemoteSubscription(event.valueData.value.getRaw());
+        } else if (event.topicInfo != null) {
+            metaTopic = event.topicInfo.name;
+            subscribed = false;
+        } else {
+            return;
+        }
+
+        String topic = metaTopic.substring(META_PREFIX.length());
+        boolean changed = subscribed ? subscribedTopics.add(topic) : subscribedTopics.remove(topic);
+        if (!changed) {
+            return;
+        }
+
+        int delta = subscribed ? 1 : -1;
+        String key = topic;
+        while (true) {
+            Gate gate = gates.get(key);
+            if (gate != null) {
+                gate.subscribedTopics += delta;
+            }
+
+            int separator = key.lastIndexOf('/');
+            if (separator < 0) {
+                break;
+            }
+            key = key.substring(0, separator);
+        }
+    }
+
+    /**
+     * Reads the subscriptions from the value of a meta topic.
+     *
+     * @param value the MessagePack value of the meta topic
+     *
+     * @return whether any subscription is from a remote client, and receives values
+     */
+    static boolean hasRemoteSubscription(byte[] value) {
+        try {
+            MsgPackReader reader = new MsgPackReader(value);
+            int subscriptions = reader.readArrayHeader();
+            boolean found = false;
+            for (int i = 0; i < subscriptions; i++) {
+                found |= isRemoteValueSubscription(reader);
+            }
+            return found;
+        } catch (IllegalArgumentException e) {
+            ErrorLogger.customError("Failed to read NetworkTables subscriptions: " + e.getMessage());
+            return true;
+        }
+    }
+
+    private static boolean isRemoteValueSubscription(MsgPackReader reader) {
+        boolean remote = false;
+        boolean topicsOnly = false;
+
+        int fields = reader.readMapHeader();
+        for (int i = 0; i < fields; i++) {
+            String field = reader.readString();
+            if (field.equals("client")) {
+                remote = !reader.readString().isEmpty();
+            } else if (field.equals("options") && reader.isMap()) {
+                int options = reader.readMapHeader();
+                for (int j = 0; j < options; j++) {
+                    if (reader.readString().equals("topicsonly")) {
+                        topicsOnly = reader.readBoolean();
+                    } else {
+                        reader.skip();
+                    }
+                }
+            } else {
+                reader.skip();
+            }
+        }
+        return remote && !topicsOnly;
+    }
+
+    private static boolean isWithin(String topic, String key) {
+        return topic.equals(key) || topic.length() > key.length() && topic.startsWith(key) && topic
+                .charAt(key.length()) == '/';
+    }
+
+    /**
+     * Whether an entry should publish, shared by every entry with the same key.
+     */
+    public static final class Gate {
+        private volatile int subscribedTopics = 0;
+
+        private Gate() {
+        }
+
+        /**
+         * {@return whether the entry should publish, given the publish mode}
+         */
+        public boolean isOpen() {
+            PublishMode current = mode;
+            if (current == PublishMode.ALWAYS || DataLogSink.isActive()) {
+                return true;
+            }
+            return current == PublishMode.WHILE_CONNECTED ? connected : subscribedTopics > 0;
+        }
+    }
+}
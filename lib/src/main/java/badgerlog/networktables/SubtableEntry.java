@@ -1,10 +1,11 @@
 package badgerlog.networktables;
 
+import badgerlog.annotations.configuration.Configuration;
 import edu.wpi.first.util.struct.Struct;
 import lombok.SneakyThrows;
 
 import java.nio.ByteBuffer;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * Implements the {@code StructType.SUB_TABLE} type for NetworkTables.
@@ -14,13 +15,14 @@ import java.util.Map;
  *
  * @param <T> the type to use. Does not need to be a valid NetworkTableType
  */
-@SuppressWarnings("unchecked")
 public final class SubtableEntry<T> implements NTEntry<T> {
 
     private final Struct<T> struct;
 
-    private final Map<NTEntry<?>, Subtables.PrimType<?>> entries;
+    private final Subtables.Leaf[] leaves;
     private final ByteBuffer buffer;
+    private final byte[] lastBytes;
+    private final boolean changeDetection;
 
     private final String key;
     private final Class<?> type;
@@ -28,27 +30,48 @@ public final class SubtableEntry<T> implements NTEntry<T> {
     /**
      * Constructs a new SubtableEntry, creating all the entries on NetworkTables under the specified key.
      *
-     * <p>This initially publishes the {@code initialValue} to make the entry appear on NetworkTables.</p>
+     * <p>This initially publishes the {@code initialValue} to make the entry appear on NetworkTables. If the
+     * configuration has change detection enabled, the bytes of each nested entry are compared with the last packed
+     * value, and only the nested entries whose bytes changed are published.</p>
      *
      * @param key the top level key to use on NetworkTables, all other entries will be nested under it.
      * @param struct the struct to use for creating the entries
      * @param initialValue the initial value to be published to NetworkTables
+     * @param config the configuration to use for the entries
      */
-    public SubtableEntry(String key, Struct<T> struct, T initialValue) {
+    public SubtableEntry(String key, Struct<T> struct, T initialValue, Configuration config) {
         this.struct = struct;
         this.key = key;
         this.type = initialValue.getClass();
 
         buffer = ByteBuffer.allocate(struct.getSize());
+        lastBytes = new byte[struct.getSize()];
+        changeDetection = config.isChangeDetection();
 
-        entries = Subtables.createEntries(struct, key, initialValue);
+        leaves = Subtables.createLeaves(struct, key, initialValue).toArray(Subtables.Leaf[]::new);
+
+        buffer.clear();
+        struct.pack(buffer, initialValue);
+        rememberBytes();
+    }
+
+    /**
+     * {@return the latest change to any of the nested entries}
+     */
+    @Override
+    public long getLastChange() {
+        long lastChange = -1;
+        for (Subtables.Leaf leaf : leaves) {
+            lastChange = Math.max(lastChange, leaf.entry().getLastChange());
+        }
+        return lastChange;
     }
 
     @SneakyThrows
     @Override
     public void close() {
-        for (NTEntry<?> entry : entries.keySet()) {
-            entry.close();
+        for (Subtables.Leaf leaf : leaves) {
+            leaf.entry().close();
         }
     }
 
@@ -57,30 +80,37 @@ public final class SubtableEntry<T> implements NTEntry<T> {
         buffer.clear();
         struct.pack(buffer, value);
 
-        buffer.rewind();
-        for (Map.Entry<NTEntry<?>, Subtables.PrimType<?>> entry : entries.entrySet()) {
-            Subtables.Unpacker<Object> unpacker = (Subtables.Unpacker<Object>) entry.getValue().unpacker();
-            NTEntry<Object> ntEntry = (NTEntry<Object>) entry.getKey();
-            ntEntry.publishValue(unpacker.unpack(buffer));
+        byte[] bytes = buffer.array();
+        for (Subtables.Leaf leaf : leaves) {
+            int offset = leaf.offset();
+            int end = offset + leaf.size();
+            if (changeDetection && Arrays.equals(bytes, offset, end, lastBytes, offset, end)) {
+                PublishStatistics.recordSkip();
+                continue;
+            }
+            leaf.publisher().access(buffer, offset);
         }
 
-        buffer.clear();
+        rememberBytes();
     }
 
     @Override
     public T retrieveValue() {
         buffer.clear();
 
-        for (Map.Entry<NTEntry<?>, Subtables.PrimType<?>> entry : entries.entrySet()) {
-            Subtables.Packer<Object> packer = (Subtables.Packer<Object>) entry.getValue().packer();
-            NTEntry<Object> ntEntry = (NTEntry<Object>) entry.getKey();
-            packer.pack(buffer, ntEntry.retrieveValue());
+        for (Subtables.Leaf leaf : leaves) {
+            leaf.retriever().access(buffer, leaf.offset());
         }
 
+        rememberBytes();
         buffer.rewind();
         return struct.unpack(buffer);
     }
 
+    private void rememberBytes() {
+        System.arraycopy(buffer.array(), 0, lastBytes, 0, lastBytes.length);
+    }
+
     @Override
     public String getKey() {
         return key;
@@ -3,158 +3,319 @@ package badgerlog.networktables;
 import badgerlog.annotations.configuration.Configuration;
 import badgerlog.utilities.ErrorLogger;
 import edu.wpi.first.util.struct.Struct;
-import lombok.SneakyThrows;
 
 import java.nio.ByteBuffer;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Creates subtables from a struct's schema.
+ *
+ * <p>Each schema is compiled once per struct type name and schema into a {@link Layout}, which is cached. Creating
+ * entries for another value of the same struct only creates the entries from the cached layout.</p>
  */
 public final class Subtables {
-    private static final HashMap<String, PrimType<?>> primitiveTypeMap = new HashMap<>();
+    private static final Map<String, PrimType> primitiveTypeMap = new HashMap<>();
     static {
-        addPrimType("int32", int.class, ByteBuffer::getInt, ByteBuffer::putInt);
-        addPrimType("float64", double.class, ByteBuffer::getDouble, ByteBuffer::putDouble);
-        addPrimType("float32", float.class, ByteBuffer::getFloat, ByteBuffer::putFloat);
-        addPrimType("bool", boolean.class, buffer -> buffer.get() != 0, (buffer, value) -> buffer
-                .put((byte) (value ? 1 : 0)));
-        addPrimType("char", char.class, ByteBuffer::getChar, ByteBuffer::putChar);
-        addPrimType("uint8", byte.class, ByteBuffer::get, ByteBuffer::put);
-        addPrimType("int16", short.class, ByteBuffer::getShort, ByteBuffer::putShort);
-        addPrimType("int64", long.class, ByteBuffer::getLong, ByteBuffer::putLong);
-        addPrimType("double", double.class, ByteBuffer::getDouble, ByteBuffer::putDouble);
-
+        addPrimType("bool", Kind.BOOLEAN, 1, false);
+        addPrimType("char", Kind.INTEGER, 1, true);
+        addPrimType("int8", Kind.INTEGER, 1, false);
+        addPrimType("uint8", Kind.INTEGER, 1, true);
+        addPrimType("int16", Kind.INTEGER, 2, false);
+        addPrimType("uint16", Kind.INTEGER, 2, true);
+        addPrimType("int32", Kind.INTEGER, 4, false);
+        addPrimType("uint32", Kind.INTEGER, 4, true);
+        addPrimType("int64", Kind.INTEGER, 8, false);
+        addPrimType("uint64", Kind.INTEGER, 8, false);
+        addPrimType("float", Kind.FLOAT, 4, false);
+        addPrimType("float32", Kind.FLOAT, 4, false);
+        addPrimType("double", Kind.DOUBLE, 8, false);
+        addPrimType("float64", Kind.DOUBLE, 8, false);
     }
 
+    /**
+     * Matches a single declaration of a schema, such as {@code double x}, {@code double x[4]}, or
+     * {@code enum {a=1, b=2} int8 value}. Bit-field declarations do not match.
+     */
+    private static final Pattern declarationPattern = Pattern
+            .compile("^(?:enum\\s*\\{[^}]*}\\s*)?(\\w+)\\s+(\\w+)\\s*(?:\\[\\s*(\\d+)\\s*])?$");
+
+    private static final Map<LayoutKey, Layout> layouts = new ConcurrentHashMap<>();
+
     private Subtables() {
     }
 
-    private static <T> void addPrimType(String name, Class<T> type, Unpacker<T> unpacker, Packer<T> packer) {
-        PrimType<T> primType = new PrimType<>(name, type, unpacker, packer);
-        primitiveTypeMap.put(name, primType);
+    private static void addPrimType(String name, Kind kind, int size, boolean unsigned) {
+        primitiveTypeMap.put(name, new PrimType(name, kind, size, unsigned));
     }
 
     /**
-     * Creates an ordered map that contains all the entries created from the {@code struct} schema.
+     * Creates the leaves of a flat layout for every primitive in the {@code struct} schema, with an entry for each.
      *
-     * <p>Uses a buffer to pack the {@code initialValue} of the struct in, and then construct the entries from.
-     * Empties the entire map if the {@code struct}'s schema is invalid.</p>
+     * <p>Uses a buffer to pack the {@code initialValue} of the struct in, and then construct the entries from. Each
+     * leaf remembers where its value is in the packed buffer, so it can be published or retrieved without unpacking
+     * the rest of the struct. Returns an empty list if the {@code struct}'s schema is invalid.</p>
      *
      * @param struct the struct to generate the entries from
      * @param key the key on NetworkTables
      * @param value the initial value
      * @param <T> the type of the struct
      *
-     * @return an ordered map containing all the entries created from the schema, ordered by how the buffer is packed
+     * @return a list containing a leaf for every primitive in the schema, ordered by how the buffer is packed
      */
-    @SneakyThrows
-    public static <T> Map<NTEntry<?>, PrimType<?>> createEntries(Struct<T> struct, String key, T value) {
+    public static <T> List<Leaf> createLeaves(Struct<T> struct, String key, T value) {
+        Layout layout = getLayout(struct);
+        if (layout == null) {
+            return new ArrayList<>();
+        }
+
         ByteBuffer buffer = ByteBuffer.allocate(struct.getSize());
         buffer.clear();
         struct.pack(buffer, value);
-        buffer.rewind();
 
-        Map<NTEntry<?>, PrimType<?>> entries = new LinkedHashMap<>();
-        boolean valid = createEntriesImpl(struct, key, buffer, entries, 0);
-        if (!valid) {
-            for (NTEntry<?> entry : entries.keySet()) {
-                entry.close();
-            }
-            entries.clear();
+        List<Leaf> leaves = new ArrayList<>(layout.fields().size());
+        for (Field field : layout.fields()) {
+            leaves.add(createLeaf(key + "/" + field.path(), field, buffer));
         }
-        return entries;
+        return leaves;
     }
 
-    @SuppressWarnings("unchecked")
-    private static boolean createEntriesImpl(Struct<?> baseStruct, String currentKey, ByteBuffer packedBuffer, Map<NTEntry<?>, PrimType<?>> entries, int limit) {
+    /**
+     * Finds the compiled layout of a struct, compiling and caching it if this is the first time a struct with the same
+     * type name and schema is used.
+     *
+     * @param struct the struct to find the layout of
+     *
+     * @return the layout of the struct, or null if the schema is invalid
+     */
+    public static Layout getLayout(Struct<?> struct) {
+        Layout layout = layouts.get(LayoutKey.of(struct));
+        if (layout != null) {
+            return layout;
+        }
+
+        layout = compileLayout(struct, 0);
+        if (layout == null) {
+            return null;
+        }
+
+        Layout previous = layouts.putIfAbsent(LayoutKey.of(struct), layout);
+        return previous == null ? layout : previous;
+    }
+
+    private static Layout compileLayout(Struct<?> struct, int limit) {
         if (limit + 1 >= 1000) {
-            throw new IllegalArgumentException("Infinite recursive loop for struct class: " + baseStruct.getTypeClass()
+            throw new IllegalArgumentException("Infinite recursive loop for struct class: " + struct.getTypeClass()
                     .getSimpleName());
         }
-        boolean stillValid = true;
-        for (String part : baseStruct.getSchema().split(";", -1)) {
-            if (!stillValid) {
-                return false;
+
+        Map<String, Struct<?>> nestedStructs = new HashMap<>();
+        for (Struct<?> nested : struct.getNested()) {
+            nestedStructs.put(nested.getTypeName(), nested);
+        }
+
+        List<Field> fields = new ArrayList<>();
+        int offset = 0;
+        for (String declaration : struct.getSchema().split(";")) {
+            if (declaration.isBlank()) {
+                continue;
+            }
+
+            Matcher matcher = declarationPattern.matcher(declaration.trim());
+            if (!matcher.matches()) {
+                return invalidLayout(struct, "unsupported declaration \"" + declaration.trim() + "\"");
             }
-            if (part.isBlank()) {
+            String typeName = matcher.group(1);
+            String name = matcher.group(2);
+            boolean isArray = matcher.group(3) != null;
+            int count = isArray ? Integer.parseInt(matcher.group(3)) : 1;
+
+            PrimType primType = primitiveTypeMap.get(typeName);
+            if (primType != null) {
+                for (int i = 0; i < count; i++) {
+                    String path = isArray ? name + "/" + i : name;
+                    fields.add(new Field(path, primType, offset));
+                    offset += primType.size();
+                }
                 continue;
             }
-            String[] partSplit = part.split(" ", 2);
-
-            if (!primitiveTypeMap.containsKey(partSplit[0])) {
-                List<Struct<?>> structs = Arrays.stream(baseStruct.getNested())
-                        .filter(struct -> Objects.equals(struct.getTypeName(), partSplit[0]))
-                        .toList();
-                if (structs.isEmpty()) {
-                    ErrorLogger.customError("INVALID Struct definition: " + baseStruct
-                            .getTypeName() + ". REMOVING ALL");
-                    System.err.println();
-                    return false;
+
+            Struct<?> nestedStruct = nestedStructs.get(typeName);
+            if (nestedStruct == null) {
+                return invalidLayout(struct, "missing nested struct " + typeName);
+            }
+            Layout nestedLayout = layouts.get(LayoutKey.of(nestedStruct));
+            if (nestedLayout == null) {
+                nestedLayout = compileLayout(nestedStruct, limit + 1);
+                if (nestedLayout == null) {
+                    return null;
                 }
+                layouts.putIfAbsent(LayoutKey.of(nestedStruct), nestedLayout);
+            }
 
-                Struct<?> nestedStruct = structs.get(0);
-                stillValid = createEntriesImpl(nestedStruct, currentKey + "/" + nestedStruct
-                        .getTypeName(), packedBuffer, entries, limit + 1);
-                continue;
+            for (int i = 0; i < count; i++) {
+                String prefix = isArray ? typeName + "/" + i + "/" : typeName + "/";
+                for (Field field : nestedLayout.fields()) {
+                    fields.add(new Field(prefix + field.path(), field.primType(), offset + field.offset()));
+                }
+                offset += nestedLayout.size();
             }
-            PrimType<?> primType = primitiveTypeMap.get(partSplit[0]);
+        }
 
-            entries.put(new ValueEntry<>(currentKey + "/" + partSplit[1], (Class<Object>) primType.type, primType.unpacker
-                    .unpack(packedBuffer), new Configuration()), primType);
+        if (offset != struct.getSize()) {
+            return invalidLayout(struct, "schema size " + offset + " does not match struct size " + struct.getSize());
         }
+        return new Layout(List.copyOf(fields), offset);
+    }
 
-        return true;
+    private static Layout invalidLayout(Struct<?> struct, String reason) {
+        ErrorLogger.customError("INVALID Struct definition: " + struct.getTypeName() + ", " + reason + ". REMOVING ALL");
+        return null;
     }
 
     /**
-     * Internal interface used by BadgerLog to represent the operation of unpacking a ByteBuffer.
-     *
-     * @param <T> the type to unpack
+     * Creates the entry for a field of a layout, and chooses the publisher and retriever for its leaf. Every leaf
+     * reads and writes the packed buffer directly through the specialized entry for its kind, so the value is never
+     * boxed.
+     */
+    @SuppressWarnings("unchecked")
+    private static Leaf createLeaf(String key, Field field, ByteBuffer packed) {
+        int offset = field.offset();
+        PrimType primType = field.primType();
+        // The parent SubtableEntry compares the packed bytes of each leaf, so the entries do not detect changes
+        Configuration config = new Configuration().withChangeDetection(false);
+
+        return switch (primType.kind()) {
+            case BOOLEAN -> {
+                var entry = (BooleanValueEntry<Boolean>) EntryFactory
+                        .createValueEntry(key, boolean.class, packed.get(offset) != 0, config);
+                yield new Leaf(entry, offset, primType.size(), (buffer, index) -> entry
+                        .publishBoolean(buffer.get(index) != 0), (buffer, index) -> buffer
+                        .put(index, (byte) (entry.retrieveBoolean() ? 1 : 0)));
+            }
+            case INTEGER -> {
+                var entry = (IntegerValueEntry<Long>) EntryFactory
+                        .createValueEntry(key, long.class, readInteger(packed, offset, primType), config);
+                yield new Leaf(entry, offset, primType.size(), (buffer, index) -> entry
+                        .publishLong(readInteger(buffer, index, primType)), (buffer, index) -> writeInteger(buffer, index, primType, entry
+                        .retrieveLong()));
+            }
+            case FLOAT -> {
+                var entry = (FloatValueEntry<Float>) EntryFactory
+                        .createValueEntry(key, float.class, packed.getFloat(offset), config);
+                yield new Leaf(entry, offset, primType.size(), (buffer, index) -> entry
+                        .publishFloat(buffer.getFloat(index)), (buffer, index) -> buffer
+                        .putFloat(index, entry.retrieveFloat()));
+            }
+            case DOUBLE -> {
+                var entry = (DoubleValueEntry<Double>) EntryFactory
+                        .createValueEntry(key, double.class, packed.getDouble(offset), config);
+                yield new Leaf(entry, offset, primType.size(), (buffer, index) -> entry
+                        .publishDouble(buffer.getDouble(index)), (buffer, index) -> buffer
+                        .putDouble(index, entry.retrieveDouble()));
+            }
+        };
+    }
+
+    private static long readInteger(ByteBuffer buffer, int index, PrimType primType) {
+        return switch (primType.size()) {
+            case 1 -> primType.unsigned() ? buffer.get(index) & 0xFFL : buffer.get(index);
+            case 2 -> primType.unsigned() ? buffer.getShort(index) & 0xFFFFL : buffer.getShort(index);
+            case 4 -> primType.unsigned() ? buffer.getInt(index) & 0xFFFFFFFFL : buffer.getInt(index);
+            default -> buffer.getLong(index);
+        };
+    }
+
+    private static void writeInteger(ByteBuffer buffer, int index, PrimType primType, long value) {
+        switch (primType.size()) {
+            case 1 -> buffer.put(index, (byte) value);
+            case 2 -> buffer.putShort(index, (short) value);
+            case 4 -> buffer.putInt(index, (int) value);
+            default -> buffer.putLong(index, value);
+        }
+    }
+
+    /**
+     * Internal interface used by BadgerLog to represent publishing or retrieving a single leaf of a packed buffer.
      */
     @FunctionalInterface
-    public interface Unpacker<T> {
+    public interface LeafAccessor {
         /**
-         * Unpacks a value.
-         *
-         * @param buffer the buffer to unpack from
+         * Publishes the value at {@code index} of the buffer, or retrieves a value into it.
          *
-         * @return the value of the result
+         * @param buffer the packed buffer of the struct
+         * @param index the byte offset of the leaf in the buffer
          */
-        T unpack(ByteBuffer buffer);
+        void access(ByteBuffer buffer, int index);
     }
 
     /**
-     * Internal interface used by BadgerLog to represent the operation of packing a ByteBuffer
+     * Internal record used by BadgerLog to represent a single primitive of a packed struct, and its entry.
      *
-     * @param <T> the type to pack
+     * @param entry the entry on NetworkTables for the primitive
+     * @param offset the byte offset of the primitive in the packed buffer
+     * @param size the number of bytes the primitive is packed in
+     * @param publisher publishes the primitive from the packed buffer
+     * @param retriever retrieves the primitive into the packed buffer
      */
-    @FunctionalInterface
-    public interface Packer<T> {
-        /**
-         * Packs a value.
-         *
-         * @param buffer the buffer to pack into
-         * @param value the value to pack into the buffer
-         */
-        void pack(ByteBuffer buffer, T value);
+    public record Leaf(NTEntry<?> entry, int offset, int size, LeafAccessor publisher, LeafAccessor retriever) {
     }
 
     /**
-     * Internal record used by BadgerLog to represent a base NetworkTables type with a {@link Packer} and
-     * {@link Unpacker} for buffers.
+     * Internal record used by BadgerLog to represent the compiled schema of a struct type.
      *
-     * @param name the name of the type
-     * @param type the class representing the type
-     * @param unpacker the unpacker to use when unpacking
-     * @param packer the packer to use when packing
-     * @param <T> the type used for packing and unpacking
+     * @param fields every primitive in the schema, with nested structs and arrays flattened, in packed order
+     * @param size the packed size of the struct in bytes
+     */
+    public record Layout(List<Field> fields, int size) {
+    }
+
+    /**
+     * The key a {@link Layout} is cached by. Layouts are compiled from the schema, so two structs share a layout only
+     * if both their type name and schema match, even if they pack the same Java class.
+     *
+     * @param typeName the type name of the struct
+     * @param schema the schema of the struct
+     */
+    private record LayoutKey(String typeName, String schema) {
+        private static LayoutKey of(Struct<?> struct) {
+            return new LayoutKey(struct.getTypeName(), struct.getSchema());
+        }
+    }
+
+    /**
+     * Internal record used by BadgerLog to represent a single primitive in a {@link Layout}.
+     *
+     * @param path the key of the primitive relative to the struct, using the type names of nested structs
+     * @param primType the type of the primitive
+     * @param offset the byte offset of the primitive in the packed struct
+     */
+    public record Field(String path, PrimType primType, int offset) {
+    }
+
+    /**
+     * Internal record used by BadgerLog to represent a primitive type in a struct schema.
+     *
+     * @param name the name of the type in the schema
+     * @param kind the kind of entry the type is published with
+     * @param size the number of bytes the type is packed in
+     * @param unsigned whether smaller integers should be read without sign extension
+     */
+    public record PrimType(String name, Kind kind, int size, boolean unsigned) {
+    }
+
+    /**
+     * The kinds of entries that a primitive in a struct schema can be published with.
      */
-    public record PrimType<T>(String name, Class<T> type, Unpacker<T> unpacker, Packer<T> packer) {
+    public enum Kind {
+        BOOLEAN,
+        INTEGER,
+        FLOAT,
+        DOUBLE
     }
 }
@@ -4,28 +4,49 @@ import badgerlog.BadgerLog;
 import badgerlog.annotations.configuration.Configuration;
 import badgerlog.conversion.Mapping;
 import badgerlog.conversion.Mappings;
+import badgerlog.datalog.DataLogSink;
+import badgerlog.datalog.LogEntry;
 import edu.wpi.first.networktables.GenericEntry;
 import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.networktables.NetworkTableValue;
 
 /**
  * Wraps a {@link GenericEntry}, and allows for the use of the Mapping system.
  *
+ * <p>Values are set and read with the typed methods of the entry where possible, instead of through a
+ * {@code NetworkTableValue}. Types with a primitive mapping, such as {@link badgerlog.conversion.DoubleMapping},
+ * should use the specialized entries created by {@link EntryFactory#createValueEntry} instead.</p>
+ *
  * @param <T> the type to use. Does not need to be a valid NetworkTableType
  */
 public final class ValueEntry<T> implements NTEntry<T> {
+    private static final double[] EMPTY_DOUBLE_ARRAY = new double[0];
+    private static final float[] EMPTY_FLOAT_ARRAY = new float[0];
+    private static final boolean[] EMPTY_BOOLEAN_ARRAY = new boolean[0];
+    private static final long[] EMPTY_LONG_ARRAY = new long[0];
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
 
     private final Configuration config;
 
     private final Mapping<T, Object> fieldValueMapping;
     private final GenericEntry entry;
+    private final NetworkTableType networkTableType;
     private final String key;
     private final Class<?> type;
+    private final ChangeDetector changeDetector;
+    private final LogEntry logEntry;
+    private final LogEntry inputLogEntry;
+    private final boolean reuseValues;
+
+    private T lastValue;
+    private long lastValueChange = -1;
 
     /**
      * Constructs a new ValueEntry, creating the entry on NetworkTables, and finding the {@link Mapping} for the
      * specified {@code valueClass}.
      *
-     * <p>This initially publishes the {@code initialValue} to make the entry appear on NetworkTables.</p>
+     * <p>This initially publishes the {@code initialValue} to make the entry appear on NetworkTables. Unchanged values
+     * are not published again if the configuration has change detection enabled.</p>
      *
      * @param key the key on NetworkTables
      * @param valueClass the class type of the {@code initialValue}
@@ -36,23 +57,146 @@ public final class ValueEntry<T> implements NTEntry<T> {
         this.config = config;
         this.key = key;
         this.type = valueClass;
+        this.changeDetector = config.isChangeDetection() ? new ChangeDetector() : null;
 
-        this.fieldValueMapping = Mappings.findMapping(valueClass);
+        this.fieldValueMapping = Mappings.findMapping(valueClass).bind(config);
 
-        NetworkTableType networkTableType = Mappings.findMappingType(valueClass);
-        this.entry = BadgerLog.defaultTable.getEntry(key).getTopic().getGenericEntry(networkTableType.getValueStr());
+        this.networkTableType = fieldValueMapping.getNetworkTableType();
+        this.entry = BadgerLog.defaultTable.getEntry(key).getTopic().getGenericEntry(networkTableType.getValueStr(), EntryFactory.subscriberOptions(config));
+        this.logEntry = DataLogSink.createEntry(key, getLogType(networkTableType));
+        this.inputLogEntry = DataLogSink.createInputEntry(key, getLogType(networkTableType));
+        this.reuseValues = switch (networkTableType) {
+            case kDouble, kFloat, kBoolean, kInteger, kString -> true;
+            default -> false;
+        };
 
         publishValue(initialValue);
     }
 
     @Override
     public void publishValue(T value) {
-        entry.setValue(fieldValueMapping.toNT(value, config));
+        Object networkTableValue = fieldValueMapping.toNT(value, config);
+        if (changeDetector != null && !changeDetector.hasChanged(networkTableValue)) {
+            PublishStatistics.recordSkip();
+            return;
+        }
+
+        setTypedValue(networkTableValue);
+        appendLogValue(logEntry, networkTableValue, 0);
+        if (inputLogEntry.isActive()) {
+            inputLogEntry.acceptChange(entry.getLastChange());
+        }
+        PublishStatistics.recordPublish();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>For types that are not arrays, the converted value is reused until NetworkTables reports a change, so
+     * unchanged values are not converted again. Arrays are mutable, so they are always retrieved again.</p>
+     */
     @Override
     public T retrieveValue() {
-        return fieldValueMapping.toStart(entry.get().getValue(), config);
+        long change = 0;
+        if (reuseValues) {
+            change = entry.getLastChange();
+            if (lastValue != null && change == lastValueChange) {
+                return lastValue;
+            }
+        }
+
+        Object networkTableValue = getTypedValue();
+        if (changeDetector != null) {
+            changeDetector.remember(networkTableValue);
+        }
+        if (inputLogEntry.isActive()) {
+            long valueChange = reuseValues ? change : entry.getLastChange();
+            if (inputLogEntry.acceptChange(valueChange)) {
+                appendLogValue(inputLogEntry, networkTableValue, valueChange);
+            }
+        }
+
+        T value = fieldValueMapping.toStart(networkTableValue, config);
+        if (reuseValues) {
+            lastValue = value;
+            lastValueChange = change;
+        }
+        return value;
+    }
+
+    @Override
+    public long getLastChange() {
+        return entry.getLastChange();
+    }
+
+    @Override
+    public int readSamples(SampleConsumer<T> consumer) {
+        NetworkTableValue[] samples = entry.readQueue();
+        for (NetworkTableValue sample : samples) {
+            consumer.accept(fieldValueMapping.toStart(sample.getValue(), config), sample.getServerTime());
+            if (inputLogEntry.isActive() && inputLogEntry.acceptChange(sample.getTime())) {
+                appendLogValue(inputLogEntry, sample.getValue(), sample.getTime());
+            }
+        }
+        return samples.length;
+    }
+
+    private void setTypedValue(Object value) {
+        switch (networkTableType) {
+            case kDouble -> entry.setDouble((Double) value);
+            case kFloat -> entry.setFloat((Float) value);
+            case kBoolean -> entry.setBoolean((Boolean) value);
+            case kInteger -> entry.setInteger((Long) value);
+            case kString -> entry.setString((String) value);
+            case kDoubleArray -> entry.setDoubleArray((double[]) value);
+            case kFloatArray -> entry.setFloatArray((float[]) value);
+            case kBooleanArray -> entry.setBooleanArray((boolean[]) value);
+            case kIntegerArray -> entry.setIntegerArray((long[]) value);
+            case kStringArray -> entry.setStringArray((String[]) value);
+            default -> entry.setValue(value);
+        }
+    }
+
+    private void appendLogValue(LogEntry target, Object value, long timestamp) {
+        switch (networkTableType) {
+            case kDouble -> target.appendDouble((Double) value, timestamp);
+            case kFloat -> target.appendFloat((Float) value, timestamp);
+            case kBoolean -> target.appendBoolean((Boolean) value, timestamp);
+            case kInteger -> target.appendLong((Long) value, timestamp);
+            case kString -> target.appendString((String) value, timestamp);
+            case kDoubleArray -> target.appendDoubleArray((double[]) value, timestamp);
+            case kFloatArray -> target.appendFloatArray((float[]) value, timestamp);
+            case kBooleanArray -> target.appendBooleanArray((boolean[]) value, timestamp);
+            case kIntegerArray -> target.appendLongArray((long[]) value, timestamp);
+            case kStringArray -> target.appendStringArray((String[]) value, timestamp);
+            case kRaw -> target.appendRaw((byte[]) value, timestamp);
+            default -> {
+            }
+        }
+    }
+
+    private static String getLogType(NetworkTableType networkTableType) {
+        return switch (networkTableType) {
+            case kInteger -> "int64";
+            case kIntegerArray -> "int64[]";
+            default -> networkTableType.getValueStr();
+        };
+    }
+
+    private Object getTypedValue() {
+        return switch (networkTableType) {
+            case kDouble -> entry.getDouble(0);
+            case kFloat -> entry.getFloat(0);
+            case kBoolean -> entry.getBoolean(false);
+            case kInteger -> entry.getInteger(0);
+            case kString -> entry.getString("");
+            case kDoubleArray -> entry.getDoubleArray(EMPTY_DOUBLE_ARRAY);
+            case kFloatArray -> entry.getFloatArray(EMPTY_FLOAT_ARRAY);
+            case kBooleanArray -> entry.getBooleanArray(EMPTY_BOOLEAN_ARRAY);
+            case kIntegerArray -> entry.getIntegerArray(EMPTY_LONG_ARRAY);
+            case kStringArray -> entry.getStringArray(EMPTY_STRING_ARRAY);
+            default -> entry.get().getValue();
+        };
     }
 
     @Override
@@ -67,6 +211,8 @@ public final class ValueEntry<T> implements NTEntry<T> {
 
     @Override
     public void close() {
+        logEntry.finish();
+        inputLogEntry.finish();
         entry.unpublish();
         entry.close();
     }
@@ -1,39 +1,65 @@
 package badgerlog.processing;
 
 import badgerlog.annotations.Entry;
+import badgerlog.annotations.EntryType;
 import badgerlog.annotations.Key;
+import badgerlog.annotations.NoEntry;
 import com.google.auto.service.AutoService;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 import javax.tools.Diagnostic.Kind;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * Processes any annotated elements with {@link Entry} and ensures that they match the requirements.
+ *
+ * <p>When the {@value #GENERATE_BINDERS_OPTION} option is {@code true}, a binder class named
+ * {@code <Type>_EntryBinder} is also generated for every type with entries. It has a {@code register(instance)} method
+ * that creates the entries through {@link EntryBinding} with direct member access, so entries work without AspectJ
+ * weaving.</p>
  */
 @AutoService(Processor.class)
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
 @SupportedAnnotationTypes("badgerlog.annotations.Entry")
+@SupportedOptions(EntryAnnotationProcessor.GENERATE_BINDERS_OPTION)
 public class EntryAnnotationProcessor extends AbstractProcessor {
 
+    /**
+     * The processor option that enables generating binder classes.
+     */
+    public static final String GENERATE_BINDERS_OPTION = "badgerlog.generateBinders";
+
+    private static final String BINDER_SUFFIX = "_EntryBinder";
+
     private final Map<String, String> potentialKeys = new HashMap<>();
+    private final Set<String> generatedBinders = new HashSet<>();
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
@@ -55,9 +81,16 @@ public class EntryAnnotationProcessor extends AbstractProcessor {
         TypeMirror sendableType = sendableElement.asType();
         TypeMirror objectType = objectElement.asType();
 
+        boolean generateBinders = Boolean.parseBoolean(processingEnv.getOptions().get(GENERATE_BINDERS_OPTION));
+        Map<TypeElement, List<Element>> boundMembers = new LinkedHashMap<>();
+
         for (Element element : roundEnv.getElementsAnnotatedWith(Entry.class)) {
             Entry annotation = element.getAnnotation(Entry.class);
 
+            if (generateBinders) {
+                collectBoundMembers(element, boundMembers);
+            }
+
             switch (element.getKind()) {
                 case METHOD -> {
                     ExecutableElement method = (ExecutableElement) element;
@@ -80,9 +113,140 @@ public class EntryAnnotationProcessor extends AbstractProcessor {
                 potentialKeys.put(potentialKey, createElementName(element));
             }
         }
+
+        for (Map.Entry<TypeElement, List<Element>> entry : boundMembers.entrySet()) {
+            generateBinder(entry.getKey(), entry.getValue());
+        }
         return false;
     }
 
+    private void collectBoundMembers(Element element, Map<TypeElement, List<Element>> boundMembers) {
+        if (element.getKind() == ElementKind.CLASS) {
+            TypeElement type = (TypeElement) element;
+            List<Element> members = boundMembers.computeIfAbsent(type, k -> new ArrayList<>());
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                boolean validForClassGeneration = modifiers.contains(Modifier.PUBLIC) && !modifiers
+                        .contains(Modifier.STATIC) && !modifiers.contains(Modifier.FINAL) && field
+                                .getAnnotation(NoEntry.class) == null && field.getAnnotation(Entry.class) == null;
+                if (validForClassGeneration) {
+                    members.add(field);
+                }
+            }
+            return;
+        }
+
+        if (element.getKind() != ElementKind.FIELD && element.getKind() != ElementKind.METHOD) {
+            return;
+        }
+
+        if (element.getModifiers().contains(Modifier.PRIVATE)) {
+            printMessage(element, Kind.ERROR, String
+                    .format("@Entry member '%s' cannot be private when generating binders", createElementName(element)));
+            return;
+        }
+
+        boundMembers.computeIfAbsent((TypeElement) element.getEnclosingElement(), k -> new ArrayList<>()).add(element);
+    }
+
+    private void generateBinder(TypeElement type, List<Element> members) {
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            printMessage(type, Kind.ERROR, String
+                    .format("Binders cannot be generated for local or anonymous class '%s'", type.getSimpleName()));
+            return;
+        }
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            printMessage(type, Kind.ERROR, String
+                    .format("Binders cannot be generated for private class '%s'", type.getSimpleName()));
+            return;
+        }
+
+        Elements elementUtils = processingEnv.getElementUtils();
+        Types typeUtils = processingEnv.getTypeUtils();
+
+        String packageName = elementUtils.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elementUtils.getBinaryName(type).toString();
+        String binderName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + BINDER_SUFFIX;
+        String qualifiedBinderName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+
+        if (!generatedBinders.add(qualifiedBinderName)) {
+            return;
+        }
+
+        String typeName = typeUtils.erasure(type.asType()).toString();
+
+        List<String> staticBindings = new ArrayList<>();
+        List<String> instanceBindings = new ArrayList<>();
+        for (Element member : members) {
+            boolean isStatic = member.getModifiers().contains(Modifier.STATIC);
+            String target = isStatic ? typeName : "instance";
+            String name = member.getSimpleName().toString();
+
+            String binding;
+            if (member.getKind() == ElementKind.METHOD) {
+                binding = String.format("binding.bindMethod(\"%s\", () -> %s.%s());", name, target, name);
+            } else {
+                Entry annotation = member.getAnnotation(Entry.class);
+                boolean writable = !member.getModifiers().contains(Modifier.FINAL) && (annotation == null || annotation
+                        .value() != EntryType.SENDABLE);
+                String setter = writable ? String.format("value -> %s.%s = (%s) value", target, name, typeUtils
+                        .erasure(member.asType())) : "null";
+                binding = String.format("binding.bindField(\"%s\", () -> %s.%s, %s);", name, target, name, setter);
+            }
+
+            (isStatic ? staticBindings : instanceBindings).add(binding);
+        }
+
+        try (PrintWriter writer = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(qualifiedBinderName, type)
+                .openWriter())) {
+            if (!packageName.isEmpty()) {
+                writer.printf("package %s;%n%n", packageName);
+            }
+            writer.println("import badgerlog.processing.EntryBinding;");
+            writer.println();
+            writer.println("/**");
+            writer.printf(" * Binds the BadgerLog entries of {@link %s} without AspectJ.%n", typeName);
+            writer.println(" */");
+            writer.println("@javax.annotation.processing.Generated(\"badgerlog.processing.EntryAnnotationProcessor\")");
+            writer.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            writer.printf("public final class %s {%n", binderName);
+            writer.println("    private static boolean staticsRegistered = false;");
+            writer.println();
+            writer.printf("    private %s() {%n    }%n%n", binderName);
+            writer.println("    /**");
+            writer.println("     * Creates the entries for the static members. Only the first call has an effect.");
+            writer.println("     */");
+            writer.println("    public static synchronized void registerStatics() {");
+            writer.println("        if (staticsRegistered) {");
+            writer.println("            return;");
+            writer.println("        }");
+            writer.println("        staticsRegistered = true;");
+            if (!staticBindings.isEmpty()) {
+                writer.printf("        EntryBinding binding = EntryBinding.forStatic(%s.class);%n", typeName);
+                staticBindings.forEach(binding -> writer.printf("        %s%n", binding));
+            }
+            writer.println("    }");
+            writer.println();
+            writer.println("    /**");
+            writer.println("     * Creates the entries for an instance, and for the static members if not yet created.");
+            writer.println("     *");
+            writer.println("     * @param instance the instance to create the entries for");
+            writer.println("     */");
+            writer.printf("    public static void register(%s instance) {%n", typeName);
+            writer.println("        registerStatics();");
+            if (!instanceBindings.isEmpty()) {
+                writer.printf("        EntryBinding binding = EntryBinding.forInstance(%s.class, instance);%n", typeName);
+                instanceBindings.forEach(binding -> writer.printf("        %s%n", binding));
+            }
+            writer.println("    }");
+            writer.println("}");
+        } catch (IOException e) {
+            printMessage(type, Kind.ERROR, "Failed to generate binder " + qualifiedBinderName + ": " + e.getMessage());
+        }
+    }
+
     private String createElementName(Element element) {
         String methodName = element.getSimpleName().toString();
         String className = element.getEnclosingElement().getSimpleName().toString();
@@ -3,27 +3,36 @@ package badgerlog.processing;
 import badgerlog.BadgerLog;
 import badgerlog.annotations.Entry;
 import badgerlog.annotations.EntryType;
-import badgerlog.annotations.NoEntry;
 import badgerlog.annotations.Watched;
 import badgerlog.annotations.configuration.Configuration;
 import badgerlog.events.EventRegistry;
+import badgerlog.networktables.BooleanValueEntry;
+import badgerlog.networktables.DoubleValueEntry;
 import badgerlog.networktables.EntryFactory;
+import badgerlog.networktables.FloatValueEntry;
+import badgerlog.networktables.GatedEntry;
+import badgerlog.networktables.IntegerValueEntry;
 import badgerlog.networktables.MockNTEntry;
 import badgerlog.networktables.NTEntry;
 import badgerlog.networktables.NTUpdatable;
+import badgerlog.networktables.PublishStatistics;
 import badgerlog.networktables.SendableEntry;
+import badgerlog.networktables.SnapshotEntry;
+import badgerlog.networktables.SubscriberTracker;
 import badgerlog.processing.data.ClassData;
 import badgerlog.processing.data.Entries;
+import badgerlog.processing.data.EntryPlan;
 import badgerlog.processing.data.InstanceData;
 import badgerlog.utilities.ErrorLogger;
+import badgerlog.utilities.FieldAccessor;
 import badgerlog.utilities.KeyParser;
 import badgerlog.utilities.Members;
+import badgerlog.utilities.MethodAccessor;
 import edu.wpi.first.util.sendable.Sendable;
 import lombok.SneakyThrows;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.After;
-import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 
@@ -32,18 +41,18 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utilizes AspectJ to weave entry generation and management into target classes.
  */
 @Aspect
 public class EntryAspect {
-    private final Entries entries = new Entries(new HashMap<>());
-    private final List<Class<?>> blacklistedClasses = new ArrayList<>();
+    private static final Entries entries = new Entries(new HashMap<>());
+    private static final Map<JoinPoint.StaticPart, FieldSite> fieldSites = new ConcurrentHashMap<>();
 
     @Pointcut("!within(edu.wpi.first..*) && !within(badgerlog..*) && !within(java..*) && !within(javax..*)")
     public void onlyRobotCode() {
@@ -53,22 +62,6 @@ public class EntryAspect {
     public void newInitialization() {
     }
 
-    @Pointcut("@annotation(entry) && get(* *)")
-    public void entryAccess(Entry entry) {
-    }
-
-    @Pointcut("@annotation(entry) && set(* *)")
-    public void entryUpdate(Entry entry) {
-    }
-
-    @Pointcut("!@annotation(badgerlog.annotations.Entry) && get(!final * (@badgerlog.annotations.Entry *).*)")
-    public void entryAccessInEntryClass() {
-    }
-
-    @Pointcut("!@annotation(badgerlog.annotations.Entry) && set(!final * (@badgerlog.annotations.Entry *).*)")
-    public void entryUpdateInEntryClass() {
-    }
-
     @Pointcut("@annotation(entry) && execution(* *()) && !execution(void *())")
     public void getterMethodExecution(Entry entry) {
     }
@@ -76,52 +69,51 @@ public class EntryAspect {
     @After("onlyRobotCode() && staticinitialization(*)")
     public void createStaticEntries(JoinPoint joinPoint) {
         Class<?> clazz = joinPoint.getSignature().getDeclaringType();
-        if (blacklistedClasses.contains(clazz)) {
+        EntryPlan plan = EntryPlan.of(clazz);
+        if (plan.isIgnored()) {
             return;
         }
-        if (!Members.hasAnyOfAnnotation(clazz, Entry.class)) {
-            blacklistedClasses.add(clazz);
-        }
 
         entries.addInstance(clazz, null);
 
-        Members.iterateOverAnnotatedFields(clazz, Entry.class, true, field -> createFieldEntry(field, null));
+        for (Field field : plan.getStaticFields()) {
+            createFieldEntry(field, null);
+        }
 
-        Members.iterateOverAnnotatedMethods(clazz, Entry.class, true, method -> createMethodEntry(method, null));
+        for (Method method : plan.getStaticMethods()) {
+            createMethodEntry(method, null);
+        }
     }
 
     @After("onlyRobotCode() && newInitialization()")
     public void createInstanceEntries(JoinPoint joinPoint) {
-        Object instance = joinPoint.getThis();
         Class<?> clazz = joinPoint.getSignature().getDeclaringType();
-
-        if (blacklistedClasses.contains(clazz)) {
+        EntryPlan plan = EntryPlan.of(clazz);
+        if (plan.isIgnored()) {
             return;
         }
-        if (!Members.hasAnyOfAnnotation(clazz, Entry.class)) {
-            blacklistedClasses.add(clazz);
-        }
 
+        Object instance = joinPoint.getThis();
         entries.addInstance(clazz, instance);
 
-        Members.iterateOverAnnotatedFields(instance
-                .getClass(), Entry.class, false, field -> createFieldEntry(field, instance));
+        EntryPlan instancePlan = instance.getClass() == clazz ? plan : EntryPlan.of(instance.getClass());
+        for (Field field : instancePlan.getInstanceFields()) {
+            createFieldEntry(field, instance);
+        }
 
-        Members.iterateOverAnnotatedMethods(instance
-                .getClass(), Entry.class, false, method -> createMethodEntry(method, instance));
+        for (Method method : instancePlan.getInstanceMethods()) {
+            createMethodEntry(method, instance);
+        }
 
-        if (clazz.isAnnotationPresent(Entry.class)) {
-            Field[] allFields = clazz.getFields();
-            Arrays.stream(allFields)
-                    .filter(this::isValidForClassGeneration)
-                    .forEach(field -> createFieldEntry(field, instance));
+        for (Field field : plan.getGeneratedFields()) {
+            createFieldEntry(field, instance);
         }
     }
 
     private <T extends Member & AnnotatedElement> Configuration createConfigurationFromMember(T member, Object instance) {
         Class<?> clazz = member.getDeclaringClass();
 
-        Configuration config = Configuration.createConfigurationFromAnnotations(member);
+        Configuration config = EntryPlan.of(clazz).createConfiguration(member);
 
         if (Members.isMemberNonStatic(member)) {
             KeyParser.createKeyFromMember(config, member, instance, entries.getClassData(clazz).getInstanceCount());
@@ -141,9 +133,10 @@ public class EntryAspect {
     private void createFieldEntry(Field field, Object instance) {
         Class<?> clazz = field.getDeclaringClass();
         String name = field.getName();
-        entries.getClassData(clazz).addField(field);
+        FieldAccessor accessor = entries.getClassData(clazz).addField(field);
+        Object initialValue = accessor.get(instance);
 
-        if (Members.getFieldValue(field, instance) == null) {
+        if (initialValue == null) {
             ErrorLogger.memberError(field, "is an uninitialized field");
             return;
         }
@@ -167,20 +160,32 @@ public class EntryAspect {
 
         if (annotation.value() == EntryType.SENDABLE) {
             BadgerLog.addNetworkTableEntry(config.getKey(), new SendableEntry(config
-                    .getKey(), (Sendable) Members.getFieldValue(field, instance)));
+                    .getKey(), (Sendable) initialValue), config.getUpdateSchedule());
             return;
         }
 
-        NTEntry<?> entry = EntryFactory.createNetworkTableEntryFromValue(config.getKey(), Members
-                .getFieldValue(field, instance), config);
+        NTEntry<?> entry = EntryFactory.createNetworkTableEntryFromValue(config.getKey(), initialValue, config);
         registerAnyManagedEvents(entry, field);
 
 
         switch (annotation.value()) {
             case PUBLISHER, SUBSCRIBER, INTELLIGENT -> {
-                entries.getInstanceEntries(clazz, Modifier.isStatic(field.getModifiers()) ? null : instance)
-                        .addEntry(name, entry);
-                BadgerLog.addNetworkTableEntry(entry.getKey(), new MockNTEntry(entry));
+                InstanceData instanceEntries = entries
+                        .getInstanceEntries(clazz, Modifier.isStatic(field.getModifiers()) ? null : instance);
+                int slot = entries.getClassData(clazz).getSlot(name);
+
+                if (annotation.value() != EntryType.PUBLISHER && config.isSnapshot()) {
+                    SnapshotEntry<?> snapshot = new SnapshotEntry<>(entry);
+                    instanceEntries.addEntry(name, slot, snapshot);
+                    BadgerLog.addNetworkTableEntry(entry.getKey(), snapshot, config.getUpdateSchedule());
+                } else if (annotation.value() == EntryType.PUBLISHER) {
+                    GatedEntry<?> gated = new GatedEntry<>(entry);
+                    instanceEntries.addEntry(name, slot, gated);
+                    BadgerLog.addNetworkTableEntry(entry.getKey(), gated, config.getUpdateSchedule());
+                } else {
+                    instanceEntries.addEntry(name, slot, entry);
+                    BadgerLog.addNetworkTableEntry(entry.getKey(), new MockNTEntry(entry));
+                }
             }
             default -> {
             }
@@ -200,12 +205,20 @@ public class EntryAspect {
             return;
         }
 
-        NTEntry<Object> entry = EntryFactory.createNetworkTableEntryFromValue(config.getKey(), Members
-                .invokeMethod(method, instance), config);
+        MethodAccessor accessor = entries.getClassData(method.getDeclaringClass()).getMethodAccessor(method);
+
+        NTEntry<Object> entry = EntryFactory.createNetworkTableEntryFromValue(config.getKey(), accessor
+                .invoke(instance), config);
         registerAnyManagedEvents(entry, method);
 
-        BadgerLog.addNetworkTableEntry(config.getKey(), (NTUpdatable) () -> entry.publishValue(Members
-                .invokeMethod(method, instance)));
+        SubscriberTracker.Gate gate = SubscriberTracker.getGate(config.getKey());
+        BadgerLog.addNetworkTableEntry(config.getKey(), (NTUpdatable) () -> {
+            if (gate.isOpen()) {
+                entry.publishValue(accessor.invoke(instance));
+            } else {
+                PublishStatistics.recordGated();
+            }
+        }, config.getUpdateSchedule());
     }
 
     private void registerAnyManagedEvents(NTEntry<?> entry, AnnotatedElement member) {
@@ -215,111 +228,217 @@ public class EntryAspect {
         EventRegistry.addWatchedEntry(entry, Arrays.asList(watched.value()));
     }
 
+    /**
+     * Reads a subscriber or intelligent field through its entry, writing the retrieved value back to the field.
+     *
+     * <p>The last value read is kept for each instance and slot, so that reading the same value again, which entries
+     * return without converting it again, skips writing it back to the field and publishing it.</p>
+     *
+     * @param pjp the field read join point
+     * @param site the resolved site of the join point
+     * @param instanceData the entries of the instance, or null if they were not created yet
+     * @param target the instance, or null for static fields
+     *
+     * @return the value of the field
+     */
     @SuppressWarnings("unchecked")
-    @SneakyThrows(Throwable.class)
-    @Around(value = "onlyRobotCode() && entryAccess(annotation)", argNames = "pjp, annotation")
-    public Object getFieldEntry(ProceedingJoinPoint pjp, Entry annotation) {
-        EntryType entryType = annotation.value();
-        if (entryType != EntryType.SUBSCRIBER && entryType != EntryType.INTELLIGENT) {
+    static Object readField(ProceedingJoinPoint pjp, FieldSite site, InstanceData instanceData, Object target)
+            throws Throwable {
+        NTEntry<Object> entry = instanceData == null ? null : (NTEntry<Object>) instanceData.getEntry(site.slot());
+        if (entry == null) {
             return pjp.proceed();
         }
-
-        String name = pjp.getSignature().getName();
-        Class<?> containingClass = pjp.getSignature().getDeclaringType();
-        Object target = pjp.getTarget();
-
-        FieldEntryData entryData = createFieldData(name, containingClass, target);
-
-        if (!entryData.valid()) {
-            return pjp.proceed();
+        if (entry instanceof SnapshotEntry) {
+            return entry.retrieveValue();
+        }
+        if (site.accessor().isPrimitive()) {
+            Object primitive = readPrimitiveField(site, instanceData, entry, target);
+            if (primitive != null) {
+                return primitive;
+            }
         }
-
-        NTEntry<Object> entry = (NTEntry<Object>) entryData.entry();
 
         Object value = entry.retrieveValue();
+        if (value == instanceData.getLastValue(site.slot())) {
+            return value;
+        }
 
-        Members.setFieldValue(pjp.getTarget(), entryData.targetField(), value);
+        site.accessor().set(target, value);
         entry.publishValue(value);
+        instanceData.setLastValue(site.slot(), value);
 
         return value;
     }
 
+    /**
+     * Publishes the value written to a publisher or intelligent field, then writes it to the field.
+     *
+     * @param pjp the field write join point
+     * @param arg the value written to the field
+     * @param site the resolved site of the join point
+     * @param instanceData the entries of the instance, or null if they were not created yet
+     * @param target the instance, or null for static fields
+     *
+     * @return the result of the field write
+     */
     @SuppressWarnings("unchecked")
-    @SneakyThrows(Throwable.class)
-    @Around(value = "onlyRobotCode() && entryUpdate(annotation) && args(arg)", argNames = "pjp, arg, annotation")
-    public Object setFieldEntry(ProceedingJoinPoint pjp, Object arg, Entry annotation) {
-        EntryType entryType = annotation.value();
-        if (entryType != EntryType.PUBLISHER && entryType != EntryType.INTELLIGENT) {
-            return pjp.proceed(pjp.getArgs());
-        }
-
-        String name = pjp.getSignature().getName();
-        Class<?> containingClass = pjp.getSignature().getDeclaringType();
-        Object target = pjp.getTarget();
-
-        FieldEntryData entryData = createFieldData(name, containingClass, target);
-
-        if (!entryData.valid()) {
+    static Object writeField(ProceedingJoinPoint pjp, Object arg, FieldSite site, InstanceData instanceData,
+            Object target) throws Throwable {
+        NTEntry<Object> entry = instanceData == null ? null : (NTEntry<Object>) instanceData.getEntry(site.slot());
+        if (entry == null) {
             return pjp.proceed(pjp.getArgs());
         }
 
-        if (Members.getFieldValue(entryData.targetField(), target) == null) {
+        if (!site.accessor().isPrimitive() && site.accessor().get(target) == null) {
             ErrorLogger.customError(String.format("Field %s was null when it should not have been", pjp.getSignature()
                     .getName()));
             return pjp.proceed(pjp.getArgs());
         }
 
-        NTEntry<Object> entry = (NTEntry<Object>) entryData.entry();
-
-        entry.publishValue(arg);
+        if (!site.accessor().isPrimitive() || !publishPrimitive(entry, arg)) {
+            entry.publishValue(arg);
+        }
 
         return pjp.proceed(new Object[] {arg});
     }
 
-    @SuppressWarnings("unchecked")
-    @Around("onlyRobotCode() && entryUpdateInEntryClass() && args(arg)")
-    public Object setClassFieldEntry(ProceedingJoinPoint pjp, Object arg) {
-        Entry annotation = (Entry) pjp.getSignature().getDeclaringType().getAnnotation(Entry.class);
-        return setFieldEntry(pjp, arg, annotation);
+    /**
+     * Reads a primitive field through the typed methods of its entry, if the entry maps the primitive to itself. The
+     * value is retrieved, written back to the field, and published without being boxed or converted. It is only boxed
+     * when it changed, as the advice has to return an object, and the last boxed value is returned otherwise.
+     *
+     * @param site the resolved site of the join point
+     * @param instanceData the entries of the instance
+     * @param entry the entry of the field
+     * @param target the instance, or null for static fields
+     *
+     * @return the value of the field, or null if the entry does not map the primitive of the field to itself
+     */
+    private static Object readPrimitiveField(FieldSite site, InstanceData instanceData, NTEntry<?> entry,
+            Object target) {
+        FieldAccessor accessor = site.accessor();
+        Class<?> type = accessor.getType();
+        Object last = instanceData.getLastValue(site.slot());
+
+        if (type == double.class && entry instanceof DoubleValueEntry<?> doubles && doubles.isUnmapped()) {
+            double value = doubles.retrieveDouble();
+            if (last instanceof Double lastValue && Double.doubleToRawLongBits(lastValue) == Double
+                    .doubleToRawLongBits(value)) {
+                return last;
+            }
+            accessor.setDouble(target, value);
+            doubles.publishDouble(value);
+            return rememberValue(site, instanceData, value);
+        }
+        if (type == float.class && entry instanceof FloatValueEntry<?> floats && floats.isUnmapped()) {
+            float value = floats.retrieveFloat();
+            if (last instanceof Float lastValue && Float.floatToRawIntBits(lastValue) == Float
+                    .floatToRawIntBits(value)) {
+                return last;
+            }
+            accessor.setFloat(target, value);
+            floats.publishFloat(value);
+            return rememberValue(site, instanceData, value);
+        }
+        if (type == long.class && entry instanceof IntegerValueEntry<?> longs && longs.isUnmapped()) {
+            long value = longs.retrieveLong();
+            if (last instanceof Long lastValue && lastValue == value) {
+                return last;
+            }
+            accessor.setLong(target, value);
+            longs.publishLong(value);
+            return rememberValue(site, instanceData, value);
+        }
+        if (type == boolean.class && entry instanceof BooleanValueEntry<?> booleans && booleans.isUnmapped()) {
+            boolean value = booleans.retrieveBoolean();
+            if (last instanceof Boolean lastValue && lastValue == value) {
+                return last;
+            }
+            accessor.setBoolean(target, value);
+            booleans.publishBoolean(value);
+            return rememberValue(site, instanceData, value);
+        }
+        return null;
     }
 
-    @SuppressWarnings("unchecked")
-    @Around("onlyRobotCode() && entryAccessInEntryClass()")
-    public Object getClassFieldEntry(ProceedingJoinPoint pjp) {
-        Entry annotation = (Entry) pjp.getSignature().getDeclaringType().getAnnotation(Entry.class);
-        return getFieldEntry(pjp, annotation);
+    private static Object rememberValue(FieldSite site, InstanceData instanceData, Object value) {
+        instanceData.setLastValue(site.slot(), value);
+        return value;
     }
 
-    private FieldEntryData createFieldData(String name, Class<?> containingClass, Object target) {
-        ClassData data = entries.getClassData(containingClass);
-        if (data == null) {
-            return new FieldEntryData(false, null, null);
+    /**
+     * Publishes the value written to a primitive field through the typed methods of its entry, if the entry maps the
+     * primitive to itself, so that the value is not converted by the mapping.
+     *
+     * @param entry the entry of the field
+     * @param arg the value written to the field
+     *
+     * @return whether the value was published
+     */
+    private static boolean publishPrimitive(NTEntry<?> entry, Object arg) {
+        if (arg instanceof Double value && entry instanceof DoubleValueEntry<?> doubles && doubles.isUnmapped()) {
+            doubles.publishDouble(value);
+            return true;
         }
-
-        InstanceData instanceData = data.instanceEntries().get(target);
-        Field field = data.fieldMap().get(name);
-
-        if (instanceData == null) {
-            return new FieldEntryData(false, null, null);
+        if (arg instanceof Float value && entry instanceof FloatValueEntry<?> floats && floats.isUnmapped()) {
+            floats.publishFloat(value);
+            return true;
         }
+        if (arg instanceof Long value && entry instanceof IntegerValueEntry<?> longs && longs.isUnmapped()) {
+            longs.publishLong(value);
+            return true;
+        }
+        if (arg instanceof Boolean value && entry instanceof BooleanValueEntry<?> booleans && booleans.isUnmapped()) {
+            booleans.publishBoolean(value);
+            return true;
+        }
+        return false;
+    }
 
-        if (field == null) {
-            return new FieldEntryData(false, null, null);
+    /**
+     * Resolves the field of a field access join point. Sites are resolved once per join point, and only cached once
+     * the field has a slot, as accesses inside a constructor happen before the entries are created.
+     *
+     * <p>This hashes the join point, so field accesses should find their site through a {@link FieldSiteCache}, which
+     * only calls this the first time a join point is accessed.</p>
+     *
+     * @param staticPart the static part of the join point
+     *
+     * @return the site of the field, or null if the field does not have an entry yet
+     */
+    static FieldSite findFieldSite(JoinPoint.StaticPart staticPart) {
+        FieldSite site = fieldSites.get(staticPart);
+        if (site != null) {
+            return site;
         }
 
-        NTEntry<?> entry = instanceData.getEntry(name);
+        String name = staticPart.getSignature().getName();
+        ClassData data = entries.getClassData(staticPart.getSignature().getDeclaringType());
+        if (data == null) {
+            return null;
+        }
 
-        if (entry == null) {
-            return new FieldEntryData(false, null, null);
+        int slot = data.getSlot(name);
+        if (slot < 0) {
+            return null;
         }
 
-        return new FieldEntryData(true, entry, field);
+        site = new FieldSite(staticPart, data, slot, data.getFieldAccessor(name), data.instanceEntries().get(null));
+        fieldSites.putIfAbsent(staticPart, site);
+        return site;
     }
 
-    private record FieldEntryData(boolean valid, NTEntry<?> entry, Field targetField) {}
-
-    private boolean isValidForClassGeneration(Field field) {
-        return Members.isMemberNonStatic(field) && !Modifier.isFinal(field.getModifiers()) && !field
-                .isAnnotationPresent(NoEntry.class) && !field.isAnnotationPresent(Entry.class);
+    /**
+     * The resolved field of a single field access join point. Sites are immutable, so they can be shared between
+     * threads once resolved.
+     *
+     * @param staticPart the join point the site was resolved for
+     * @param data the data of the class declaring the field
+     * @param slot the slot of the field in every {@link InstanceData} of the class
+     * @param accessor the accessor of the field
+     * @param staticData the entries of the static fields of the class
+     */
+    record FieldSite(JoinPoint.StaticPart staticPart, ClassData data, int slot, FieldAccessor accessor,
+            InstanceData staticData) {
     }
 }
@@ -0,0 +1,250 @@
+package badgerlog.processing;
+
+import badgerlog.BadgerLog;
+import badgerlog.annotations.Entry;
+import badgerlog.annotations.EntryType;
+import badgerlog.annotations.Watched;
+import badgerlog.annotations.configuration.Configuration;
+import badgerlog.events.EventRegistry;
+import badgerlog.networktables.EntryFactory;
+import badgerlog.networktables.NTEntry;
+import badgerlog.networktables.NTUpdatable;
+import badgerlog.networktables.PublishStatistics;
+import badgerlog.networktables.SendableEntry;
+import badgerlog.networktables.SubscriberTracker;
+import badgerlog.utilities.ErrorLogger;
+import badgerlog.utilities.KeyParser;
+import badgerlog.utilities.Members;
+import edu.wpi.first.util.sendable.Sendable;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runtime support for the binder classes generated by {@link EntryAnnotationProcessor} when the
+ * {@code badgerlog.generateBinders} option is enabled.
+ *
+ * <p>Generated binders pass direct accessors for each annotated member, so reading and writing values never goes
+ * through reflection or AspectJ. Reflection is only used once per member to build its {@link Configuration}. Each
+ * bound member is registered as a {@link NTUpdatable}, and is synchronized with NetworkTables on
+ * {@link BadgerLog#update()}.</p>
+ *
+ * <p>This should not be used on classes that are also woven by {@link EntryAspect}, as each entry would be created
+ * twice.</p>
+ */
+public final class EntryBinding {
+    private static final Map<Class<?>, Integer> instanceCounts = new HashMap<>();
+
+    private final Class<?> type;
+    private final Object instance;
+    private final int instanceCount;
+
+    private EntryBinding(Class<?> type, Object instance, int instanceCount) {
+        this.type = type;
+        this.instance = instance;
+        this.instanceCount = instanceCount;
+    }
+
+    /**
+     * Creates a binding for the instance members of a class, counting the instance for key generation.
+     *
+     * @param type the class containing the annotated members
+     * @param instance the instance to bind
+     *
+     * @return the binding for the instance
+     */
+    public static synchronized EntryBinding forInstance(Class<?> type, Object instance) {
+        int instanceCount = instanceCounts.merge(type, 1, Integer::sum);
+        return new EntryBinding(type, instance, instanceCount);
+    }
+
+    /**
+     * Creates a binding for the static members of a class.
+     *
+     * @param type the class containing the annotated members
+     *
+     * @return the binding for the class
+     */
+    public static EntryBinding forStatic(Class<?> type) {
+        return new EntryBinding(type, null, 0);
+    }
+
+    /**
+     * Creates an entry for an annotated field, and registers it to be updated.
+     *
+     * @param name the name of the field
+     * @param getter reads the current value of the field
+     * @param setter writes a value to the field, or {@code null} if the field cannot be written
+     */
+    public void bindField(String name, Supplier<Object> getter, Consumer<Object> setter) {
+        Field field;
+        try {
+            field = type.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            ErrorLogger.normalError("Bound field " + type.getSimpleName() + "." + name + " does not exist");
+            return;
+        }
+
+        Object initialValue = getter.get();
+        if (initialValue == null) {
+            ErrorLogger.memberError(field, "is an uninitialized field");
+            return;
+        }
+
+        Configuration config = createConfiguration(field);
+        if (!config.isValidConfiguration()) {
+            ErrorLogger.memberError(field, "had an invalid configuration created");
+            return;
+        }
+
+        Entry annotation = field.getAnnotation(Entry.class);
+        if (annotation == null) {
+            annotation = type.getAnnotation(Entry.class);
+        }
+
+        if (annotation.value() == EntryType.SENDABLE) {
+            BadgerLog.addNetworkTableEntry(config.getKey(), new SendableEntry(config
+                    .getKey(), (Sendable) initialValue), config.getUpdateSchedule());
+            return;
+        }
+
+        NTEntry<Object> entry = EntryFactory.createNetworkTableEntryFromValue(config.getKey(), initialValue, config);
+        registerAnyManagedEvents(entry, field);
+
+        BadgerLog.addNetworkTableEntry(config.getKey(), new BoundField(entry, annotation
+                .value(), getter, setter, initialValue), config.getUpdateSchedule());
+    }
+
+    /**
+     * Creates an entry for an annotated getter method, and registers it to be updated.
+     *
+     * @param name the name of the method
+     * @param getter calls the method
+     */
+    public void bindMethod(String name, Supplier<Object> getter) {
+        Method method;
+        try {
+            method = type.getDeclaredMethod(name);
+        } catch (NoSuchMethodException e) {
+            ErrorLogger.normalError("Bound method " + type.getSimpleName() + "." + name + "() does not exist");
+            return;
+        }
+
+        Configuration config = createConfiguration(method);
+        if (!config.isValidConfiguration()) {
+            ErrorLogger.memberError(method, "had an invalid configuration created");
+            return;
+        }
+
+        NTEntry<Object> entry = EntryFactory.createNetworkTableEntryFromValue(config.getKey(), getter.get(), config);
+        registerAnyManagedEvents(entry, method);
+
+        BadgerLog.addNetworkTableEntry(config.getKey(), new BoundField(entry, EntryType.PUBLISHER, getter, null, null), config
+                .getUpdateSchedule());
+    }
+
+    private <T extends Member & AnnotatedElement> Configuration createConfiguration(T member) {
+        Configuration config = Configuration.createConfigurationFromAnnotations(member);
+
+        if (Members.isMemberNonStatic(member)) {
+            KeyParser.createKeyFromMember(config, member, instance, instanceCount);
+        } else {
+            KeyParser.createKeyFromStaticMember(config, member);
+        }
+
+        if (config.getKey() == null) {
+            ErrorLogger.memberError(member, "has a missing key");
+            return config.makeInvalid();
+        }
+
+        return config;
+    }
+
+    private static void registerAnyManagedEvents(NTEntry<?> entry, AnnotatedElement member) {
+        Watched watched = member.getAnnotation(Watched.class);
+        if (watched == null) return;
+
+        EventRegistry.addWatchedEntry(entry, Arrays.asList(watched.value()));
+    }
+
+    /**
+     * Synchronizes a bound member with its entry once per update, following the semantics of the {@link EntryType}.
+     */
+    private static final class BoundField implements NTUpdatable, AutoCloseable {
+        private final NTEntry<Object> entry;
+        private final EntryType entryType;
+        private final Supplier<Object> getter;
+        private final Consumer<Object> setter;
+
+        private final SubscriberTracker.Gate gate;
+
+        private Object lastValue;
+        private long lastChange;
+
+        private BoundField(NTEntry<Object> entry, EntryType entryType, Supplier<Object> getter, Consumer<Object> setter, Object initialValue) {
+            this.entry = entry;
+            this.entryType = entryType;
+            this.getter = getter;
+            this.setter = setter;
+            this.lastValue = initialValue;
+            this.lastChange = entry.getLastChange();
+            this.gate = entryType == EntryType.PUBLISHER ? SubscriberTracker.getGate(entry.getKey()) : null;
+        }
+
+        @Override
+        public void update() {
+            switch (entryType) {
+                case PUBLISHER -> {
+                    if (gate.isOpen()) {
+                        publish(getter.get());
+                    } else {
+                        PublishStatistics.recordGated();
+                    }
+                }
+                case SUBSCRIBER -> {
+                    long change = entry.getLastChange();
+                    if (setter != null && (change < 0 || change != lastChange)) {
+                        setter.accept(entry.retrieveValue());
+                        lastChange = change;
+                    }
+                }
+                case INTELLIGENT -> {
+                    Object value = getter.get();
+                    if (!Objects.equals(value, lastValue)) {
+                        publish(value);
+                        return;
+                    }
+
+                    Object remoteValue = entry.retrieveValue();
+                    if (setter != null && !Objects.equals(remoteValue, value)) {
+                        setter.accept(remoteValue);
+                    }
+                    lastValue = remoteValue;
+                }
+                default -> {
+                }
+            }
+        }
+
+        private void publish(Object value) {
+            if (value == null) {
+                return;
+            }
+            entry.publishValue(value);
+            lastValue = value;
+        }
+
+        @Override
+        public void close() throws Exception {
+            entry.close();
+        }
+    }
+}
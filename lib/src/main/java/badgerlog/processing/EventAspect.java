@@ -6,6 +6,7 @@ import badgerlog.annotations.Watcher;
 import badgerlog.events.EventMetadata;
 import badgerlog.events.EventRegistry;
 import badgerlog.events.WatcherEvent;
+import badgerlog.processing.data.EventPlan;
 import badgerlog.utilities.Members;
 import badgerlog.utilities.Validation;
 import org.aspectj.lang.JoinPoint;
@@ -14,8 +15,6 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -24,7 +23,13 @@ import java.util.Map;
 @Aspect
 public class EventAspect {
 
-    private final List<Class<?>> blacklistedClasses = new ArrayList<>();
+    private static final Map<Class<?>, Class<?>> primitiveToBoxed = Map.ofEntries(
+            Map.entry(int.class, Integer.class), Map.entry(long.class, Long.class), Map
+                    .entry(double.class, Double.class), Map.entry(boolean.class, Boolean.class), Map
+                            .entry(float.class, Float.class), Map.entry(byte.class, Byte.class), Map
+                                    .entry(short.class, Short.class), Map.entry(char.class, Character.class), Map
+                                            .entry(void.class, void.class)
+    );
 
     @Pointcut("!within(edu.wpi.first..*) && !within(badgerlog..*) && !within(java..*) && !within(javax..*)")
     public void onlyRobotCode() {
@@ -36,33 +41,33 @@ public class EventAspect {
 
     @After("onlyRobotCode() && staticinitialization(*)")
     public void createStaticEvents(JoinPoint joinPoint) {
-        Class<?> clazz = joinPoint.getSignature().getDeclaringType();
-
-        if (blacklistedClasses.contains(clazz)) {
+        EventPlan plan = EventPlan.of(joinPoint.getSignature().getDeclaringType());
+        if (plan.isIgnored()) {
             return;
         }
-        if (!Members.hasAnyOfAnnotation(clazz, Watcher.class) && !Members.hasAnyOfAnnotation(clazz, RawWatcher.class)) {
-            blacklistedClasses.add(clazz);
-        }
 
-        Members.iterateOverAnnotatedMethods(clazz, Watcher.class, true, method -> handleWatcherMethod(method, null));
-        Members.iterateOverAnnotatedMethods(clazz, RawWatcher.class, true, method -> handleRawWatcherMethod(method, null));
+        for (Method method : plan.getStaticWatchers()) {
+            handleWatcherMethod(method, null);
+        }
+        for (Method method : plan.getStaticRawWatchers()) {
+            handleRawWatcherMethod(method, null);
+        }
     }
 
     @After("onlyRobotCode() && newInitialization()")
     public void createInstanceEvents(JoinPoint joinPoint) {
-        Class<?> clazz = joinPoint.getSignature().getDeclaringType();
-        Object workingClass = joinPoint.getThis();
-
-        if (blacklistedClasses.contains(clazz)) {
+        EventPlan plan = EventPlan.of(joinPoint.getSignature().getDeclaringType());
+        if (plan.isIgnored()) {
             return;
         }
-        if (!Members.hasAnyOfAnnotation(clazz, Watcher.class) && !Members.hasAnyOfAnnotation(clazz, RawWatcher.class)) {
-            blacklistedClasses.add(clazz);
-        }
 
-        Members.iterateOverAnnotatedMethods(clazz, Watcher.class, false, method -> handleWatcherMethod(method, workingClass));
-        Members.iterateOverAnnotatedMethods(clazz, RawWatcher.class, false, method -> handleRawWatcherMethod(method, workingClass));
+        Object workingClass = joinPoint.getThis();
+        for (Method method : plan.getInstanceWatchers()) {
+            handleWatcherMethod(method, workingClass);
+        }
+        for (Method method : plan.getInstanceRawWatchers()) {
+            handleRawWatcherMethod(method, workingClass);
+        }
     }
 
     private void handleWatcherMethod(Method method, Object workingClass) {
@@ -73,8 +78,8 @@ public class EventAspect {
         Watcher watcher = method.getAnnotation(Watcher.class);
 
         EventMetadata metadata = new EventMetadata(null, watcher.name(), EventType.ALL);
-        WatcherEvent<?> event = new WatcherEvent<>(getObjectType(watcher.type()), (data) -> Members
-                .invokeMethod(method, workingClass, data));
+        WatcherEvent<?> event = new WatcherEvent<>(getObjectType(watcher.type()), Members
+                .createConsumer(method, workingClass), watcher.queueMode());
         EventRegistry.registerWatcher(event, metadata);
     }
 
@@ -86,20 +91,15 @@ public class EventAspect {
         RawWatcher watcher = method.getAnnotation(RawWatcher.class);
 
         EventMetadata metadata = new EventMetadata(watcher.keys(), null, watcher.eventType());
-        WatcherEvent<?> event = new WatcherEvent<>(getObjectType(watcher.type()), (data) -> Members
-                .invokeMethod(method, workingClass, data));
+        WatcherEvent<?> event = new WatcherEvent<>(getObjectType(watcher.type()), Members
+                .createConsumer(method, workingClass), watcher.queueMode());
         EventRegistry.registerRawWatcher(event, metadata);
     }
 
+    /**
+     * {@return the boxed class of a primitive type, or the type itself if it is not primitive}
+     */
     public static Class<?> getObjectType(Class<?> type) {
-        var boxedToPrimitive = Map.ofEntries(
-                Map.entry(int.class, Integer.class), Map.entry(long.class, Long.class), Map
-                        .entry(double.class, Double.class), Map.entry(boolean.class, Boolean.class), Map
-                                .entry(float.class, Float.class), Map.entry(byte.class, Byte.class), Map
-                                        .entry(short.class, Short.class), Map.entry(char.class, Character.class), Map
-                                                .entry(void.class, void.class)
-        );
-
-        return boxedToPrimitive.getOrDefault(type, type);
+        return primitiveToBoxed.getOrDefault(type, type);
     }
 }
@@ -0,0 +1,45 @@
+package badgerlog.processing;
+
+import badgerlog.processing.EntryAspect.FieldSite;
+import org.aspectj.lang.JoinPoint;
+
+import java.util.Arrays;
+
+/**
+ * Caches resolved {@link FieldSite FieldSites} by the id of their join point, so that finding the site of a field
+ * access is a single array load instead of a hash lookup.
+ *
+ * <p>Join point ids are only unique within the type that contains the join point, so the site found at an id is
+ * checked against the join point, and resolved again through {@link EntryAspect#findFieldSite} if it does not match.
+ * A cache should be held per woven type, or per object when most accesses come from the class of the object. The
+ * array is replaced when it grows, so a thread that reads the array also sees the sites in it.</p>
+ */
+final class FieldSiteCache {
+    private static final FieldSite[] NO_SITES = new FieldSite[0];
+
+    private volatile FieldSite[] sites = NO_SITES;
+
+    /**
+     * {@return the site of a join point, or null if the field does not have an entry yet}
+     *
+     * @param staticPart the static part of the field access join point
+     */
+    FieldSite find(JoinPoint.StaticPart staticPart) {
+        int id = staticPart.getId();
+        FieldSite[] current = sites;
+        if (id < current.length) {
+            FieldSite site = current[id];
+            if (site != null && site.staticPart() == staticPart) {
+                return site;
+            }
+        }
+
+        FieldSite site = EntryAspect.findFieldSite(staticPart);
+        if (site != null) {
+            FieldSite[] updated = Arrays.copyOf(current, Math.max(current.length, id + 1));
+            updated[id] = site;
+            sites = updated;
+        }
+        return site;
+    }
+}
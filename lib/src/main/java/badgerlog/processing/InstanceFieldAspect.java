@@ -0,0 +1,138 @@
+package badgerlog.processing;
+
+import badgerlog.annotations.Entry;
+import badgerlog.annotations.EntryType;
+import badgerlog.processing.EntryAspect.FieldSite;
+import badgerlog.processing.data.ClassData;
+import badgerlog.processing.data.InstanceData;
+import lombok.SneakyThrows;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+
+import java.util.Arrays;
+
+/**
+ * Handles reads and writes of the non-static entry fields woven by {@link EntryAspect}.
+ *
+ * <p>A separate aspect instance is created for each object with entry fields, which holds the {@link InstanceData} of
+ * that object directly, and caches the sites of the field accesses on that object by their join point id. Each field
+ * access then finds its site and its entry with array loads, instead of hashing the join point and the object on every
+ * access. Accesses from other types can share an id with an access from the class of the object, and are resolved again
+ * when they do.</p>
+ */
+@Aspect("pertarget(badgerlog.processing.InstanceFieldAspect.instanceEntryField())")
+public class InstanceFieldAspect {
+    private static final ClassData[] NO_CLASSES = new ClassData[0];
+    private static final InstanceData[] NO_INSTANCES = new InstanceData[0];
+
+    private final FieldSiteCache sites = new FieldSiteCache();
+    private volatile ClassData[] classes = NO_CLASSES;
+    private InstanceData[] instances = NO_INSTANCES;
+
+    @Pointcut("@annotation(entry) && get(!static * *)")
+    public void instanceEntryAccess(Entry entry) {
+    }
+
+    @Pointcut("@annotation(entry) && set(!static * *)")
+    public void instanceEntryUpdate(Entry entry) {
+    }
+
+    @Pointcut("!@annotation(badgerlog.annotations.Entry) && get(!static !final * (@badgerlog.annotations.Entry *).*)")
+    public void entryAccessInEntryClass() {
+    }
+
+    @Pointcut("!@annotation(badgerlog.annotations.Entry) && set(!static !final * (@badgerlog.annotations.Entry *).*)")
+    public void entryUpdateInEntryClass() {
+    }
+
+    @Pointcut("badgerlog.processing.EntryAspect.onlyRobotCode() && (instanceEntryAccess(*) || instanceEntryUpdate(*)"
+            + " || entryAccessInEntryClass() || entryUpdateInEntryClass())")
+    public void instanceEntryField() {
+    }
+
+    @SneakyThrows(Throwable.class)
+    @Around(value = "badgerlog.processing.EntryAspect.onlyRobotCode() && instanceEntryAccess(annotation)",
+            argNames = "pjp, annotation")
+    public Object getFieldEntry(ProceedingJoinPoint pjp, Entry annotation) {
+        EntryType entryType = annotation.value();
+        if (entryType != EntryType.SUBSCRIBER && entryType != EntryType.INTELLIGENT) {
+            return pjp.proceed();
+        }
+
+        FieldSite site = sites.find(pjp.getStaticPart());
+        if (site == null) {
+            return pjp.proceed();
+        }
+
+        Object target = pjp.getTarget();
+        return EntryAspect.readField(pjp, site, findInstanceData(site.data(), target), target);
+    }
+
+    @SneakyThrows(Throwable.class)
+    @Around(value = "badgerlog.processing.EntryAspect.onlyRobotCode() && instanceEntryUpdate(annotation) && args(arg)",
+            argNames = "pjp, arg, annotation")
+    public Object setFieldEntry(ProceedingJoinPoint pjp, Object arg, Entry annotation) {
+        EntryType entryType = annotation.value();
+        if (entryType != EntryType.PUBLISHER && entryType != EntryType.INTELLIGENT) {
+            return pjp.proceed(pjp.getArgs());
+        }
+
+        FieldSite site = sites.find(pjp.getStaticPart());
+        if (site == null) {
+            return pjp.proceed(pjp.getArgs());
+        }
+
+        Object target = pjp.getTarget();
+        return EntryAspect.writeField(pjp, arg, site, findInstanceData(site.data(), target), target);
+    }
+
+    @Around("badgerlog.processing.EntryAspect.onlyRobotCode() && entryAccessInEntryClass()")
+    public Object getClassFieldEntry(ProceedingJoinPoint pjp) {
+        Entry annotation = (Entry) pjp.getSignature().getDeclaringType().getAnnotation(Entry.class);
+        return getFieldEntry(pjp, annotation);
+    }
+
+    @Around("badgerlog.processing.EntryAspect.onlyRobotCode() && entryUpdateInEntryClass() && args(arg)")
+    public Object setClassFieldEntry(ProceedingJoinPoint pjp, Object arg) {
+        Entry annotation = (Entry) pjp.getSignature().getDeclaringType().getAnnotation(Entry.class);
+        return setFieldEntry(pjp, arg, annotation);
+    }
+
+    /**
+     * Finds the entries of the target for one of its classes. An object only has more than one class with entries when
+     * it extends another class with entries, so the classes are searched in order rather than hashed.
+     *
+     * <p>The entries are only kept once they exist, as fields are accessed inside the constructor before the entries
+     * are created. {@code classes} is written last, so a thread that sees a class also sees its entries.</p>
+     *
+     * @param data the data of the class declaring the field
+     * @param target the object the field is accessed on
+     *
+     * @return the entries of the target for the class, or null if they were not created yet
+     */
+    private InstanceData findInstanceData(ClassData data, Object target) {
+        ClassData[] currentClasses = classes;
+        for (int i = 0; i < currentClasses.length; i++) {
+            if (currentClasses[i] == data) {
+                return instances[i];
+            }
+        }
+
+        InstanceData instanceData = data.instanceEntries().get(target);
+        if (instanceData == null) {
+            return null;
+        }
+
+        int length = currentClasses.length;
+        InstanceData[] newInstances = Arrays.copyOf(instances, length + 1);
+        newInstances[length] = instanceData;
+        ClassData[] newClasses = Arrays.copyOf(currentClasses, length + 1);
+        newClasses[length] = data;
+
+        instances = newInstances;
+        classes = newClasses;
+        return instanceData;
+    }
+}
@@ -0,0 +1,62 @@
+package badgerlog.processing;
+
+import badgerlog.annotations.Entry;
+import badgerlog.annotations.EntryType;
+import badgerlog.processing.EntryAspect.FieldSite;
+import lombok.SneakyThrows;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+
+/**
+ * Handles reads and writes of the static entry fields woven by {@link EntryAspect}.
+ *
+ * <p>A separate aspect instance is created for each woven type, which caches the sites of the field accesses in that
+ * type by their join point id. Join point ids are unique within a type, so each access finds its site with a single
+ * array load.</p>
+ */
+@Aspect("pertypewithin(!(badgerlog..* || edu.wpi.first..* || java..* || javax..*))")
+public class StaticFieldAspect {
+    private final FieldSiteCache sites = new FieldSiteCache();
+
+    @Pointcut("@annotation(entry) && get(static * *)")
+    public void staticEntryAccess(Entry entry) {
+    }
+
+    @Pointcut("@annotation(entry) && set(static * *)")
+    public void staticEntryUpdate(Entry entry) {
+    }
+
+    @SneakyThrows(Throwable.class)
+    @Around(value = "badgerlog.processing.EntryAspect.onlyRobotCode() && staticEntryAccess(annotation)",
+            argNames = "pjp, annotation")
+    public Object getFieldEntry(ProceedingJoinPoint pjp, Entry annotation) {
+        EntryType entryType = annotation.value();
+        if (entryType != EntryType.SUBSCRIBER && entryType != EntryType.INTELLIGENT) {
+            return pjp.proceed();
+        }
+
+        FieldSite site = sites.find(pjp.getStaticPart());
+        if (site == null) {
+            return pjp.proceed();
+        }
+        return EntryAspect.readField(pjp, site, site.staticData(), null);
+    }
+
+    @SneakyThrows(Throwable.class)
+    @Around(value = "badgerlog.processing.EntryAspect.onlyRobotCode() && staticEntryUpdate(annotation) && args(arg)",
+            argNames = "pjp, arg, annotation")
+    public Object setFieldEntry(ProceedingJoinPoint pjp, Object arg, Entry annotation) {
+        EntryType entryType = annotation.value();
+        if (entryType != EntryType.PUBLISHER && entryType != EntryType.INTELLIGENT) {
+            return pjp.proceed(pjp.getArgs());
+        }
+
+        FieldSite site = sites.find(pjp.getStaticPart());
+        if (site == null) {
+            return pjp.proceed(pjp.getArgs());
+        }
+        return EntryAspect.writeField(pjp, arg, site, site.staticData(), null);
+    }
+}
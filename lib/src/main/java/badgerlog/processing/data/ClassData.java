@@ -1,8 +1,13 @@
 package badgerlog.processing.data;
 
+import badgerlog.utilities.FieldAccessor;
+import badgerlog.utilities.Members;
+import badgerlog.utilities.MethodAccessor;
 import lombok.Getter;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -12,6 +17,9 @@ import java.util.Objects;
 public final class ClassData {
     private final Map<String, Field> fieldMap;
     private final Map<Object, InstanceData> instanceEntries;
+    private final Map<String, FieldAccessor> fieldAccessors = new HashMap<>();
+    private final Map<Method, MethodAccessor> methodAccessors = new HashMap<>();
+    private final Map<String, Integer> slots = new HashMap<>();
 
     @Getter
     private int instanceCount = 0;
@@ -27,12 +35,51 @@ public final class ClassData {
     }
 
     /**
-     * Adds a field to the map of fields in the class.
+     * Adds a field to the map of fields in the class, resolving its accessor and assigning it a slot if it has not been
+     * already.
      *
      * @param field the field to add to the map
+     *
+     * @return the cached accessor for the field
      */
-    public void addField(Field field) {
+    public FieldAccessor addField(Field field) {
         fieldMap.put(field.getName(), field);
+        slots.computeIfAbsent(field.getName(), name -> slots.size());
+        return fieldAccessors.computeIfAbsent(field.getName(), name -> Members.createFieldAccessor(field));
+    }
+
+    /**
+     * Gets the cached accessor for a field previously added with {@link #addField(Field)}.
+     *
+     * @param name the name of the field
+     *
+     * @return the accessor for the field, or null if the field was never added
+     */
+    public FieldAccessor getFieldAccessor(String name) {
+        return fieldAccessors.get(name);
+    }
+
+    /**
+     * Gets the slot of a field, which is its index into every {@link InstanceData} of the class.
+     *
+     * @param name the name of the field
+     *
+     * @return the slot of the field, or -1 if the field was never added
+     */
+    public int getSlot(String name) {
+        Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Gets the cached accessor for a method in the class, resolving it on first use.
+     *
+     * @param method the method to get the accessor for
+     *
+     * @return the cached accessor for the method
+     */
+    public MethodAccessor getMethodAccessor(Method method) {
+        return methodAccessors.computeIfAbsent(method, Members::createMethodAccessor);
     }
 
     public Map<String, Field> fieldMap() {
@@ -0,0 +1,122 @@
+package badgerlog.processing.data;
+
+import badgerlog.annotations.Entry;
+import badgerlog.annotations.NoEntry;
+import badgerlog.annotations.configuration.Configuration;
+import badgerlog.utilities.Members;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link Entry} members of a class, found once per class, so that creating an instance does not scan the class
+ * with reflection again.
+ *
+ * <p>Plans are cached with a {@link ClassValue}, which is thread safe and does not keep classes from being unloaded.
+ * A class without any {@link Entry} annotations is ignored, and costs a single lookup for each instance.</p>
+ */
+@Getter
+public final class EntryPlan {
+    private static final ClassValue<EntryPlan> plans = new ClassValue<>() {
+        @Override
+        protected EntryPlan computeValue(Class<?> type) {
+            return new EntryPlan(type);
+        }
+    };
+
+    /**
+     * {@return whether the class has no {@link Entry} annotations, and can be skipped}
+     */
+    private final boolean ignored;
+    /**
+     * {@return the static fields annotated with {@link Entry}}
+     */
+    private final Field[] staticFields;
+    /**
+     * {@return the non-static fields annotated with {@link Entry}}
+     */
+    private final Field[] instanceFields;
+    /**
+     * {@return the static methods annotated with {@link Entry}}
+     */
+    private final Method[] staticMethods;
+    /**
+     * {@return the non-static methods annotated with {@link Entry}}
+     */
+    private final Method[] instanceMethods;
+    /**
+     * {@return the public fields that get entries because the class is annotated with {@link Entry}}
+     */
+    private final Field[] generatedFields;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Member, Configuration> prototypes = new HashMap<>();
+
+    private EntryPlan(Class<?> clazz) {
+        Field[] fields = Members.getFieldsWithAnnotation(clazz, Entry.class);
+        Method[] methods = Members.getMethodsWithAnnotation(clazz, Entry.class);
+        boolean hasClassAnnotation = clazz.isAnnotationPresent(Entry.class);
+
+        this.ignored = fields.length == 0 && methods.length == 0 && !hasClassAnnotation;
+        this.staticFields = Arrays.stream(fields).filter(Members::isMemberStatic).toArray(Field[]::new);
+        this.instanceFields = Arrays.stream(fields).filter(Members::isMemberNonStatic).toArray(Field[]::new);
+        this.staticMethods = Arrays.stream(methods).filter(Members::isMemberStatic).toArray(Method[]::new);
+        this.instanceMethods = Arrays.stream(methods).filter(Members::isMemberNonStatic).toArray(Method[]::new);
+        this.generatedFields = hasClassAnnotation
+                ? Arrays.stream(clazz.getFields()).filter(EntryPlan::isValidForClassGeneration).toArray(Field[]::new)
+                : new Field[0];
+
+        for (Field field : fields) {
+            addPrototype(field);
+        }
+        for (Method method : methods) {
+            addPrototype(method);
+        }
+        for (Field field : generatedFields) {
+            addPrototype(field);
+        }
+    }
+
+    /**
+     * {@return the plan for a class, creating it on first use}
+     *
+     * @param clazz the class to get the plan for
+     */
+    public static EntryPlan of(Class<?> clazz) {
+        return plans.get(clazz);
+    }
+
+    /**
+     * Creates the configuration of a member from its annotations and the annotations of its class. The annotations are
+     * only read once, and each call returns a new copy that can be changed freely.
+     *
+     * @param member the member of the plan to create the configuration for
+     * @param <T> the {@code Member} and {@link AnnotatedElement} type
+     *
+     * @return a new configuration from the annotation values
+     */
+    public <T extends Member & AnnotatedElement> Configuration createConfiguration(T member) {
+        Configuration prototype = prototypes.get(member);
+        if (prototype == null) {
+            return Configuration.createConfigurationFromAnnotations(member);
+        }
+        return prototype.copy();
+    }
+
+    private <T extends Member & AnnotatedElement> void addPrototype(T member) {
+        prototypes.put(member, Configuration.createConfigurationFromAnnotations(member));
+    }
+
+    private static boolean isValidForClassGeneration(Field field) {
+        return Members.isMemberNonStatic(field) && !Modifier.isFinal(field.getModifiers()) && !field
+                .isAnnotationPresent(NoEntry.class) && !field.isAnnotationPresent(Entry.class);
+    }
+}
@@ -0,0 +1,68 @@
+package badgerlog.processing.data;
+
+import badgerlog.annotations.RawWatcher;
+import badgerlog.annotations.Watcher;
+import badgerlog.utilities.Members;
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * The {@link Watcher} and {@link RawWatcher} methods of a class, found once per class, so that creating an instance
+ * does not scan the class with reflection again.
+ *
+ * <p>Plans are cached with a {@link ClassValue}, which is thread safe and does not keep classes from being unloaded.
+ * A class without any watcher annotations is ignored, and costs a single lookup for each instance.</p>
+ */
+@Getter
+public final class EventPlan {
+    private static final ClassValue<EventPlan> plans = new ClassValue<>() {
+        @Override
+        protected EventPlan computeValue(Class<?> type) {
+            return new EventPlan(type);
+        }
+    };
+
+    /**
+     * {@return whether the class has no watcher annotations, and can be skipped}
+     */
+    private final boolean ignored;
+    /**
+     * {@return the static methods annotated with {@link Watcher}}
+     */
+    private final Method[] staticWatchers;
+    /**
+     * {@return the non-static methods annotated with {@link Watcher}}
+     */
+    private final Method[] instanceWatchers;
+    /**
+     * {@return the static methods annotated with {@link RawWatcher}}
+     */
+    private final Method[] staticRawWatchers;
+    /**
+     * {@return the non-static methods annotated with {@link RawWatcher}}
+     */
+    private final Method[] instanceRawWatchers;
+
+    private EventPlan(Class<?> clazz) {
+        Method[] watchers = Members.getMethodsWithAnnotation(clazz, Watcher.class);
+        Method[] rawWatchers = Members.getMethodsWithAnnotation(clazz, RawWatcher.class);
+
+        this.ignored = watchers.length == 0 && rawWatchers.length == 0;
+        this.staticWatchers = Arrays.stream(watchers).filter(Members::isMemberStatic).toArray(Method[]::new);
+        this.instanceWatchers = Arrays.stream(watchers).filter(Members::isMemberNonStatic).toArray(Method[]::new);
+        this.staticRawWatchers = Arrays.stream(rawWatchers).filter(Members::isMemberStatic).toArray(Method[]::new);
+        this.instanceRawWatchers = Arrays.stream(rawWatchers).filter(Members::isMemberNonStatic)
+                .toArray(Method[]::new);
+    }
+
+    /**
+     * {@return the plan for a class, creating it on first use}
+     *
+     * @param clazz the class to get the plan for
+     */
+    public static EventPlan of(Class<?> clazz) {
+        return plans.get(clazz);
+    }
+}
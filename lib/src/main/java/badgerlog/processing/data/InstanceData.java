@@ -2,32 +2,47 @@ package badgerlog.processing.data;
 
 import badgerlog.networktables.NTEntry;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Holds the data for an instance's entries.
  *
- * @param entries the map of field names to NetworkTable entries
+ * <p>Entries are stored both by field name and in an array indexed by the field's slot in its {@link ClassData}, so
+ * that woven field accesses can find their entry without hashing.</p>
  */
-public record InstanceData(Map<String, NTEntry<?>> entries) {
+public final class InstanceData {
+    private final Map<String, NTEntry<?>> entries;
+    private NTEntry<?>[] slots = new NTEntry<?>[0];
+    private Object[] lastValues = new Object[0];
 
     /**
      * Creates a new InstanceData with an initial set of entries to use.
      *
      * @param entries the map of field names to NetworkTable entries
      */
-    public InstanceData {
-
+    public InstanceData(Map<String, NTEntry<?>> entries) {
+        this.entries = entries;
     }
 
     /**
      * Adds an entry to the map of field names to NetworkTable entries.
      *
      * @param name the name of the field
+     * @param slot the slot of the field, from {@link ClassData#getSlot(String)}
      * @param entry the entry on NetworkTables
      */
-    public void addEntry(String name, NTEntry<?> entry) {
+    public void addEntry(String name, int slot, NTEntry<?> entry) {
         entries.put(name, entry);
+        if (slot >= slots.length) {
+            slots = Arrays.copyOf(slots, slot + 1);
+        }
+        slots[slot] = entry;
+        if (slot >= lastValues.length) {
+            lastValues = Arrays.copyOf(lastValues, slot + 1);
+        }
+        lastValues[slot] = null;
     }
 
     /**
@@ -41,6 +56,44 @@ public record InstanceData(Map<String, NTEntry<?>> entries) {
         return entries.get(name);
     }
 
+    /**
+     * Gets an entry by the slot of its field.
+     *
+     * @param slot the slot of the field, from {@link ClassData#getSlot(String)}
+     *
+     * @return the entry in the slot, or null if there is none
+     */
+    public NTEntry<?> getEntry(int slot) {
+        NTEntry<?>[] current = slots;
+        return slot < current.length ? current[slot] : null;
+    }
+
+    /**
+     * Gets the last value read through the entry in a slot, which is used to skip writing the same value back to the
+     * field again.
+     *
+     * @param slot the slot of the field, from {@link ClassData#getSlot(String)}
+     *
+     * @return the last value read, or null if none was read yet
+     */
+    public Object getLastValue(int slot) {
+        Object[] current = lastValues;
+        return slot < current.length ? current[slot] : null;
+    }
+
+    /**
+     * Sets the last value read through the entry in a slot.
+     *
+     * @param slot the slot of the field, from {@link ClassData#getSlot(String)}
+     * @param value the value that was read
+     */
+    public void setLastValue(int slot, Object value) {
+        Object[] current = lastValues;
+        if (slot < current.length) {
+            current[slot] = value;
+        }
+    }
+
     /**
      * Checks the map of field names to NetworkTable entries for the specified field's name
      *
@@ -51,4 +104,30 @@ public record InstanceData(Map<String, NTEntry<?>> entries) {
     public boolean hasEntry(String name) {
         return entries.containsKey(name);
     }
+
+    public Map<String, NTEntry<?>> entries() {
+        return entries;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj == null || obj.getClass() != this.getClass()) {
+            return false;
+        }
+        var that = (InstanceData) obj;
+        return Objects.equals(this.entries, that.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entries);
+    }
+
+    @Override
+    public String toString() {
+        return "InstanceData[" + "entries=" + entries + ']';
+    }
 }
@@ -11,17 +11,38 @@ import java.util.Map;
 
 /**
  * A modification of a {@link HashMap} that, when a key's value is changed, closes the previous entry on NetworkTables.
+ *
+ * <p>Also keeps every value that implements {@link NTUpdatable} in an {@link UpdateScheduler}, so that updating
+ * entries does not need to iterate or filter the map.</p>
  */
 public final class CheckedNetworkTablesMap extends HashMap<String, NT> {
 
+    private final UpdateScheduler scheduler = new UpdateScheduler();
+
     /**
-     * Closes the previous NetworkTables entry if it is going to be overwritten.
+     * {@code schedule} defaults to {@link UpdateSchedule#DEFAULT}
      *
-     * @see Map#put(Object, Object)
+     * @see #put(String, NT, UpdateSchedule)
      */
-    @SneakyThrows
     @Override
     public NT put(String key, NT value) {
+        return put(key, value, UpdateSchedule.DEFAULT);
+    }
+
+    /**
+     * Closes the previous NetworkTables entry if it is going to be overwritten, and schedules the value if it
+     * implements {@link NTUpdatable}.
+     *
+     * @param key the key on NetworkTables
+     * @param value the value to put into the map
+     * @param schedule how often, and in what order, the value is updated
+     *
+     * @return the previous value associated with the key, or null if there was none
+     *
+     * @see Map#put(Object, Object)
+     */
+    @SneakyThrows
+    public NT put(String key, NT value, UpdateSchedule schedule) {
         if (containsKey(key)) {
             NT oldValue = this.get(key);
             if (oldValue instanceof AutoCloseable closeable) {
@@ -40,6 +61,11 @@ public final class CheckedNetworkTablesMap extends HashMap<String, NT> {
                 closeable.close();
                 ErrorLogger.customError("NetworkTable entry closed from adding another entry.\n" + extraInfo);
             }
+            removeUpdater(oldValue);
+        }
+
+        if (value instanceof NTUpdatable updatable) {
+            scheduler.add(updatable, schedule);
         }
 
         return super.put(key, value);
@@ -58,10 +84,68 @@ public final class CheckedNetworkTablesMap extends HashMap<String, NT> {
             if (oldValue instanceof AutoCloseable closeable) {
                 closeable.close();
             }
+            removeUpdater(oldValue);
         }
         return super.remove(key);
     }
 
+    @Override
+    public void clear() {
+        scheduler.clear();
+        super.clear();
+    }
+
+    /**
+     * Calls {@link NTUpdatable#update()} on every updater in the map that is due on this call, following each
+     * updater's {@link UpdateSchedule}.
+     *
+     * <p>This does not allocate or hash, and should be preferred over {@link #getUpdaters()} in periodic code.</p>
+     */
+    public void updateAll() {
+        scheduler.runTick();
+    }
+
+    /**
+     * Starts an update that is split across calls to {@link #runNextUpdate()}.
+     *
+     * @see UpdateScheduler#beginTick()
+     */
+    public void beginUpdate() {
+        scheduler.beginTick();
+    }
+
+    /**
+     * Runs the oldest pending updater from {@link #beginUpdate()}.
+     *
+     * @return whether an updater was run, or false if there were no pending updaters
+     *
+     * @see UpdateScheduler#runNext()
+     */
+    public boolean runNextUpdate() {
+        return scheduler.runNext();
+    }
+
+    /**
+     * {@return the number of updaters that are queued but have not been run yet}
+     */
+    public int getPendingUpdaterCount() {
+        return scheduler.getPendingCount();
+    }
+
+    /**
+     * {@return the total number of times an updater was still pending when a new update began}
+     */
+    public long getDeferredUpdaterCount() {
+        return scheduler.getDeferredCount();
+    }
+
+    /**
+     * {@return the number of values in the map that implement {@link NTUpdatable}}
+     */
+    public int getUpdaterCount() {
+        return scheduler.size();
+    }
+
     /**
      * Finds all the values in the map that also implement {@link NTUpdatable}.
      *
@@ -90,4 +174,10 @@ public final class CheckedNetworkTablesMap extends HashMap<String, NT> {
         }
         return null;
     }
+
+    private void removeUpdater(NT value) {
+        if (value instanceof NTUpdatable updatable) {
+            scheduler.remove(updatable);
+        }
+    }
 }
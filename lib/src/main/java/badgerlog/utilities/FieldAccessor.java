@@ -0,0 +1,222 @@
+package badgerlog.utilities;
+
+import lombok.SneakyThrows;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reads and writes a single field through {@link MethodHandle MethodHandles} resolved once, ignoring access modifiers.
+ *
+ * <p>Static and instance fields are accessed the same way, the instance is ignored for static fields. Primitive fields
+ * also have unboxed accessors, which only work for a field of exactly that type, and read or write the field without
+ * boxing.</p>
+ *
+ * <p>The handles are kept in instance fields, as there is one accessor for each field, and accessors are found through
+ * the site of a field access rather than a static final field, so the JIT could not treat them as constants in any
+ * form. Unlike {@link MethodAccessor}, they are not turned into generated functions, as {@link LambdaMetafactory} only
+ * accepts method handles and not field handles.</p>
+ */
+public final class FieldAccessor {
+    private final Field field;
+    private final Class<?> type;
+
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle primitiveGetter;
+    private final MethodHandle primitiveSetter;
+
+    /**
+     * Creates a new FieldAccessor, resolving the handles for the field.
+     *
+     * @param field the field to access
+     *
+     * @see Members#createFieldAccessor(Field)
+     */
+    @SneakyThrows(IllegalAccessException.class)
+    FieldAccessor(Field field) {
+        this.field = field;
+        this.type = field.getType();
+        field.setAccessible(true);
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+
+        MethodHandle rawGetter = lookup.unreflectGetter(field);
+        MethodHandle rawSetter = isStatic && Modifier.isFinal(field.getModifiers()) ? null : lookup
+                .unreflectSetter(field);
+        if (isStatic) {
+            rawGetter = MethodHandles.dropArguments(rawGetter, 0, Object.class);
+            rawSetter = rawSetter == null ? null : MethodHandles.dropArguments(rawSetter, 0, Object.class);
+        }
+
+        this.getter = rawGetter.asType(MethodType.methodType(Object.class, Object.class));
+        this.setter = rawSetter == null ? null : rawSetter
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+        if (type.isPrimitive()) {
+            this.primitiveGetter = rawGetter.asType(MethodType.methodType(type, Object.class));
+            this.primitiveSetter = rawSetter == null ? null : rawSetter
+                    .asType(MethodType.methodType(void.class, Object.class, type));
+        } else {
+            this.primitiveGetter = null;
+            this.primitiveSetter = null;
+        }
+    }
+
+    /**
+     * {@return the field being accessed}
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * {@return the type of the field}
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * {@return if the field has a primitive type, and can never be null}
+     */
+    public boolean isPrimitive() {
+        return type.isPrimitive();
+    }
+
+    /**
+     * Gets the value currently on the field.
+     *
+     * @param instance the instance to access the field with
+     *
+     * @return the value on the field in the specific instance
+     */
+    @SneakyThrows(Throwable.class)
+    public Object get(Object instance) {
+        return (Object) getter.invokeExact(instance);
+    }
+
+    /**
+     * Sets the field's value to the specified value.
+     *
+     * @param instance the instance to set the field with
+     * @param value the value to set on the field
+     */
+    @SneakyThrows(Throwable.class)
+    public void set(Object instance, Object value) {
+        requireSetter();
+        setter.invokeExact(instance, value);
+    }
+
+    /**
+     * Identical to {@link #get(Object)} except without boxing, for a {@code double} field.
+     */
+    @SneakyThrows(Throwable.class)
+    public double getDouble(Object instance) {
+        requireType(double.class);
+        return (double) primitiveGetter.invokeExact(instance);
+    }
+
+    /**
+     * Identical to {@link #set(Object, Object)} except without boxing, for a {@code double} field.
+     */
+    @SneakyThrows(Throwable.class)
+    public void setDouble(Object instance, double value) {
+        requireType(double.class);
+        requireSetter();
+        primitiveSetter.invokeExact(instance, value);
+    }
+
+    /**
+     * Identical to {@link #get(Object)} except without boxing, for a {@code float} field.
+     */
+    @SneakyThrows(Throwable.class)
+    public float getFloat(Object instance) {
+        requireType(float.class);
+        return (float) primitiveGetter.invokeExact(instance);
+    }
+
+    /**
+     * Identical to {@link #set(Object, Object)} except without boxing, for a {@code float} field.
+     */
+    @SneakyThrows(Throwable.class)
+    public void setFloat(Object instance, float value) {
+        requireType(float.class);
+        requireSetter();
+        primitiveSetter.invokeExact(instance, value);
+    }
+
+    /**
+     * Identical to {@link #get(Object)} except without boxing, for a {@code long} field.
+     */
+    @SneakyThrows(Throwable.class)
+    public long getLong(Object instance) {
+        requireType(long.class);
+        return (long) primitiveGetter.invokeExact(instance);
+    }
+
+    /**
+     * Identical to {@link #set(Object, Object)} except without boxing, for a {@code long} field.
+     */
+    @SneakyThrows(Throwable.class)
+    public void setLong(Object instance, long value) {
+        requireType(long.class);
+        requireSetter();
+        primitiveSetter.invokeExact(instance, value);
+    }
+
+    /**
+     * Identical to {@link #get(Object)} except without boxing, for an {@code int} field.
+     */
+    @SneakyThrows(Throwable.class)
+    public int getInt(Object instance) {
+        requireType(int.class);
+        return (int) primitiveGetter.invokeExact(instance);
+    }
+
+    /**
+     * Identical to {@link #set(Object, Object)} except without boxing, for an {@code int} field.
+     */
+    @SneakyThrows(Throwable.class)
+    public void setInt(Object instance, int value) {
+        requireType(int.class);
+        requireSetter();
+        primitiveSetter.invokeExact(instance, value);
+    }
+
+    /**
+     * Identical to {@link #get(Object)} except without boxing, for a {@code boolean} field.
+     */
+    @SneakyThrows(Throwable.class)
+    public boolean getBoolean(Object instance) {
+        requireType(boolean.class);
+        return (boolean) primitiveGetter.invokeExact(instance);
+    }
+
+    /**
+     * Identical to {@link #set(Object, Object)} except without boxing, for a {@code boolean} field.
+     */
+    @SneakyThrows(Throwable.class)
+    public void setBoolean(Object instance, boolean value) {
+        requireType(boolean.class);
+        requireSetter();
+        primitiveSetter.invokeExact(instance, value);
+    }
+
+    private void requireType(Class<?> expectedType) {
+        if (type != expectedType) {
+            throw new IllegalStateException("Field " + field.getName() + " is not of type " + expectedType);
+        }
+    }
+
+    private void requireSetter() {
+        if (setter == null) {
+            throw new IllegalStateException("Field " + field.getName() + " is static and final");
+        }
+    }
+}
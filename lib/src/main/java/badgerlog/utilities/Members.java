@@ -3,6 +3,12 @@ package badgerlog.utilities;
 import lombok.SneakyThrows;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
@@ -100,6 +106,73 @@ public class Members {
         field.set(instance, value);
     }
 
+    /**
+     * Resolves a field into an accessor that reads and writes it without core reflection. The accessor should be
+     * created once and cached, rather than created on each access.
+     *
+     * @param field the field to access
+     *
+     * @return the accessor for the field
+     */
+    public static FieldAccessor createFieldAccessor(Field field) {
+        return new FieldAccessor(field);
+    }
+
+    /**
+     * Resolves a method with zero or one parameters into an accessor that invokes it without core reflection. The
+     * accessor should be created once and cached, rather than created on each invocation.
+     *
+     * @param method the method to invoke
+     *
+     * @return the accessor for the method
+     */
+    public static MethodAccessor createMethodAccessor(Method method) {
+        return new MethodAccessor(method);
+    }
+
+    /**
+     * Binds a method with one parameter to a {@link Consumer}, so that accepting a value is a direct call of the
+     * method.
+     *
+     * <p>The consumer is generated with {@link LambdaMetafactory}, using a lookup with private access to the declaring
+     * class. If that is not possible, such as when the class is in another module, a {@link MethodAccessor} is used
+     * instead. The consumer should be created once and cached, rather than created on each invocation.</p>
+     *
+     * @param method the method to bind, which must have exactly one parameter
+     * @param instance the instance of the class for instance methods, ignored for static methods
+     * @param <T> the type of the value accepted by the consumer
+     *
+     * @return a consumer that invokes the method with the accepted value
+     */
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(Throwable.class)
+    public static <T> Consumer<T> createConsumer(Method method, Object instance) {
+        if (method.getParameterCount() != 1) {
+            throw new IllegalArgumentException("Method " + method.getName() + " does not have exactly one parameter");
+        }
+
+        boolean isStatic = isMemberStatic(method);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles
+                    .lookup());
+            MethodHandle target = lookup.unreflect(method);
+            MethodType factoryType = isStatic ? MethodType.methodType(Consumer.class) : MethodType
+                    .methodType(Consumer.class, method.getDeclaringClass());
+
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept", factoryType, MethodType
+                    .methodType(void.class, Object.class), target, MethodType
+                            .methodType(void.class, method.getParameterTypes()[0]).wrap().changeReturnType(void.class));
+
+            return (Consumer<T>) (isStatic ? callSite.getTarget().invoke() : callSite.getTarget()
+                    .invoke(instance));
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            ErrorLogger.customError("Could not generate a consumer for method " + method
+                    .getName() + ", invoking it through a MethodHandle instead: " + e.getMessage());
+            MethodAccessor accessor = createMethodAccessor(method);
+            return value -> accessor.invoke(instance, value);
+        }
+    }
+
     /**
      * Gets a list of declared methods within a class that are annotated by {@code annotationClass}
      *
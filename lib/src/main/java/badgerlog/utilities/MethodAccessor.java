@@ -0,0 +1,226 @@
+package badgerlog.utilities;
+
+import lombok.SneakyThrows;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Invokes a method with zero or one parameters through a function generated once, ignoring access modifiers.
+ *
+ * <p>Static and instance methods are invoked the same way, the instance is ignored for static methods.</p>
+ *
+ * <p>The function is generated with {@link LambdaMetafactory} in the same way as
+ * {@link Members#createConsumer(Method, Object)}, so invoking the method is a direct call that the JIT can inline. If
+ * that is not possible, such as when the class is in another module, the method is invoked through a
+ * {@link MethodHandle} instead.</p>
+ */
+public final class MethodAccessor {
+    private final Method method;
+    private final Function<Object, Object> noArgumentInvoker;
+    private final BiFunction<Object, Object, Object> argumentInvoker;
+
+    /**
+     * Creates a new MethodAccessor, generating the function for the method.
+     *
+     * @param method the method to invoke, which must have zero or one parameters
+     *
+     * @see Members#createMethodAccessor(Method)
+     */
+    MethodAccessor(Method method) {
+        if (method.getParameterCount() > 1) {
+            throw new IllegalArgumentException("Method " + method.getName() + " has more than one parameter");
+        }
+
+        this.method = method;
+        method.setAccessible(true);
+
+        Function<Object, Object> noArgument = null;
+        BiFunction<Object, Object, Object> argument = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles
+                    .lookup());
+            MethodHandle target = lookup.unreflect(method);
+            if (method.getParameterCount() == 0) {
+                noArgument = createNoArgumentInvoker(lookup, target);
+            } else {
+                argument = createArgumentInvoker(lookup, target);
+            }
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            ErrorLogger.customError("Could not generate an accessor for method " + method
+                    .getName() + ", invoking it through a MethodHandle instead: " + e.getMessage());
+            MethodHandle handle = createHandle(method);
+            if (method.getParameterCount() == 0) {
+                noArgument = instance -> invokeHandle(handle, instance);
+            } else {
+                argument = (instance, value) -> invokeHandle(handle, instance, value);
+            }
+        }
+
+        this.noArgumentInvoker = noArgument;
+        this.argumentInvoker = argument;
+    }
+
+    /**
+     * {@return the method being invoked}
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invokes a method without parameters.
+     *
+     * @param instance the instance of the class for instance methods
+     *
+     * @return the return value of the method, or {@code null} for void methods
+     */
+    public Object invoke(Object instance) {
+        if (noArgumentInvoker == null) {
+            throw new IllegalStateException("Method " + method.getName() + " has a parameter");
+        }
+        return noArgumentInvoker.apply(instance);
+    }
+
+    /**
+     * Invokes a method with one parameter.
+     *
+     * @param instance the instance of the class for instance methods
+     * @param argument the argument to be passed to the method
+     *
+     * @return the return value of the method, or {@code null} for void methods
+     */
+    public Object invoke(Object instance, Object argument) {
+        if (argumentInvoker == null) {
+            throw new IllegalStateException("Method " + method.getName() + " does not have a parameter");
+        }
+        return argumentInvoker.apply(instance, argument);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> createNoArgumentInvoker(MethodHandles.Lookup lookup, MethodHandle target)
+            throws LambdaConversionException {
+        boolean isVoid = method.getReturnType() == void.class;
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            if (isVoid) {
+                Runnable runnable = (Runnable) generate(lookup, target, Runnable.class, "run", MethodType
+                        .methodType(void.class), null);
+                return instance -> {
+                    runnable.run();
+                    return null;
+                };
+            }
+            Supplier<Object> supplier = (Supplier<Object>) generate(lookup, target, Supplier.class, "get", MethodType
+                    .methodType(Object.class), null);
+            return instance -> supplier.get();
+        }
+
+        if (isVoid) {
+            Consumer<Object> consumer = (Consumer<Object>) generate(lookup, target, Consumer.class, "accept", MethodType
+                    .methodType(void.class, Object.class), method.getDeclaringClass());
+            return instance -> {
+                consumer.accept(instance);
+                return null;
+            };
+        }
+        return (Function<Object, Object>) generate(lookup, target, Function.class, "apply", MethodType
+                .methodType(Object.class, Object.class), method.getDeclaringClass());
+    }
+
+    @SuppressWarnings("unchecked")
+    private BiFunction<Object, Object, Object> createArgumentInvoker(MethodHandles.Lookup lookup, MethodHandle target)
+            throws LambdaConversionException {
+        boolean isVoid = method.getReturnType() == void.class;
+        Class<?> parameterType = MethodType.methodType(void.class, method.getParameterTypes()[0]).wrap()
+                .parameterType(0);
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            if (isVoid) {
+                Consumer<Object> consumer = (Consumer<Object>) generate(lookup, target, Consumer.class, "accept",
+                        MethodType.methodType(void.class, Object.class), null, parameterType);
+                return (instance, value) -> {
+                    consumer.accept(value);
+                    return null;
+                };
+            }
+            Function<Object, Object> function = (Function<Object, Object>) generate(lookup, target, Function.class,
+                    "apply", MethodType.methodType(Object.class, Object.class), null, parameterType);
+            return (instance, value) -> function.apply(value);
+        }
+
+        if (isVoid) {
+            BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) generate(lookup, target,
+                    BiConsumer.class, "accept", MethodType.methodType(void.class, Object.class, Object.class), method
+                            .getDeclaringClass(), parameterType);
+            return (instance, value) -> {
+                consumer.accept(instance, value);
+                return null;
+            };
+        }
+        return (BiFunction<Object, Object, Object>) generate(lookup, target, BiFunction.class, "apply", MethodType
+                .methodType(Object.class, Object.class, Object.class), method.getDeclaringClass(), parameterType);
+    }
+
+    /**
+     * Generates an implementation of a functional interface that calls the target method.
+     *
+     * @param lookup a lookup with private access to the declaring class of the method
+     * @param target the handle of the method
+     * @param interfaceType the functional interface to implement
+     * @param name the name of the single abstract method of the interface
+     * @param erasedType the type of the abstract method after erasure
+     * @param receiverType the declaring class for instance methods, or null for static methods
+     * @param parameterTypes the boxed parameter types of the method
+     *
+     * @return the generated implementation
+     *
+     * @throws LambdaConversionException if the method cannot be called from the interface
+     */
+    @SneakyThrows(Throwable.class)
+    private Object generate(MethodHandles.Lookup lookup, MethodHandle target, Class<?> interfaceType, String name,
+            MethodType erasedType, Class<?> receiverType, Class<?>... parameterTypes) throws LambdaConversionException {
+        Class<?> returnType = erasedType.returnType() == void.class ? void.class : MethodType
+                .methodType(method.getReturnType()).wrap().returnType();
+        MethodType instantiatedType = MethodType.methodType(returnType, parameterTypes);
+        if (receiverType != null) {
+            instantiatedType = instantiatedType.insertParameterTypes(0, receiverType);
+        }
+
+        return LambdaMetafactory.metafactory(lookup, name, MethodType
+                .methodType(interfaceType), erasedType, target, instantiatedType).getTarget().invoke();
+    }
+
+    @SneakyThrows(IllegalAccessException.class)
+    private static MethodHandle createHandle(Method method) {
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        MethodType genericType = method.getParameterCount() == 0 ? MethodType
+                .methodType(Object.class, Object.class) : MethodType
+                        .methodType(Object.class, Object.class, Object.class);
+        return handle.asType(genericType);
+    }
+
+    @SneakyThrows(Throwable.class)
+    private static Object invokeHandle(MethodHandle handle, Object instance) {
+        return (Object) handle.invokeExact(instance);
+    }
+
+    @SneakyThrows(Throwable.class)
+    private static Object invokeHandle(MethodHandle handle, Object instance, Object argument) {
+        return (Object) handle.invokeExact(instance, argument);
+    }
+}
@@ -0,0 +1,31 @@
+package badgerlog.utilities;
+
+import badgerlog.annotations.UpdatePriority;
+
+/**
+ * Describes how often an updater is run by {@code BadgerLog.update()}, and in what order.
+ *
+ * @param period the number of calls to {@code BadgerLog.update()} between each run, at least 1
+ * @param priority the order the updater runs in, relative to other updaters run on the same call
+ */
+public record UpdateSchedule(int period, UpdatePriority priority) {
+    /**
+     * Runs on every call, with {@link UpdatePriority#NORMAL} priority
+     */
+    public static final UpdateSchedule DEFAULT = new UpdateSchedule(1, UpdatePriority.NORMAL);
+
+    /**
+     * Creates a new UpdateSchedule, checking that the period is valid.
+     *
+     * @param period the number of calls to {@code BadgerLog.update()} between each run, at least 1
+     * @param priority the order the updater runs in, relative to other updaters run on the same call
+     */
+    public UpdateSchedule {
+        if (period < 1) {
+            throw new IllegalArgumentException("Update period must be at least 1, was " + period);
+        }
+        if (priority == null) {
+            throw new IllegalArgumentException("Update priority must not be null");
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package badgerlog.utilities;
+
+import badgerlog.annotations.UpdatePriority;
+import badgerlog.networktables.NTUpdatable;
+
+import java.util.Arrays;
+
+/**
+ * Runs updaters according to their {@link UpdateSchedule}, one tick per call to {@link #runTick()}.
+ *
+ * <p>Updaters are grouped by priority and period. Each group splits its updaters into one phase per loop cycle of the
+ * period, and each new updater is added to the phase with the fewest updaters, so that updaters with long periods are
+ * spread evenly instead of all running on the same tick. Within a phase, updaters run in the order they were
+ * added.</p>
+ *
+ * <p>A tick can also be split across several calls, by starting it with {@link #beginTick()} and then running updaters
+ * one at a time with {@link #runNext()}. {@link UpdatePriority#HIGH} updaters always run when the tick begins, while
+ * the rest are queued as pending. Pending updaters are run in order, so an updater that did not run before the next
+ * tick is run before any updater from the next tick, and is not queued twice.</p>
+ */
+public final class UpdateScheduler {
+    private PeriodGroup[] groups = new PeriodGroup[0];
+    private long tick = 0;
+    private int size = 0;
+
+    private ScheduledUpdater[] pending = new ScheduledUpdater[16];
+    private int pendingHead = 0;
+    private int pendingSize = 0;
+    private int livePendingCount = 0;
+    private long deferredCount = 0;
+
+    /**
+     * Adds an updater with the specified schedule.
+     *
+     * @param updatable the updater to add
+     * @param schedule how often, and in what order, the updater runs
+     */
+    public void add(NTUpdatable updatable, UpdateSchedule schedule) {
+        findOrCreateGroup(schedule).add(new ScheduledUpdater(updatable));
+        size++;
+    }
+
+    /**
+     * Removes an updater, comparing by identity.
+     *
+     * @param updatable the updater to remove
+     *
+     * @return whether the updater was present
+     */
+    public boolean remove(NTUpdatable updatable) {
+        for (PeriodGroup group : groups) {
+            ScheduledUpdater removed = group.remove(updatable);
+            if (removed != null) {
+                removed.removed = true;
+                if (removed.pending) {
+                    livePendingCount--;
+                }
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes all updaters.
+     */
+    public void clear() {
+        groups = new PeriodGroup[0];
+        size = 0;
+
+        Arrays.fill(pending, null);
+        pendingHead = 0;
+        pendingSize = 0;
+        livePendingCount = 0;
+    }
+
+    /**
+     * Runs every updater that is due on the current tick, in order of priority, along with any updaters still pending
+     * from previous ticks, then advances to the next tick.
+     */
+    public void runTick() {
+        beginTick();
+        while (runNext()) {
+            // Runs every pending updater
+        }
+    }
+
+    /**
+     * Starts the current tick, then advances to the next tick. Due {@link UpdatePriority#HIGH} updaters are run
+     * immediately, and all other due updaters are queued after any updaters still pending from previous ticks.
+     */
+    public void beginTick() {
+        deferredCount += livePendingCount;
+
+        long currentTick = tick++;
+        for (PeriodGroup group : groups) {
+            UpdaterList phase = group.phases[(int) (currentTick % group.period)];
+            if (group.priority == UpdatePriority.HIGH) {
+                phase.updateAll();
+            } else {
+                for (int i = 0; i < phase.count; i++) {
+                    enqueue(phase.updaters[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the oldest pending updater.
+     *
+     * @return whether an updater was run, or false if there were no pending updaters
+     */
+    public boolean runNext() {
+        while (pendingSize > 0) {
+            ScheduledUpdater next = pending[pendingHead];
+            pending[pendingHead] = null;
+            pendingHead = (pendingHead + 1) % pending.length;
+            pendingSize--;
+
+            if (next.removed) {
+                continue;
+            }
+
+            next.pending = false;
+            livePendingCount--;
+            next.updatable.update();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@return the number of updaters that are queued but have not been run yet}
+     */
+    public int getPendingCount() {
+        return livePendingCount;
+    }
+
+    /**
+     * {@return the total number of times an updater was still pending when a new tick began}
+     */
+    public long getDeferredCount() {
+        return deferredCount;
+    }
+
+    /**
+     * {@return the number of updaters in the scheduler}
+     */
+    public int size() {
+        return size;
+    }
+
+    private void enqueue(ScheduledUpdater updater) {
+        if (updater.pending) {
+            return;
+        }
+
+        if (pendingSize == pending.length) {
+            ScheduledUpdater[] newPending = new ScheduledUpdater[pending.length * 2];
+            for (int i = 0; i < pendingSize; i++) {
+                newPending[i] = pending[(pendingHead + i) % pending.length];
+            }
+            pending = newPending;
+            pendingHead = 0;
+        }
+
+        pending[(pendingHead + pendingSize) % pending.length] = updater;
+        pendingSize++;
+        livePendingCount++;
+        updater.pending = true;
+    }
+
+    private PeriodGroup findOrCreateGroup(UpdateSchedule schedule) {
+        int index = 0;
+        for (; index < groups.length; index++) {
+            PeriodGroup group = groups[index];
+            int comparison = group.priority.compareTo(schedule.priority());
+            if (comparison == 0) {
+                comparison = Integer.compare(group.period, schedule.period());
+            }
+            if (comparison == 0) {
+                return group;
+            }
+            if (comparison > 0) {
+                break;
+            }
+        }
+
+        PeriodGroup group = new PeriodGroup(schedule);
+        PeriodGroup[] newGroups = new PeriodGroup[groups.length + 1];
+        System.arraycopy(groups, 0, newGroups, 0, index);
+        System.arraycopy(groups, index, newGroups, index + 1, groups.length - index);
+        newGroups[index] = group;
+        groups = newGroups;
+        return group;
+    }
+
+    /**
+     * All the updaters with the same priority and period, split by phase.
+     */
+    private static final class PeriodGroup {
+        private final UpdatePriority priority;
+        private final int period;
+        private final UpdaterList[] phases;
+
+        private PeriodGroup(UpdateSchedule schedule) {
+            this.priority = schedule.priority();
+            this.period = schedule.period();
+            this.phases = new UpdaterList[period];
+            for (int i = 0; i < period; i++) {
+                phases[i] = new UpdaterList();
+            }
+        }
+
+        private void add(ScheduledUpdater updater) {
+            UpdaterList leastLoaded = phases[0];
+            for (UpdaterList phase : phases) {
+                if (phase.count < leastLoaded.count) {
+                    leastLoaded = phase;
+                }
+            }
+            leastLoaded.add(updater);
+        }
+
+        private ScheduledUpdater remove(NTUpdatable updatable) {
+            for (UpdaterList phase : phases) {
+                ScheduledUpdater removed = phase.remove(updatable);
+                if (removed != null) {
+                    return removed;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * An updater along with its state in the pending queue.
+     */
+    private static final class ScheduledUpdater {
+        private final NTUpdatable updatable;
+        private boolean pending = false;
+        private boolean removed = false;
+
+        private ScheduledUpdater(NTUpdatable updatable) {
+            this.updatable = updatable;
+        }
+    }
+
+    /**
+     * A dense, insertion-ordered array of updaters.
+     */
+    private static final class UpdaterList {
+        private ScheduledUpdater[] updaters = new ScheduledUpdater[8];
+        private int count = 0;
+
+        private void add(ScheduledUpdater updater) {
+            if (count == updaters.length) {
+                updaters = Arrays.copyOf(updaters, updaters.length * 2);
+            }
+            updaters[count++] = updater;
+        }
+
+        private ScheduledUpdater remove(NTUpdatable updatable) {
+            for (int i = 0; i < count; i++) {
+                ScheduledUpdater updater = updaters[i];
+                if (updater.updatable == updatable) {
+                    System.arraycopy(updaters, i + 1, updaters, i, count - i - 1);
+                    updaters[--count] = null;
+                    return updater;
+                }
+            }
+            return null;
+        }
+
+        private void updateAll() {
+            ScheduledUpdater[] current = updaters;
+            int currentCount = count;
+            for (int i = 0; i < currentCount; i++) {
+                current[i].updatable.update();
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package badgerlog.datalog;
+
+import edu.wpi.first.util.datalog.DataLogReader;
+import edu.wpi.first.util.datalog.DataLogRecord;
+import edu.wpi.first.util.struct.Struct;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes logs with a {@link LogWriter} and reads them back with the WPILib {@link DataLogReader}.
+ */
+class LogWriterTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void scalarArrayAndStringValuesRoundTrip() throws IOException {
+        LogWriter writer = startWriter(new DataLogOptions().withDirectory(directory));
+        int doubleId = writer.startEntry("NT:/BadgerLog/double", "double", 10);
+        int floatId = writer.startEntry("NT:/BadgerLog/float", "float", 10);
+        int longId = writer.startEntry("NT:/BadgerLog/long", "int64", 10);
+        int booleanId = writer.startEntry("NT:/BadgerLog/boolean", "boolean", 10);
+        int stringId = writer.startEntry("NT:/BadgerLog/string", "string", 10);
+        int rawId = writer.startEntry("NT:/BadgerLog/raw", "raw", 10);
+        int doubleArrayId = writer.startEntry("NT:/BadgerLog/doubleArray", "double[]", 10);
+        int floatArrayId = writer.startEntry("NT:/BadgerLog/floatArray", "float[]", 10);
+        int longArrayId = writer.startEntry("NT:/BadgerLog/longArray", "int64[]", 10);
+        int booleanArrayId = writer.startEntry("NT:/BadgerLog/booleanArray", "boolean[]", 10);
+        int stringArrayId = writer.startEntry("NT:/BadgerLog/stringArray", "string[]", 10);
+
+        writer.appendDouble(doubleId, 100, 1.5);
+        writer.appendFloat(floatId, 101, 2.25f);
+        writer.appendLong(longId, 102, -3_000_000_000L);
+        writer.appendBoolean(booleanId, 103, true);
+        writer.appendString(stringId, 104, "badger é");
+        writer.appendRaw(rawId, 105, new byte[] {1, 2, 3});
+        writer.appendDoubleArray(doubleArrayId, 106, new double[] {1, -2, 3.5});
+        writer.appendFloatArray(floatArrayId, 107, new float[] {0.5f, 4});
+        writer.appendLongArray(longArrayId, 108, new long[] {Long.MIN_VALUE, 0, 7});
+        writer.appendBooleanArray(booleanArrayId, 109, new boolean[] {true, false, true});
+        writer.appendStringArray(stringArrayId, 110, new String[] {"a", "", "long string"});
+        writer.stop();
+
+        List<Path> files = logFiles();
+        assertEquals(1, files.size());
+        LogContents contents = read(files.get(0));
+
+        contents.assertStarted(doubleId, "NT:/BadgerLog/double", "double");
+        contents.assertStarted(floatId, "NT:/BadgerLog/float", "float");
+        contents.assertStarted(longId, "NT:/BadgerLog/long", "int64");
+        contents.assertStarted(booleanId, "NT:/BadgerLog/boolean", "boolean");
+        contents.assertStarted(stringId, "NT:/BadgerLog/string", "string");
+        contents.assertStarted(rawId, "NT:/BadgerLog/raw", "raw");
+        contents.assertStarted(doubleArrayId, "NT:/BadgerLog/doubleArray", "double[]");
+        contents.assertStarted(floatArrayId, "NT:/BadgerLog/floatArray", "float[]");
+        contents.assertStarted(longArrayId, "NT:/BadgerLog/longArray", "int64[]");
+        contents.assertStarted(booleanArrayId, "NT:/BadgerLog/booleanArray", "boolean[]");
+        contents.assertStarted(stringArrayId, "NT:/BadgerLog/stringArray", "string[]");
+
+        assertEquals(1.5, contents.single(doubleId, 100).getDouble());
+        assertEquals(2.25f, contents.single(floatId, 101).getFloat());
+        assertEquals(-3_000_000_000L, contents.single(longId, 102).getInteger());
+        assertTrue(contents.single(booleanId, 103).getBoolean());
+        assertEquals("badger é", contents.single(stringId, 104).getString());
+        assertArrayEquals(new byte[] {1, 2, 3}, contents.single(rawId, 105).getRaw());
+        assertArrayEquals(new double[] {1, -2, 3.5}, contents.single(doubleArrayId, 106).getDoubleArray());
+        assertArrayEquals(new float[] {0.5f, 4}, contents.single(floatArrayId, 107).getFloatArray());
+        assertArrayEquals(new long[] {Long.MIN_VALUE, 0, 7}, contents.single(longArrayId, 108).getIntegerArray());
+        assertArrayEquals(new boolean[] {true, false, true}, contents.single(booleanArrayId, 109)
+                .getBooleanArray());
+        assertArrayEquals(new String[] {"a", "", "long string"}, contents.single(stringArrayId, 110)
+                .getStringArray());
+    }
+
+    @Test
+    void structValuesAreLoggedWithTheirSchema() throws IOException {
+        LogWriter writer = startWriter(new DataLogOptions().withDirectory(directory));
+        writer.logSchema(Point.struct, 20);
+        int pointId = writer.startEntry("NT:/BadgerLog/point", Point.struct.getTypeString(), 20);
+        writer.appendStruct(pointId, 200, Point.struct, new Point(3, -4));
+        writer.stop();
+
+        LogContents contents = read(logFiles().get(0));
+
+        int schemaId = contents.idOf("/.schema/struct:Point");
+        contents.assertStarted(schemaId, "/.schema/struct:Point", "structschema");
+        assertEquals(Point.struct.getSchema(), new String(contents.single(schemaId, 20).getRaw(),
+                StandardCharsets.UTF_8));
+
+        contents.assertStarted(pointId, "NT:/BadgerLog/point", "struct:Point");
+        ByteBuffer payload = ByteBuffer.wrap(contents.single(pointId, 200).getRaw()).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(new Point(3, -4), Point.struct.unpack(payload));
+    }
+
+    @Test
+    void entryDirectionIsWrittenInTheMetadata() throws IOException {
+        LogWriter writer = startWriter(new DataLogOptions().withDirectory(directory));
+        int outputId = writer.startEntry("NT:/BadgerLog/value", "double", DataLogSink.OUTPUT_METADATA, 30);
+        int inputId = writer.startEntry("NT:/BadgerLog/value", "double", DataLogSink.INPUT_METADATA, 30);
+        writer.appendDouble(outputId, 300, 1);
+        writer.appendDouble(inputId, 301, 2);
+        writer.stop();
+
+        LogContents contents = read(logFiles().get(0));
+
+        contents.assertStarted(outputId, "NT:/BadgerLog/value", "double");
+        contents.assertStarted(inputId, "NT:/BadgerLog/value", "double");
+        assertFalse(DataLogSink.isInputMetadata(contents.starts.get(outputId).metadata), "output entry marked as input");
+        assertTrue(DataLogSink.isInputMetadata(contents.starts.get(inputId).metadata), "input entry not marked as input");
+        assertEquals(1.0, contents.single(outputId, 300).getDouble());
+        assertEquals(2.0, contents.single(inputId, 301).getDouble());
+    }
+
+    @Test
+    void rotatedFilesCanEachBeReadOnTheirOwn() throws IOException {
+        LogWriter writer = startWriter(new DataLogOptions().withDirectory(directory)
+                .withBufferBytes(1024)
+                .withMaxFileBytes(2048)
+                .withMaxTotalBytes(1024 * 1024)
+                .withFlushPeriodMillis(1));
+        writer.logSchema(Point.struct, 1);
+        int doubleId = writer.startEntry("NT:/BadgerLog/double", "double", 1);
+        int pointId = writer.startEntry("NT:/BadgerLog/point", Point.struct.getTypeString(), 1);
+
+        int count = 2000;
+        for (int i = 0; i < count; i++) {
+            writer.appendDouble(doubleId, 1000 + i, i);
+            writer.appendStruct(pointId, 1000 + i, Point.struct, new Point(i, -i));
+            if (i % 20 == 0) {
+                waitForFlush();
+            }
+        }
+        writer.stop();
+
+        List<Path> files = logFiles();
+        assertTrue(files.size() > 1, "expected the log to rotate, found " + files.size() + " file");
+
+        List<Long> doubleTimestamps = new ArrayList<>();
+        for (Path file : files) {
+            LogContents contents = read(file);
+            contents.assertStarted(doubleId, "NT:/BadgerLog/double", "double");
+            contents.assertStarted(pointId, "NT:/BadgerLog/point", "struct:Point");
+            int schemaId = contents.idOf("/.schema/struct:Point");
+            assertEquals(Point.struct.getSchema(), new String(contents.values(schemaId).get(0).getRaw(),
+                    StandardCharsets.UTF_8));
+
+            for (DataLogRecord record : contents.values(doubleId)) {
+                assertEquals(record.getTimestamp() - 1000, record.getDouble());
+                doubleTimestamps.add(record.getTimestamp());
+            }
+            for (DataLogRecord record : contents.values(pointId)) {
+                long i = record.getTimestamp() - 1000;
+                ByteBuffer payload = ByteBuffer.wrap(record.getRaw()).order(ByteOrder.LITTLE_ENDIAN);
+                assertEquals(new Point(i, -i), Point.struct.unpack(payload));
+            }
+        }
+
+        assertEquals(0, writer.getDroppedRecordCount());
+        assertEquals(count, doubleTimestamps.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(1000L + i, (long) doubleTimestamps.get(i));
+        }
+    }
+
+    private static LogWriter startWriter(DataLogOptions options) {
+        options.validate();
+        LogWriter writer = new LogWriter(options);
+        writer.start();
+        return writer;
+    }
+
+    /**
+     * Gives the background thread time to write the full buffer, so that records are not dropped.
+     */
+    private static void waitForFlush() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Path> logFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".wpilog"))
+                    .sorted(Comparator.comparingInt(LogWriterTest::fileIndex))
+                    .toList();
+        }
+    }
+
+    private static int fileIndex(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(name.lastIndexOf('_') + 1, name.length() - ".wpilog".length()));
+    }
+
+    private static LogContents read(Path file) throws IOException {
+        DataLogReader reader = new DataLogReader(file.toString());
+        assertTrue(reader.isValid(), "not a valid WPILOG file: " + file);
+
+        LogContents contents = new LogContents();
+        for (DataLogRecord record : reader) {
+            if (record.isStart()) {
+                DataLogRecord.StartRecordData start = record.getStartData();
+                assertFalse(contents.starts.containsKey(start.entry), "entry " + start.entry + " started twice in "
+                        + file);
+                contents.starts.put(start.entry, start);
+            } else if (!record.isControl()) {
+                assertTrue(contents.starts.containsKey(record.getEntry()), "record for entry " + record
+                        .getEntry() + " before its start record in " + file);
+                contents.records.computeIfAbsent(record.getEntry(), id -> new ArrayList<>()).add(record);
+            }
+        }
+        return contents;
+    }
+
+    private static final class LogContents {
+        private final Map<Integer, DataLogRecord.StartRecordData> starts = new HashMap<>();
+        private final Map<Integer, List<DataLogRecord>> records = new HashMap<>();
+
+        void assertStarted(int id, String name, String type) {
+            DataLogRecord.StartRecordData start = starts.get(id);
+            assertTrue(start != null, "entry " + name + " was not started");
+            assertEquals(name, start.name);
+            assertEquals(type, start.type);
+        }
+
+        int idOf(String name) {
+            return starts.values()
+                    .stream()
+                    .filter(start -> start.name.equals(name))
+                    .mapToInt(start -> start.entry)
+                    .findFirst()
+                    .orElseThrow();
+        }
+
+        List<DataLogRecord> values(int id) {
+            return records.getOrDefault(id, List.of());
+        }
+
+        DataLogRecord single(int id, long timestamp) {
+            List<DataLogRecord> values = values(id);
+            assertEquals(1, values.size());
+            assertEquals(timestamp, values.get(0).getTimestamp());
+            return values.get(0);
+        }
+    }
+
+    private record Point(double x, double y) {
+        private static final Struct<Point> struct = new Struct<>() {
+            @Override
+            public Class<Point> getTypeClass() {
+                return Point.class;
+            }
+
+            @Override
+            public String getTypeName() {
+                return "Point";
+            }
+
+            @Override
+            public int getSize() {
+                return 16;
+            }
+
+            @Override
+            public String getSchema() {
+                return "double x;double y";
+            }
+
+            @Override
+            public Point unpack(ByteBuffer buffer) {
+                return new Point(buffer.getDouble(), buffer.getDouble());
+            }
+
+            @Override
+            public void pack(ByteBuffer buffer, Point value) {
+                buffer.putDouble(value.x);
+                buffer.putDouble(value.y);
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package badgerlog.networktables;
+
+import edu.wpi.first.util.struct.Struct;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the bytes that {@link StructValueEntry} publishes and logs for a struct value.
+ */
+class StructValueEntryTest {
+
+    @Test
+    void packedValuesAreLittleEndian() {
+        ByteBuffer packed = StructValueEntry.pack(StructValueEntry.createPackBuffer(Sample.struct), Sample.struct,
+                new Sample(1.5, -7));
+
+        ByteBuffer expected = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+        expected.putDouble(1.5);
+        expected.putInt(-7);
+        assertArrayEquals(expected.array(), packed.array());
+        assertEquals(12, packed.remaining());
+
+        ByteBuffer decoded = ByteBuffer.wrap(packed.array()).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(new Sample(1.5, -7), Sample.struct.unpack(decoded));
+    }
+
+    @Test
+    void packingAgainReusesTheBuffer() {
+        ByteBuffer buffer = StructValueEntry.createPackBuffer(Sample.struct);
+        StructValueEntry.pack(buffer, Sample.struct, new Sample(1, 2));
+        ByteBuffer packed = StructValueEntry.pack(buffer, Sample.struct, new Sample(-3.25, 40));
+
+        ByteBuffer decoded = ByteBuffer.wrap(packed.array()).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(new Sample(-3.25, 40), Sample.struct.unpack(decoded));
+    }
+
+    private record Sample(double value, int count) {
+        private static final Struct<Sample> struct = new Struct<>() {
+            @Override
+            public Class<Sample> getTypeClass() {
+                return Sample.class;
+            }
+
+            @Override
+            public String getTypeName() {
+                return "Sample";
+            }
+
+            @Override
+            public int getSize() {
+                return 12;
+            }
+
+            @Override
+            public String getSchema() {
+                return "double value;int32 count";
+            }
+
+            @Override
+            public Sample unpack(ByteBuffer buffer) {
+                return new Sample(buffer.getDouble(), buffer.getInt());
+            }
+
+            @Override
+            public void pack(ByteBuffer buffer, Sample value) {
+                buffer.putDouble(value.value);
+                buffer.putInt(value.count);
+            }
+        };
+    }
+}
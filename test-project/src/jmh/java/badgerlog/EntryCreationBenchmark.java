@@ -1,5 +1,6 @@
 package badgerlog;
 
+import badgerlog.fixtures.BoundSingleAnnotation;
 import frc.robot.testing.performance.NoAnnotation;
 import frc.robot.testing.performance.SingleAnnotation;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -32,6 +33,11 @@ public class EntryCreationBenchmark {
         new SingleAnnotation();
     }
 
+    @Benchmark
+    public void boundIntegerCreation(){
+        new BoundSingleAnnotation();
+    }
+
     @Benchmark
     public void defaultObjectCreation(){
         new Object();
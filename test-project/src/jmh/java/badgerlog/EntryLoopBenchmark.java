@@ -0,0 +1,72 @@
+package badgerlog;
+
+import badgerlog.fixtures.BoundPublisher;
+import badgerlog.fixtures.BoundSubscriber;
+import frc.robot.testing.performance.WovenPublisher;
+import frc.robot.testing.performance.WovenSubscriber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-loop publish and subscribe cost of woven entries against binder generated entries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EntryLoopBenchmark {
+
+    @State(Scope.Thread)
+    public static class WovenPublisherState {
+        public final WovenPublisher publisher = new WovenPublisher();
+        public double next = 0;
+    }
+
+    @State(Scope.Thread)
+    public static class WovenSubscriberState {
+        public final WovenSubscriber subscriber = new WovenSubscriber();
+    }
+
+    @State(Scope.Thread)
+    public static class BoundPublisherState {
+        public final BoundPublisher publisher = new BoundPublisher();
+        public double next = 0;
+    }
+
+    @State(Scope.Thread)
+    public static class BoundSubscriberState {
+        public final BoundSubscriber subscriber = new BoundSubscriber();
+    }
+
+    @Benchmark
+    public void wovenPublish(WovenPublisherState state) {
+        state.publisher.set(state.next++);
+    }
+
+    @Benchmark
+    public void boundPublish(BoundPublisherState state) {
+        state.publisher.set(state.next++);
+        BadgerLog.update();
+    }
+
+    @Benchmark
+    public double wovenSubscribe(WovenSubscriberState state) {
+        return state.subscriber.get();
+    }
+
+    @Benchmark
+    public double boundSubscribe(BoundSubscriberState state) {
+        BadgerLog.update();
+        return state.subscriber.get();
+    }
+}
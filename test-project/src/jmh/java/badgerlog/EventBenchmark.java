@@ -0,0 +1,89 @@
+package badgerlog;
+
+import badgerlog.annotations.EventType;
+import badgerlog.annotations.QueueMode;
+import badgerlog.events.EventMetadata;
+import badgerlog.events.EventRegistry;
+import badgerlog.events.WatcherEvent;
+import edu.wpi.first.networktables.DoublePublisher;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many value changes per second can be routed through the {@link EventRegistry} to a raw watcher. Run
+ * with the gc profiler to see the allocation rate of queueing and handling events.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EventBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int changesPerUpdate;
+
+    @Param({"ALL", "LATEST"})
+    public QueueMode queueMode;
+
+    private DoublePublisher publisher;
+    private double next = 0;
+    private double sum = 0;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class EventCounters {
+        public long handledEvents;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            handledEvents = 0;
+        }
+    }
+
+    private EventCounters counters;
+
+    @Setup(Level.Trial)
+    public void registerWatcher() {
+        String key = "/EventBenchmark/" + queueMode + changesPerUpdate;
+        publisher = NetworkTableInstance.getDefault().getDoubleTopic(key).publish();
+        EventRegistry.setEventCapacity(Math.max(1024, changesPerUpdate));
+
+        WatcherEvent<Double> watcher = new WatcherEvent<>(Double.class, data -> {
+            sum += data.getDouble();
+            counters.handledEvents++;
+        }, queueMode);
+        EventRegistry.registerRawWatcher(watcher, new EventMetadata(new String[] {key}, null, EventType.ALL));
+    }
+
+    @TearDown(Level.Trial)
+    public void closePublisher() {
+        publisher.close();
+    }
+
+    @Benchmark
+    public double update(EventCounters counters) {
+        this.counters = counters;
+        for (int i = 0; i < changesPerUpdate; i++) {
+            publisher.set(next++);
+        }
+        EventRegistry.updateEvents();
+        return sum;
+    }
+}
@@ -0,0 +1,166 @@
+package badgerlog;
+
+import badgerlog.annotations.configuration.Configuration;
+import badgerlog.conversion.DoubleMapping;
+import badgerlog.conversion.Mapping;
+import badgerlog.conversion.Mappings;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Pose3d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.geometry.Rotation3d;
+import edu.wpi.first.math.geometry.Translation2d;
+import edu.wpi.first.math.geometry.Translation3d;
+import edu.wpi.first.math.geometry.Twist2d;
+import edu.wpi.first.math.geometry.Twist3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bound geometry mappings. Run with the gc profiler to see the allocation rate of each conversion.
+ *
+ * <p>The decode benchmarks change the first component of the array on every call, so that the cached value is never
+ * reused and the full decode is measured.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GeometryMappingBenchmark {
+
+    private DoubleMapping<Rotation2d> rotation2dMapping;
+    private Mapping<Rotation3d, Object> rotation3dMapping;
+    private Mapping<Translation2d, Object> translation2dMapping;
+    private Mapping<Translation3d, Object> translation3dMapping;
+    private Mapping<Twist2d, Object> twist2dMapping;
+    private Mapping<Twist3d, Object> twist3dMapping;
+    private Mapping<Pose2d, Object> pose2dMapping;
+    private Mapping<Pose3d, Object> pose3dMapping;
+
+    private final Configuration config = new Configuration();
+
+    private final Rotation2d rotation2d = new Rotation2d(0.5);
+    private final Rotation3d rotation3d = new Rotation3d(0.1, 0.2, 0.3);
+    private final Translation2d translation2d = new Translation2d(1.0, 2.0);
+    private final Translation3d translation3d = new Translation3d(1.0, 2.0, 3.0);
+    private final Twist2d twist2d = new Twist2d(1.0, 2.0, 0.5);
+    private final Twist3d twist3d = new Twist3d(1.0, 2.0, 3.0, 0.1, 0.2, 0.3);
+    private final Pose2d pose2d = new Pose2d(1.0, 2.0, new Rotation2d(0.5));
+    private final Pose3d pose3d = new Pose3d(new Translation3d(1.0, 2.0, 3.0), new Rotation3d(0.1, 0.2, 0.3));
+
+    private final double[] threeComponents = {1.0, 2.0, 0.5};
+    private final double[] twoComponents = {1.0, 2.0};
+    private final double[] sixComponents = {1.0, 2.0, 3.0, 0.1, 0.2, 0.3};
+
+    private double counter = 0;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void bindMappings() {
+        rotation2dMapping = (DoubleMapping<Rotation2d>) (Mapping) Mappings.findMapping(Rotation2d.class).bind(config);
+        rotation3dMapping = Mappings.findMapping(Rotation3d.class).bind(config);
+        translation2dMapping = Mappings.findMapping(Translation2d.class).bind(config);
+        translation3dMapping = Mappings.findMapping(Translation3d.class).bind(config);
+        twist2dMapping = Mappings.findMapping(Twist2d.class).bind(config);
+        twist3dMapping = Mappings.findMapping(Twist3d.class).bind(config);
+        pose2dMapping = Mappings.findMapping(Pose2d.class).bind(config);
+        pose3dMapping = Mappings.findMapping(Pose3d.class).bind(config);
+    }
+
+    private double[] changed(double[] components) {
+        components[0] = counter++;
+        return components;
+    }
+
+    @Benchmark
+    public double rotation2dEncode() {
+        return rotation2dMapping.toDouble(rotation2d, config);
+    }
+
+    @Benchmark
+    public Rotation2d rotation2dDecode() {
+        return rotation2dMapping.fromDouble(counter++, config);
+    }
+
+    @Benchmark
+    public Object rotation3dEncode() {
+        return rotation3dMapping.toNT(rotation3d, config);
+    }
+
+    @Benchmark
+    public Rotation3d rotation3dDecode() {
+        return rotation3dMapping.toStart(changed(threeComponents), config);
+    }
+
+    @Benchmark
+    public Object translation2dEncode() {
+        return translation2dMapping.toNT(translation2d, config);
+    }
+
+    @Benchmark
+    public Translation2d translation2dDecode() {
+        return translation2dMapping.toStart(changed(twoComponents), config);
+    }
+
+    @Benchmark
+    public Object translation3dEncode() {
+        return translation3dMapping.toNT(translation3d, config);
+    }
+
+    @Benchmark
+    public Translation3d translation3dDecode() {
+        return translation3dMapping.toStart(changed(threeComponents), config);
+    }
+
+    @Benchmark
+    public Object twist2dEncode() {
+        return twist2dMapping.toNT(twist2d, config);
+    }
+
+    @Benchmark
+    public Twist2d twist2dDecode() {
+        return twist2dMapping.toStart(changed(threeComponents), config);
+    }
+
+    @Benchmark
+    public Object twist3dEncode() {
+        return twist3dMapping.toNT(twist3d, config);
+    }
+
+    @Benchmark
+    public Twist3d twist3dDecode() {
+        return twist3dMapping.toStart(changed(sixComponents), config);
+    }
+
+    @Benchmark
+    public Object pose2dEncode() {
+        return pose2dMapping.toNT(pose2d, config);
+    }
+
+    @Benchmark
+    public Pose2d pose2dDecode() {
+        return pose2dMapping.toStart(changed(threeComponents), config);
+    }
+
+    @Benchmark
+    public Object pose3dEncode() {
+        return pose3dMapping.toNT(pose3d, config);
+    }
+
+    @Benchmark
+    public Pose3d pose3dDecode() {
+        return pose3dMapping.toStart(changed(sixComponents), config);
+    }
+}
@@ -0,0 +1,58 @@
+package badgerlog;
+
+import badgerlog.networktables.NTUpdatable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UpdateBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int updaterCount;
+
+    private long updateCount = 0;
+
+    @Setup(Level.Trial)
+    public void registerUpdaters() {
+        for (int i = 0; i < updaterCount; i++) {
+            BadgerLog.addNetworkTableEntry("UpdateBenchmark/Updater" + i, (NTUpdatable) () -> updateCount++);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void removeUpdaters() {
+        for (int i = 0; i < updaterCount; i++) {
+            BadgerLog.removeNetworkTableEntry("UpdateBenchmark/Updater" + i);
+        }
+    }
+
+    @Benchmark
+    public long update() {
+        BadgerLog.update();
+        return updateCount;
+    }
+
+    @Benchmark
+    public long budgetedUpdate() {
+        BadgerLog.update(TimeUnit.MILLISECONDS.toNanos(2));
+        return updateCount;
+    }
+}
@@ -0,0 +1,17 @@
+package badgerlog.fixtures;
+
+import badgerlog.annotations.Entry;
+import badgerlog.annotations.EntryType;
+
+public class BoundPublisher {
+    @Entry(EntryType.PUBLISHER)
+    public double value = 0;
+
+    public BoundPublisher() {
+        BoundPublisher_EntryBinder.register(this);
+    }
+
+    public void set(double value) {
+        this.value = value;
+    }
+}
@@ -0,0 +1,13 @@
+package badgerlog.fixtures;
+
+import badgerlog.annotations.Entry;
+import badgerlog.annotations.EntryType;
+
+public class BoundSingleAnnotation {
+    @Entry(EntryType.PUBLISHER)
+    public Integer integer = 0;
+
+    public BoundSingleAnnotation() {
+        BoundSingleAnnotation_EntryBinder.register(this);
+    }
+}
@@ -0,0 +1,17 @@
+package badgerlog.fixtures;
+
+import badgerlog.annotations.Entry;
+import badgerlog.annotations.EntryType;
+
+public class BoundSubscriber {
+    @Entry(EntryType.SUBSCRIBER)
+    public double value = 0;
+
+    public BoundSubscriber() {
+        BoundSubscriber_EntryBinder.register(this);
+    }
+
+    public double get() {
+        return value;
+    }
+}
@@ -0,0 +1,13 @@
+package frc.robot.testing.performance;
+
+import badgerlog.annotations.Entry;
+import badgerlog.annotations.EntryType;
+
+public class WovenPublisher {
+    @Entry(EntryType.PUBLISHER)
+    public double value = 0;
+
+    public void set(double value) {
+        this.value = value;
+    }
+}
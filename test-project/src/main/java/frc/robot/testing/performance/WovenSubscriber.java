@@ -0,0 +1,13 @@
+package frc.robot.testing.performance;
+
+import badgerlog.annotations.Entry;
+import badgerlog.annotations.EntryType;
+
+public class WovenSubscriber {
+    @Entry(EntryType.SUBSCRIBER)
+    public double value = 0;
+
+    public double get() {
+        return value;
+    }
+}